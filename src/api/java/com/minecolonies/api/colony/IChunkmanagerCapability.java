@@ -47,6 +47,15 @@ public interface IChunkmanagerCapability
      */
     Map<ChunkPos, ChunkLoadStorage> getAllChunkStorages();
 
+    /**
+     * Get the amount of chunks with a pending storage.
+     * @return the amount.
+     */
+    default int getChunkStorageCount()
+    {
+        return getAllChunkStorages().size();
+    }
+
     /**
      * The implementation of the colonyTagCapability.
      */
@@ -3,6 +3,7 @@ package com.minecolonies.api.colony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingWorker;
 import com.minecolonies.api.colony.interactionhandling.IInteractionResponseHandler;
+import com.minecolonies.api.colony.interactionhandling.InteractionValidatorTrigger;
 import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
@@ -49,6 +50,20 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void markDirty();
 
+    /**
+     * Marks some field groups of the instance dirty, only these are sent to the client.
+     *
+     * @param fields the field groups, the DIRTY_ constants of {@link com.minecolonies.api.util.constant.CitizenConstants}.
+     */
+    void markDirty(int fields);
+
+    /**
+     * Get the field groups which changed since the last update.
+     *
+     * @return the field groups.
+     */
+    int getDirtyFields();
+
     /**
      * Returns the colony of the citizen.
      *
@@ -162,6 +177,14 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void serializeViewNetworkData(@NotNull ByteBuf buf);
 
+    /**
+     * Writes some field groups of the citizen data to a byte buf for transition.
+     *
+     * @param buf    Buffer to write to.
+     * @param fields the field groups to write.
+     */
+    void serializeViewNetworkData(@NotNull ByteBuf buf, int fields);
+
     /**
      * Sets the levels of the citizen.
      *
@@ -396,6 +419,18 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void tick();
 
+    /**
+     * Validate the interactions which depend on the given change on the next tick.
+     * @param trigger the change.
+     */
+    void markInteractionsForValidation(@NotNull final InteractionValidatorTrigger trigger);
+
+    /**
+     * Check if the next tick validates interactions, because a change they depend on happened.
+     * @return true if so.
+     */
+    boolean hasPendingInteractionValidation();
+
     /**
      * Trigger a possible interaction.
      * @param handler the new handler.
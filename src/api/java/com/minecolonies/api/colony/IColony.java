@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.inventory.WarehouseItemIndex;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
@@ -240,6 +241,13 @@ public interface IColony
 
     IProgressManager getProgressManager();
 
+    /**
+     * Get the index of the items stored in the warehouse racks of the colony.
+     *
+     * @return the index.
+     */
+    WarehouseItemIndex getWarehouseItemIndex();
+
     /**
      * Add a visiting player.
      * @param player the player.
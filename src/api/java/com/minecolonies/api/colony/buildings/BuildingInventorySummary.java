@@ -0,0 +1,237 @@
+package com.minecolonies.api.colony.buildings;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.AbstractTileEntityRack;
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+
+/**
+ * The item counts of all containers of a building, to answer repeated questions about the content without scanning every slot.
+ * It stays valid while the content versions of the racks are unchanged, containers which do not track their content, like vanilla chests, expire it after a short time.
+ */
+public final class BuildingInventorySummary
+{
+    /**
+     * The summary of a building without containers.
+     */
+    public static final BuildingInventorySummary EMPTY = new BuildingInventorySummary(Collections.emptyList(), new int[0], Long.MAX_VALUE, new HashMap<>());
+
+    /**
+     * The ticks a summary including containers without a content version is used for.
+     */
+    private static final int UNTRACKED_CONTAINER_TICKS = TICKS_SECOND;
+
+    /**
+     * The version marking a container without a content version.
+     */
+    private static final int UNTRACKED = -1;
+
+    /**
+     * The version marking a position without a container, the summary turns invalid once one is placed there.
+     */
+    private static final int MISSING = -2;
+
+    /**
+     * The positions of the counted containers.
+     */
+    private final List<BlockPos> containers;
+
+    /**
+     * The content versions of the counted containers.
+     */
+    private final int[] versions;
+
+    /**
+     * The world time until which the content of the containers without a content version is trusted.
+     */
+    private final long validUntil;
+
+    /**
+     * The amounts by item.
+     */
+    private final Map<ItemStorage, Integer> counts;
+
+    /**
+     * The already checked tool availabilities by tool type and levels.
+     */
+    private final Map<String, Boolean> tools = new HashMap<>();
+
+    private BuildingInventorySummary(
+      @NotNull final List<BlockPos> containers,
+      @NotNull final int[] versions,
+      final long validUntil,
+      @NotNull final Map<ItemStorage, Integer> counts)
+    {
+        this.containers = containers;
+        this.versions = versions;
+        this.validUntil = validUntil;
+        this.counts = counts;
+    }
+
+    /**
+     * Count the content of the given containers.
+     *
+     * @param world      the world of the containers.
+     * @param containers the positions of the containers.
+     * @return the summary.
+     */
+    @NotNull
+    public static BuildingInventorySummary of(@NotNull final World world, @NotNull final List<BlockPos> containers)
+    {
+        final Map<ItemStorage, Integer> counts = new HashMap<>();
+        final int[] versions = new int[containers.size()];
+        long validUntil = Long.MAX_VALUE;
+        for (int i = 0; i < containers.size(); i++)
+        {
+            final TileEntity entity = world.getTileEntity(containers.get(i));
+            if (entity instanceof AbstractTileEntityRack)
+            {
+                versions[i] = ((AbstractTileEntityRack) entity).getContentVersion();
+                for (final Map.Entry<ItemStorage, Integer> entry : ((AbstractTileEntityRack) entity).getAllContent().entrySet())
+                {
+                    counts.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                }
+                continue;
+            }
+
+            if (entity == null)
+            {
+                versions[i] = MISSING;
+            }
+            else
+            {
+                versions[i] = UNTRACKED;
+                validUntil = world.getTotalWorldTime() + UNTRACKED_CONTAINER_TICKS;
+                for (final IItemHandler handler : InventoryUtils.getItemHandlersFromProvider(entity))
+                {
+                    for (int slot = 0; slot < handler.getSlots(); slot++)
+                    {
+                        final ItemStack stack = handler.getStackInSlot(slot);
+                        if (!ItemStackUtils.isEmpty(stack))
+                        {
+                            counts.merge(new ItemStorage(stack.copy()), ItemStackUtils.getSize(stack), Integer::sum);
+                        }
+                    }
+                }
+            }
+        }
+        return new BuildingInventorySummary(new ArrayList<>(containers), versions, validUntil, counts);
+    }
+
+    /**
+     * Check if the summary still matches the content of the containers.
+     *
+     * @param world      the world of the containers.
+     * @param containers the current positions of the containers.
+     * @return true if so.
+     */
+    public boolean isValid(@NotNull final World world, @NotNull final List<BlockPos> containers)
+    {
+        if (world.getTotalWorldTime() > validUntil || !this.containers.equals(containers))
+        {
+            return false;
+        }
+
+        for (int i = 0; i < versions.length; i++)
+        {
+            if (versions[i] == UNTRACKED)
+            {
+                continue;
+            }
+
+            final TileEntity entity = world.getTileEntity(this.containers.get(i));
+            if (versions[i] == MISSING)
+            {
+                if (entity != null)
+                {
+                    return false;
+                }
+            }
+            else if (!(entity instanceof AbstractTileEntityRack) || ((AbstractTileEntityRack) entity).getContentVersion() != versions[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the amount of an item.
+     *
+     * @param storage the item.
+     * @return the amount.
+     */
+    public int getItemCount(@NotNull final ItemStorage storage)
+    {
+        return counts.getOrDefault(storage, 0);
+    }
+
+    /**
+     * Get the amount of the items matching a predicate, tests every item once instead of every slot.
+     *
+     * @param predicate the predicate.
+     * @return the amount.
+     */
+    public int getItemCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : counts.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Check if there is any item matching a predicate.
+     *
+     * @param predicate the predicate, null never matches.
+     * @return true if so.
+     */
+    public boolean hasItem(@Nullable final Predicate<ItemStack> predicate)
+    {
+        if (predicate == null)
+        {
+            return false;
+        }
+
+        for (final ItemStorage storage : counts.keySet())
+        {
+            if (predicate.test(storage.getItemStack()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if there is a tool of a type within a level range, the answer is kept for the lifetime of the summary.
+     *
+     * @param toolType the tool type.
+     * @param minLevel the min level.
+     * @param maxLevel the max level.
+     * @return true if so.
+     */
+    public boolean hasTool(@NotNull final IToolType toolType, final int minLevel, final int maxLevel)
+    {
+        return tools.computeIfAbsent(toolType.getName() + ":" + minLevel + ":" + maxLevel,
+          key -> hasItem(stack -> ItemStackUtils.hasToolLevel(stack, toolType, minLevel, maxLevel)));
+    }
+}
@@ -79,6 +79,15 @@ public interface IBuildingContainer extends ISchematicProvider, ICitizenAssignab
      */
     List<BlockPos> getAdditionalCountainers();
 
+    /**
+     * Get the item counts of the hut and all additional containers.
+     * Counted again only after one of the containers changed.
+     *
+     * @return the summary.
+     */
+    @NotNull
+    BuildingInventorySummary getInventorySummary();
+
     /**
      * Register a blockState and position.
      * We suppress this warning since this parameter will be used in child classes which override this method.
@@ -5,7 +5,9 @@ import com.minecolonies.api.colony.guardtype.GuardType;
 import com.minecolonies.api.entity.ai.citizen.guards.GuardTask;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.Nullable;
 
@@ -222,4 +224,13 @@ public interface IGuardBuilding extends ISchematicProvider, ICitizenAssignable,
      * Populates the mobs list from the ForgeRegistries.
      */
     void calculateMobs();
+
+    /**
+     * Get the living entities within an area around one of the guards.
+     * The guards of the building share the lookups, a lookup of the same tick covering the area is reused.
+     *
+     * @param area the area.
+     * @return the entities intersecting the area.
+     */
+    List<EntityLivingBase> getEntitiesWithinArea(AxisAlignedBB area);
 }
@@ -12,6 +12,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Response handler for all kind of GUI interactions.
@@ -65,6 +66,12 @@ public interface IInteractionResponseHandler extends INBTSerializable<NBTTagComp
      */
     boolean isValid(final ICitizenData colony);
 
+    /**
+     * Get the changes after which this response handler has to be validated again.
+     * @return the triggers.
+     */
+    Set<InteractionValidatorTrigger> getValidatorTriggers();
+
     /**
      * Server side action triggered on a possible response.
      * @param response the clicked string response of the player.
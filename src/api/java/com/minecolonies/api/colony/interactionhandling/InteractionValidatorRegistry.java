@@ -6,8 +6,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.Style;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
@@ -31,6 +30,16 @@ public final class InteractionValidatorRegistry
      */
     private static Map<ITextComponent, BiPredicate<ICitizenData, IToken>> tokenMap = new HashMap<>();
 
+    /**
+     * Map of the triggers of all validator predicates.
+     */
+    private static Map<ITextComponent, Set<InteractionValidatorTrigger>> triggerMap = new HashMap<>();
+
+    /**
+     * The triggers of validators which did not declare any, they are validated again on every change.
+     */
+    private static final Set<InteractionValidatorTrigger> ALL_TRIGGERS = Collections.unmodifiableSet(EnumSet.allOf(InteractionValidatorTrigger.class));
+
     /**
      * Get the StandardInteractionValidatorPredicate.
      * @param key the key of it.
@@ -61,34 +70,60 @@ public final class InteractionValidatorRegistry
         return tokenMap.get(key);
     }
 
+    /**
+     * Get the changes after which the validator predicate has to be tested again.
+     * @param key the key of it.
+     * @return the triggers, all of them if the predicate did not declare any.
+     */
+    public static Set<InteractionValidatorTrigger> getValidatorTriggers(final ITextComponent key)
+    {
+        return triggerMap.getOrDefault(key, ALL_TRIGGERS);
+    }
+
     /**
      * Add a new StandardInteractionValidatorPredicate.
      * @param key it's key.
      * @param predicate it's predicate.
+     * @param triggers the changes after which the predicate has to be tested again, none to test it after every change.
      */
-    public static void registerStandardPredicate(final ITextComponent key, final Predicate<ICitizenData> predicate)
+    public static void registerStandardPredicate(final ITextComponent key, final Predicate<ICitizenData> predicate, final InteractionValidatorTrigger... triggers)
     {
         map.put(key, predicate);
+        registerTriggers(key, triggers);
     }
 
     /**
      * Add a new PosBasedInteractionValidatorPredicate.
      * @param key it's key.
      * @param predicate it's predicate.
+     * @param triggers the changes after which the predicate has to be tested again, none to test it after every change.
      */
-    public static void registerPosBasedPredicate(final ITextComponent key, final BiPredicate<ICitizenData, BlockPos> predicate)
+    public static void registerPosBasedPredicate(final ITextComponent key, final BiPredicate<ICitizenData, BlockPos> predicate, final InteractionValidatorTrigger... triggers)
     {
         posMap.put(key, predicate);
+        registerTriggers(key, triggers);
     }
 
     /**
      * Add a new TokenBasedInteractionValidatorPredicate.
      * @param key it's key.
      * @param predicate it's predicate.
+     * @param triggers the changes after which the predicate has to be tested again, none to test it after every change.
      */
-    public static void registerTokenBasedPredicate(final ITextComponent key, final BiPredicate<ICitizenData, IToken> predicate)
+    public static void registerTokenBasedPredicate(final ITextComponent key, final BiPredicate<ICitizenData, IToken> predicate, final InteractionValidatorTrigger... triggers)
     {
         tokenMap.put(key, predicate);
+        registerTriggers(key, triggers);
+    }
+
+    /**
+     * Store the triggers of a predicate, replacing the ones of an earlier predicate with the same key like the predicate itself.
+     * @param key the key of the predicate.
+     * @param triggers the declared triggers.
+     */
+    private static void registerTriggers(final ITextComponent key, final InteractionValidatorTrigger... triggers)
+    {
+        triggerMap.put(key, triggers.length == 0 ? ALL_TRIGGERS : Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(triggers))));
     }
 
     /**
@@ -0,0 +1,27 @@
+package com.minecolonies.api.colony.interactionhandling;
+
+/**
+ * The changes an interaction validator depends on, the interactions of a citizen are only validated again when one of them happened.
+ */
+public enum InteractionValidatorTrigger
+{
+    /**
+     * The inventory of the citizen changed.
+     */
+    INVENTORY,
+
+    /**
+     * A request of the colony was created, reassigned or changed its state.
+     */
+    REQUEST,
+
+    /**
+     * A building of the colony, or the work building of the citizen, changed.
+     */
+    BUILDING,
+
+    /**
+     * The validator depends on something without an event, like the world or the time, and is checked again every now and then.
+     */
+    TIME
+}
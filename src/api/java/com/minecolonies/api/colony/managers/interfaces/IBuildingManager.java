@@ -73,6 +73,20 @@ public interface IBuildingManager
      */
     IBuilding getBuilding(BlockPos pos);
 
+    /**
+     * Check if a position lies within the footprint of one of the buildings, between its corners.
+     * Safe to call from other threads, like the pathfinding ones.
+     * @param pos the position.
+     * @return true if so.
+     */
+    boolean isInBuildingFootprint(BlockPos pos);
+
+    /**
+     * Update the footprint index after the corners of a building changed.
+     * @param building the building.
+     */
+    void onBuildingCornersChanged(IBuilding building);
+
     /**
      * Returns a map with all buildings within the colony.
      * Key is ID (Coordinates), value is building object.
@@ -82,6 +96,16 @@ public interface IBuildingManager
     @NotNull
     Map<BlockPos, IBuilding> getBuildings();
 
+    /**
+     * Get the buildings of a certain type, including its sub types.
+     *
+     * @param type the building class.
+     * @param <B>  the building type.
+     * @return a read only view of the buildings of the type.
+     */
+    @NotNull
+    <B extends IBuilding> List<B> getBuildingsOfType(@NotNull final Class<B> type);
+
     /**
      * Get the townhall from the colony.
      * @return the townhall building.
@@ -150,6 +174,11 @@ public interface IBuildingManager
      */
     void markBuildingsDirty();
 
+    /**
+     * Marks that saved building data changed, so the buildings are serialized again on the next save.
+     */
+    void markBuildingSectionDirty();
+
     /**
      * Creates a building from a tile entity and adds it to the colony.
      *
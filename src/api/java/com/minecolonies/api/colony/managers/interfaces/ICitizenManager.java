@@ -2,6 +2,8 @@ package com.minecolonies.api.colony.managers.interfaces;
 
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.interactionhandling.InteractionValidatorTrigger;
+import com.minecolonies.api.colony.jobs.IJob;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
@@ -122,6 +124,11 @@ public interface ICitizenManager
      */
     void markCitizensDirty();
 
+    /**
+     * Marks that saved citizen data changed, so the citizens are serialized again on the next save.
+     */
+    void markCitizenSectionDirty();
+
     /**
      * Clear dirty from all buildings.
      */
@@ -133,6 +140,20 @@ public interface ICitizenManager
      */
     List<ICitizenData> getCitizens();
 
+    /**
+     * Get the citizens with a job of a certain type, including its sub types.
+     * @param type the job class.
+     * @return a read only view of the citizens with the job.
+     */
+    List<ICitizenData> getCitizensWithJob(@NotNull Class<? extends IJob> type);
+
+    /**
+     * Update the job index after the job of a citizen changed.
+     * @param citizen the citizen.
+     * @param oldJob the job it had before, null if none.
+     */
+    void onCitizenJobChanged(@NotNull ICitizenData citizen, @Nullable IJob oldJob);
+
     /**
      * Get max citizens of the colony.
      * @return the amount.
@@ -175,6 +196,13 @@ public interface ICitizenManager
      */
     void tickCitizenData();
 
+    /**
+     * Validate the interactions of all citizens which depend on the given change on the next tick of the citizen data.
+     *
+     * @param trigger the change.
+     */
+    void markInteractionsForValidation(@NotNull InteractionValidatorTrigger trigger);
+
     /**
      * Actions to execute on a colony tick.
      * @param colony the event.
@@ -71,6 +71,12 @@ public interface IColonyPackageManager
      */
     void addCloseSubscriber(@NotNull final EntityPlayerMP subscriber);
 
+    /**
+     * Send the full view to a subscriber again with the next update, for example when its view got out of sync.
+     * @param subscriber the subscriber to resend the view to.
+     */
+    void resendFullView(@NotNull final EntityPlayerMP subscriber);
+
     /**
      * Adds a new global subscriber to the colony.
      *
@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
 import org.jetbrains.annotations.NotNull;
@@ -91,6 +92,13 @@ public interface IRaiderManager
      */
     List<AbstractEntityMinecoloniesMob> getHorde(final WorldServer world);
 
+    /**
+     * Gets the registered raiders within an area, looked up by the chunk sections they are in.
+     * @param area the area.
+     * @return the living raiders intersecting the area.
+     */
+    List<AbstractEntityMinecoloniesMob> getRaidersInArea(@NotNull final AxisAlignedBB area);
+
     /**
      * Register a certain raider origin schematic to the colony..
      * @param ship the ship description.
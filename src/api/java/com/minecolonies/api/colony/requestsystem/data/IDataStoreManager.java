@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.requestsystem.data;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
+import java.util.Map;
 import java.util.function.Supplier;
 
 public interface IDataStoreManager
@@ -11,6 +12,21 @@ public interface IDataStoreManager
 
     <T extends IDataStore> T get(IToken<?> id, Supplier<T> factory);
 
+    /**
+     * Get all stores managed by this manager.
+     *
+     * @return an unmodifiable view of the stores by their id.
+     */
+    Map<IToken<?>, IDataStore> getAll();
+
+    /**
+     * Add or replace a store.
+     *
+     * @param id    the id of the store.
+     * @param store the store.
+     */
+    void put(IToken<?> id, IDataStore store);
+
     void remove(IToken<?> id);
 
     void removeAll();
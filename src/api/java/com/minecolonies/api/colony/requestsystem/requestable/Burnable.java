@@ -1,10 +1,10 @@
 package com.minecolonies.api.colony.requestsystem.requestable;
 
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntityFurnace;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -55,7 +55,7 @@ public class Burnable implements IDeliverable
     @Override
     public boolean matches(@NotNull final ItemStack stack)
     {
-        return TileEntityFurnace.isItemFuel(stack);
+        return IColonyManager.getInstance().getCompatibilityManager().isFuel(stack);
     }
 
     @Override
@@ -35,6 +35,7 @@ import net.minecraftforge.oredict.OreDictionary;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -131,6 +132,23 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private final Map<Integer, List<Tuple<String, Integer>>> enchantments = new HashMap<>();
 
+    /**
+     * The property flags of an item.
+     */
+    private static final int COMPOSTABLE   = 1;
+    private static final int PLANTABLE     = 1 << 1;
+    private static final int LUCKY         = 1 << 2;
+    private static final int ORE           = 1 << 3;
+    private static final int SMELTABLE_ORE = 1 << 4;
+    private static final int FUEL          = 1 << 5;
+    private static final int FOOD          = 1 << 6;
+    private static final int COOKABLE      = 1 << 7;
+
+    /**
+     * The property flags by item id and damage value, classified during discovery and on the first lookup of other items.
+     */
+    private final Map<Long, Integer> itemProperties = new ConcurrentHashMap<>();
+
     /**
      * If discovery is finished already.
      */
@@ -184,6 +202,7 @@ public class CompatibilityManager implements ICompatibilityManager
     public void discover()
     {
         discoverBlockList();
+        discoverItemProperties();
 
         discoverSaplings();
         discoverOres();
@@ -234,76 +253,19 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isCompost(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.listOfCompostableItems)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return (getProperties(itemStack) & COMPOSTABLE) != 0;
     }
 
     @Override
     public boolean isPlantable(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.listOfPlantables)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return (getProperties(itemStack) & PLANTABLE) != 0;
     }
 
     @Override
     public boolean isLuckyBlock(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.luckyBlocks)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return (getProperties(itemStack) & LUCKY) != 0;
     }
 
     @Override
@@ -368,39 +330,36 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isOre(@NotNull final ItemStack stack)
     {
-        if (isEmpty(stack))
-        {
-            return false;
-        }
-        final int[] ids = OreDictionary.getOreIDs(stack);
-        for (final int id : ids)
-        {
-            if (OreDictionary.getOreName(id).contains(ORE_STRING))
-            {
-                return !FurnaceRecipes.instance().getSmeltingResult(stack).isEmpty();
-            }
-        }
-
-        return false;
+        return (getProperties(stack) & SMELTABLE_ORE) != 0;
     }
 
     @Override
     public boolean isMineableOre(@NotNull final ItemStack stack)
     {
-        if (isEmpty(stack))
-        {
-            return false;
-        }
-        final int[] ids = OreDictionary.getOreIDs(stack);
-        for (final int id : ids)
+        return (getProperties(stack) & ORE) != 0;
+    }
+
+    @Override
+    public boolean isFuel(final ItemStack stack)
+    {
+        if (!isEmpty(stack) && stack.hasTagCompound())
         {
-            if (OreDictionary.getOreName(id).contains(ORE_STRING))
-            {
-                return true;
-            }
+            //  The burn time of some items, like filled buckets of other mods, depends on their nbt.
+            return TileEntityFurnace.isItemFuel(stack);
         }
+        return (getProperties(stack) & FUEL) != 0;
+    }
 
-        return false;
+    @Override
+    public boolean isFood(final ItemStack stack)
+    {
+        return (getProperties(stack) & FOOD) != 0;
+    }
+
+    @Override
+    public boolean isCookable(final ItemStack stack)
+    {
+        return (getProperties(stack) & COOKABLE) != 0;
     }
 
     /**
@@ -480,6 +439,120 @@ public class CompatibilityManager implements ICompatibilityManager
 
     //------------------------------- Private Utility Methods -------------------------------//
 
+    /**
+     * Get the property flags of an item, classifies it on the first lookup.
+     *
+     * @param stack the stack of the item.
+     * @return the flags, 0 for an empty stack.
+     */
+    private int getProperties(final ItemStack stack)
+    {
+        if (isEmpty(stack))
+        {
+            return 0;
+        }
+
+        final Item item = stack.getItem();
+        //  The damage of damageable items is their durability, not a different item.
+        final int damage = item.isDamageable() ? 0 : stack.getItemDamage();
+        final long key = ((long) Item.getIdFromItem(item) << Integer.SIZE) | (damage & 0xFFFFFFFFL);
+        final Integer properties = itemProperties.get(key);
+        if (properties != null)
+        {
+            return properties;
+        }
+
+        final int newProperties = classifyItem(new ItemStack(item, 1, damage));
+        itemProperties.put(key, newProperties);
+        return newProperties;
+    }
+
+    /**
+     * Compute the property flags of an item from the configuration, the ore dictionary and the furnace recipes.
+     *
+     * @param stack a stack of the item, without nbt.
+     * @return the flags.
+     */
+    private static int classifyItem(@NotNull final ItemStack stack)
+    {
+        final String registryName = stack.getItem().getRegistryName().toString();
+        final int[] oreIds = OreDictionary.getOreIDs(stack);
+        final List<String> oreNames = new ArrayList<>(oreIds.length);
+        for (final int id : oreIds)
+        {
+            oreNames.add(OreDictionary.getOreName(id));
+        }
+
+        int properties = 0;
+        if (isListed(registryName, oreNames, Configurations.gameplay.listOfCompostableItems))
+        {
+            properties |= COMPOSTABLE;
+        }
+        if (isListed(registryName, oreNames, Configurations.gameplay.listOfPlantables))
+        {
+            properties |= PLANTABLE;
+        }
+        if (isListed(registryName, oreNames, Configurations.gameplay.luckyBlocks))
+        {
+            properties |= LUCKY;
+        }
+        for (final String oreName : oreNames)
+        {
+            if (oreName.contains(ORE_STRING))
+            {
+                properties |= ORE;
+                if (!FurnaceRecipes.instance().getSmeltingResult(stack).isEmpty())
+                {
+                    properties |= SMELTABLE_ORE;
+                }
+                break;
+            }
+        }
+        if (TileEntityFurnace.isItemFuel(stack))
+        {
+            properties |= FUEL;
+        }
+        if (ISFOOD.test(stack))
+        {
+            properties |= FOOD;
+        }
+        if (ISCOOKABLE.test(stack))
+        {
+            properties |= COOKABLE;
+        }
+        return properties;
+    }
+
+    /**
+     * Check if an item is in a configured list of registry names and ore dictionary names.
+     *
+     * @param registryName the registry name of the item.
+     * @param oreNames     the ore dictionary names of the item.
+     * @param list         the configured list.
+     * @return true if so.
+     */
+    private static boolean isListed(@NotNull final String registryName, @NotNull final List<String> oreNames, @NotNull final String[] list)
+    {
+        for (final String string : list)
+        {
+            if (registryName.equals(string) || oreNames.contains(string))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Classify all known items ahead of time, again on every discovery to pick up changed configurations.
+     */
+    private void discoverItemProperties()
+    {
+        itemProperties.clear();
+        allBlocks.forEach(this::getProperties);
+        Log.getLogger().info("Finished classifying items");
+    }
+
     private void discoverOres()
     {
         if (smeltableOres.isEmpty())
@@ -565,7 +638,7 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         if (fuel.isEmpty())
         {
-            fuel.addAll(ImmutableList.copyOf(allBlocks.stream().filter(TileEntityFurnace::isItemFuel).map(ItemStorage::new).collect(Collectors.toList())));
+            fuel.addAll(ImmutableList.copyOf(allBlocks.stream().filter(this::isFuel).map(ItemStorage::new).collect(Collectors.toList())));
         }
         Log.getLogger().info("Finished discovering fuel");
     }
@@ -577,7 +650,7 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         if (food.isEmpty())
         {
-            food.addAll(ImmutableList.copyOf(allBlocks.stream().filter(ISFOOD.or(ISCOOKABLE)).map(ItemStorage::new).collect(Collectors.toList())));
+            food.addAll(ImmutableList.copyOf(allBlocks.stream().filter(stack -> isFood(stack) || isCookable(stack)).map(ItemStorage::new).collect(Collectors.toList())));
         }
         Log.getLogger().info("Finished discovering food");
     }
@@ -68,6 +68,27 @@ public interface ICompatibilityManager
      */
     Set<ItemStorage> getFood();
 
+    /**
+     * Test if an itemStack can be burned in a furnace.
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isFuel(ItemStack stack);
+
+    /**
+     * Test if an itemStack is food.
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isFood(ItemStack stack);
+
+    /**
+     * Test if an itemStack can be cooked to food in a furnace.
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isCookable(ItemStack stack);
+
     /**
      * Get a set of all smeltable ores.
      * @return an immutable set.
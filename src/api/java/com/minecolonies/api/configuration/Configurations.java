@@ -642,6 +642,12 @@ public class Configurations
         @Config.Comment("Amount of additional threads to be used for pathfinding. [Default: 2]")
         public int pathfindingMaxThreadCount = 2;
 
+        @Config.Comment("Max amount of pathfinding jobs waiting for a thread, when full low priority jobs are dropped. [Default: 500]")
+        public int pathfindingMaxQueueSize = 500;
+
+        @Config.Comment("Max amount of paths cached per colony for routes citizens walk repeatedly, 0 disables the cache. [Default: 64]")
+        public int pathfindingCacheSize = 64;
+
         @Config.Comment("Max amount of Nodes(positions) to map during pathfinding. Lowering increases performance, but might lead to pathing glitches. [Default: 5000]")
         public int pathfindingMaxNodes = 5000;
     }
@@ -2,8 +2,12 @@ package com.minecolonies.api.crafting;
 
 import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
 
 /**
  * The Interface describing the recipeManager which takes care of the recipes discovered by the colonies in this world.
@@ -11,11 +15,27 @@ import org.jetbrains.annotations.NotNull;
 public interface IRecipeManager
 {
     /**
-     * Get a unmodifiable copy of the recipes map.
+     * Get a unmodifiable view of the recipes map.
      * @return a map of Token, RecipeStorage.
      */
     ImmutableMap<IToken, IRecipeStorage> getRecipes();
 
+    /**
+     * Get a recipe by its id.
+     * @param token the id of the recipe.
+     * @return the recipe or null if inexistent.
+     */
+    @Nullable
+    IRecipeStorage getRecipe(final IToken token);
+
+    /**
+     * Get the ids of the recipes with a primary output matching the given stack, ignoring the nbt.
+     * @param output the output to look for.
+     * @return an unmodifiable set of the ids.
+     */
+    @NotNull
+    Set<IToken> getRecipeIdsForOutput(@NotNull final ItemStack output);
+
     /**
      * Add a recipe to the map.
      * @param storage the recipe to add
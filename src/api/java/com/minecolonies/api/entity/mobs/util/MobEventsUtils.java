@@ -2,13 +2,13 @@ package com.minecolonies.api.entity.mobs.util;
 
 import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.management.Structures;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.StructureCache;
 import net.minecraft.block.material.Material;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Mirror;
@@ -79,8 +79,7 @@ public final class MobEventsUtils
         colony.setNightsSinceLastRaid(0);
 
         // Calculate size/offset of the pirate ship
-        final Structure structure = new Structure(world, Structures.SCHEMATICS_PREFIX + PirateEventUtils.PIRATESHIP_FOLDER + shipSize, new PlacementSettings());
-        structure.rotate(BlockPosUtil.getRotationFromRotations(0), world, targetSpawnPoint, Mirror.NONE);
+        final Structure structure = StructureCache.getTemplate(world, Structures.SCHEMATICS_PREFIX + PirateEventUtils.PIRATESHIP_FOLDER + shipSize, 0, Mirror.NONE);
 
         targetSpawnPoint = PlaceStructureAndFirePirateEvent(world, colony, targetSpawnPoint, raidNumber, shipSize, structure);
         if (targetSpawnPoint == null)
@@ -3,13 +3,12 @@ package com.minecolonies.api.entity.mobs.util;
 import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.items.ItemScanTool;
 import com.ldtteam.structurize.management.Structures;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.configuration.Configurations;
-import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InstantStructurePlacer;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.StructureCache;
 import net.minecraft.init.Blocks;
 import net.minecraft.tileentity.TileEntityMobSpawner;
 import net.minecraft.util.Mirror;
@@ -57,8 +56,7 @@ public final class PirateEventUtils
      */
     public static void pirateEvent(final BlockPos targetSpawnPoint, final World world, final IColony colony, final String shipSize, final int raidNumber)
     {
-        final Structure structure = new Structure(world, Structures.SCHEMATICS_PREFIX + PIRATESHIP_FOLDER + shipSize, new PlacementSettings());
-        structure.rotate(BlockPosUtil.getRotationFromRotations(0), world, targetSpawnPoint, Mirror.NONE);
+        final Structure structure = StructureCache.getTemplate(world, Structures.SCHEMATICS_PREFIX + PIRATESHIP_FOLDER + shipSize, 0, Mirror.NONE);
 
         if (!ItemScanTool.saveStructureOnServer(world,
           targetSpawnPoint.add(structure.getWidth() - 1, structure.getHeight(), structure.getLength() - 1).subtract(structure.getOffset()),
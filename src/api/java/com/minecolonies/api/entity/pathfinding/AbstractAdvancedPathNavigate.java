@@ -49,6 +49,8 @@ public abstract class AbstractAdvancedPathNavigate extends PathNavigateGround
 
     public abstract PathResult moveToXYZ(final double x, final double y, final double z, final double speed);
 
+    public abstract PathResult moveToXYZ(final double x, final double y, final double z, final double speed, final PathJobPriority priority);
+
     public abstract WaterPathResult moveToWater(final int searchRange, final double v, final List<BlockPos> ponds);
 
     public abstract PathResult moveAwayFromEntityLiving(final Entity target, final double distance, final double combatMovementSpeed);
@@ -0,0 +1,22 @@
+package com.minecolonies.api.entity.pathfinding;
+
+/**
+ * Priority of a path job in the pathfinding queue, lower ordinal runs first.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Combat related jobs (guards and raiders).
+     */
+    HIGH,
+
+    /**
+     * Regular work related jobs.
+     */
+    NORMAL,
+
+    /**
+     * Idle and search jobs (wandering, tree and water search), dropped first when the queue is full.
+     */
+    LOW
+}
@@ -0,0 +1,266 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the items stored in the warehouse racks of a colony.
+ * Racks push their content whenever it changes, so looking up stock does not need to touch the tile entities.
+ * Must only be used from the server thread.
+ */
+public class WarehouseItemIndex
+{
+    /**
+     * The last reported content per rack.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> contentByRack = new HashMap<>();
+
+    /**
+     * The racks holding each item, with the amount they hold.
+     */
+    private final Map<ItemStorage, Entry> entries = new HashMap<>();
+
+    /**
+     * Replace the indexed content of a rack.
+     *
+     * @param pos     the position of the rack.
+     * @param content the amount per item in the rack.
+     */
+    public void updateRack(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        final BlockPos rackPos = pos.toImmutable();
+        removeRack(rackPos);
+
+        final Map<ItemStorage, Integer> copy = new HashMap<>(content);
+        contentByRack.put(rackPos, copy);
+        for (final Map.Entry<ItemStorage, Integer> stored : copy.entrySet())
+        {
+            final Entry entry = entries.computeIfAbsent(stored.getKey(), Entry::new);
+            entry.count += stored.getValue();
+            entry.racks.put(rackPos, stored.getValue());
+        }
+    }
+
+    /**
+     * Replace the indexed amount of a single item in a rack.
+     *
+     * @param pos     the position of the rack.
+     * @param storage the item.
+     * @param amount  the amount the rack holds now.
+     */
+    public void updateRackItem(@NotNull final BlockPos pos, @NotNull final ItemStorage storage, final int amount)
+    {
+        final BlockPos rackPos = pos.toImmutable();
+        final Map<ItemStorage, Integer> content = contentByRack.computeIfAbsent(rackPos, p -> new HashMap<>());
+        final Integer previous = amount > 0 ? content.put(storage, amount) : content.remove(storage);
+        final int delta = amount - (previous == null ? 0 : previous);
+        if (delta == 0)
+        {
+            return;
+        }
+
+        final Entry entry = entries.computeIfAbsent(storage, Entry::new);
+        entry.count += delta;
+        if (amount > 0)
+        {
+            entry.racks.put(rackPos, amount);
+        }
+        else
+        {
+            entry.racks.remove(rackPos);
+            if (entry.racks.isEmpty())
+            {
+                entries.remove(storage);
+            }
+        }
+    }
+
+    /**
+     * Drop a rack from the index.
+     *
+     * @param pos the position of the rack.
+     */
+    public void removeRack(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> content = contentByRack.remove(pos);
+        if (content == null)
+        {
+            return;
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> stored : content.entrySet())
+        {
+            final Entry entry = entries.get(stored.getKey());
+            if (entry != null && entry.racks.remove(pos) != null)
+            {
+                entry.count -= stored.getValue();
+                if (entry.racks.isEmpty())
+                {
+                    entries.remove(stored.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if the content of a rack is indexed.
+     *
+     * @param pos the position of the rack.
+     * @return true if so.
+     */
+    public boolean containsRack(@NotNull final BlockPos pos)
+    {
+        return contentByRack.containsKey(pos);
+    }
+
+    /**
+     * Get the amount of an item over all indexed racks.
+     *
+     * @param storage the item.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        final Entry entry = entries.get(storage);
+        return entry == null ? 0 : entry.count;
+    }
+
+    /**
+     * Get the racks holding an item.
+     *
+     * @param storage the item.
+     * @return the unmodifiable positions of the racks.
+     */
+    @NotNull
+    public Set<BlockPos> getPositions(@NotNull final ItemStorage storage)
+    {
+        final Entry entry = entries.get(storage);
+        return entry == null ? Collections.emptySet() : Collections.unmodifiableSet(entry.racks.keySet());
+    }
+
+    /**
+     * Get the amount of matching items in the given racks.
+     *
+     * @param predicate the predicate to select the items with.
+     * @param racks     the racks to count in.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate, @NotNull final Set<BlockPos> racks)
+    {
+        int count = 0;
+        for (final Entry entry : entries.values())
+        {
+            if (predicate.test(entry.storage.getItemStack()))
+            {
+                count += entry.getCount(racks);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the matching items in the given racks, as stacks of at most their max stack size.
+     *
+     * @param predicate the predicate to select the items with.
+     * @param racks     the racks to search in.
+     * @return a new list of new stacks.
+     */
+    @NotNull
+    public List<ItemStack> getMatchingItemStacks(@NotNull final Predicate<ItemStack> predicate, @NotNull final Set<BlockPos> racks)
+    {
+        final List<ItemStack> result = new ArrayList<>();
+        for (final Entry entry : entries.values())
+        {
+            if (!predicate.test(entry.storage.getItemStack()))
+            {
+                continue;
+            }
+
+            int remaining = entry.getCount(racks);
+            final int maxStackSize = Math.max(1, entry.storage.getItemStack().getMaxStackSize());
+            while (remaining > 0)
+            {
+                final ItemStack stack = entry.storage.getItemStack().copy();
+                stack.setCount(Math.min(remaining, maxStackSize));
+                result.add(stack);
+                remaining -= stack.getCount();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get one of the given racks which holds a matching item.
+     *
+     * @param predicate the predicate to select the items with.
+     * @param racks     the racks to search in.
+     * @return the position or null.
+     */
+    @Nullable
+    public BlockPos getPositionOfMatchingItem(@NotNull final Predicate<ItemStack> predicate, @NotNull final Set<BlockPos> racks)
+    {
+        for (final Entry entry : entries.values())
+        {
+            if (predicate.test(entry.storage.getItemStack()))
+            {
+                for (final BlockPos pos : entry.racks.keySet())
+                {
+                    if (racks.contains(pos))
+                    {
+                        return pos;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear()
+    {
+        contentByRack.clear();
+        entries.clear();
+    }
+
+    /**
+     * The racks holding one item.
+     */
+    private static final class Entry
+    {
+        private final ItemStorage            storage;
+        private final Map<BlockPos, Integer> racks = new HashMap<>();
+        private       int                    count;
+
+        private Entry(@NotNull final ItemStorage storage)
+        {
+            this.storage = storage;
+        }
+
+        /**
+         * Get the amount held by the given racks.
+         *
+         * @param filter the racks to count.
+         * @return the amount.
+         */
+        private int getCount(@NotNull final Set<BlockPos> filter)
+        {
+            int result = 0;
+            for (final Map.Entry<BlockPos, Integer> rack : racks.entrySet())
+            {
+                if (filter.contains(rack.getKey()))
+                {
+                    result += rack.getValue();
+                }
+            }
+            return result;
+        }
+    }
+}
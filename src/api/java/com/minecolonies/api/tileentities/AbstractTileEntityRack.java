@@ -4,6 +4,7 @@ import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -13,6 +14,7 @@ import net.minecraftforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_SIZE;
@@ -55,7 +57,7 @@ public abstract class AbstractTileEntityRack extends TileEntity
         @Override
         protected void onContentsChanged(final int slot)
         {
-            updateItemStorage();
+            updateItemStorage(slot, getStackInSlot(slot));
             super.onContentsChanged(slot);
         }
 
@@ -65,15 +67,6 @@ public abstract class AbstractTileEntityRack extends TileEntity
             super.setStackInSlot(slot, stack);
             updateWarehouseIfAvailable(stack);
         }
-
-        @NotNull
-        @Override
-        public ItemStack extractItem(final int slot, final int amount, final boolean simulate)
-        {
-            final ItemStack result = super.extractItem(slot, amount, simulate);
-            updateItemStorage();
-            return result;
-        }
     }
 
     /**
@@ -114,10 +107,38 @@ public abstract class AbstractTileEntityRack extends TileEntity
      */
     public abstract int getItemCount(Predicate<ItemStack> predicate);
 
+    /**
+     * Get the counted content of this rack, without the content of the other half of a double rack.
+     *
+     * @return a read only view of the amounts by item.
+     */
+    public abstract Map<ItemStorage, Integer> getAllContent();
+
+    /**
+     * Get the version of the counted content, it changes whenever the content changes.
+     *
+     * @return the version.
+     */
+    public abstract int getContentVersion();
+
     public abstract void updateItemStorage();
 
+    /**
+     * Update the content with the change of a single slot.
+     * Compares the stack with what was last counted for the slot and applies the difference only.
+     *
+     * @param slot  the slot which changed.
+     * @param stack the new stack in the slot.
+     */
+    protected abstract void updateItemStorage(int slot, @NotNull ItemStack stack);
+
     protected abstract void updateBlockState();
 
+    /**
+     * Called from the block tick scheduled after a content change, updates the block state.
+     */
+    public abstract void onScheduledBlockStateUpdate();
+
     public abstract AbstractTileEntityRack getOtherChest();
 
     public abstract boolean isEmpty();
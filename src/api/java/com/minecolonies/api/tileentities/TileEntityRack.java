@@ -2,6 +2,8 @@ package com.minecolonies.api.tileentities;
 
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -23,8 +25,11 @@ import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.*;
@@ -40,6 +45,36 @@ public class TileEntityRack extends AbstractTileEntityRack
      */
     private final Map<ItemStorage, Integer> content = new HashMap<>();
 
+    /**
+     * The item counted for each slot of the inventory, null for empty slots.
+     */
+    private ItemStorage[] slotItems = new ItemStorage[0];
+
+    /**
+     * The amount counted for each slot of the inventory.
+     */
+    private int[] slotAmounts = new int[0];
+
+    /**
+     * The amount of slots the content would fill when stacked up.
+     */
+    private int usedSlots = 0;
+
+    /**
+     * The source of the content versions, shared by all racks so a new or reloaded rack never repeats the version of another one.
+     */
+    private static final AtomicInteger NEXT_CONTENT_VERSION = new AtomicInteger();
+
+    /**
+     * The version of the content, changed on every change of it.
+     */
+    private int contentVersion = nextContentVersion();
+
+    /**
+     * Whether a block tick to update the block state is scheduled already.
+     */
+    private boolean blockStateUpdateScheduled = false;
+
     /**
      * Size multiplier of the inventory.
      * 0 = default value.
@@ -74,6 +109,7 @@ public class TileEntityRack extends AbstractTileEntityRack
     public void setInWarehouse(final Boolean isInWarehouse)
     {
         this.inWarehouse = isInWarehouse;
+        updateWarehouseIndex();
     }
 
     /**
@@ -97,13 +133,7 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public int getFreeSlots()
     {
-        int freeSlots = inventory.getSlots();
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
-        {
-            final double slotsNeeded = (double) entry.getValue() / entry.getKey().getItemStack().getMaxStackSize();
-            freeSlots -= (int) Math.ceil(slotsNeeded);
-        }
-        return freeSlots;
+        return inventory.getSlots() - usedSlots;
     }
 
     /**
@@ -179,23 +209,51 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public int getItemCount(final Predicate<ItemStack> predicate)
     {
+        int count = 0;
         for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
         {
             if (predicate.test(entry.getKey().getItemStack()))
             {
-                return entry.getValue();
+                count += entry.getValue();
             }
         }
-        return 0;
+        return count;
+    }
+
+    @Override
+    public Map<ItemStorage, Integer> getAllContent()
+    {
+        return Collections.unmodifiableMap(content);
+    }
+
+    @Override
+    public int getContentVersion()
+    {
+        return contentVersion;
+    }
+
+    /**
+     * Get a new content version, never negative so it can not be mistaken for the markers of the building inventory summary.
+     *
+     * @return the version.
+     */
+    private static int nextContentVersion()
+    {
+        return NEXT_CONTENT_VERSION.incrementAndGet() & Integer.MAX_VALUE;
     }
 
     /**
      * Scans through the whole storage and updates it.
+     * Only needed when stacks were changed without the inventory noticing, single slot changes are applied as they happen.
      */
     @Override
     public void updateItemStorage()
     {
         content.clear();
+        contentVersion = nextContentVersion();
+        usedSlots = 0;
+        slotItems = new ItemStorage[inventory.getSlots()];
+        slotAmounts = new int[inventory.getSlots()];
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
             final ItemStack stack = inventory.getStackInSlot(slot);
@@ -206,16 +264,190 @@ public class TileEntityRack extends AbstractTileEntityRack
             }
 
             final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
+            slotItems[slot] = storage;
+            slotAmounts[slot] = ItemStackUtils.getSize(stack);
+            changeAmount(storage, slotAmounts[slot]);
+        }
+
+        updateWarehouseIndex();
+        scheduleBlockStateUpdate();
+        markDirty();
+    }
+
+    @Override
+    protected void updateItemStorage(final int slot, @NotNull final ItemStack stack)
+    {
+        if (slot >= slotItems.length)
+        {
+            slotItems = Arrays.copyOf(slotItems, slot + 1);
+            slotAmounts = Arrays.copyOf(slotAmounts, slot + 1);
+        }
+
+        final ItemStorage previous = slotItems[slot];
+        final int previousAmount = slotAmounts[slot];
+
+        ItemStorage current = null;
+        final int currentAmount = ItemStackUtils.getSize(stack);
+        if (currentAmount > 0)
+        {
+            current = previous != null && previous.equals(new ItemStorage(stack)) ? previous : new ItemStorage(stack.copy());
+        }
+
+        if (current == previous && currentAmount == previousAmount)
+        {
+            return;
+        }
+
+        slotItems[slot] = current;
+        slotAmounts[slot] = currentAmount;
+        if (previous != null)
+        {
+            updateWarehouseIndex(previous, changeAmount(previous, -previousAmount));
+        }
+        if (current != null)
+        {
+            updateWarehouseIndex(current, changeAmount(current, currentAmount));
+        }
+
+        scheduleBlockStateUpdate();
+        markDirty();
+    }
+
+    /**
+     * Change the counted amount of an item.
+     *
+     * @param storage the item.
+     * @param delta   the amount to add, negative to remove.
+     * @return the new amount.
+     */
+    private int changeAmount(@NotNull final ItemStorage storage, final int delta)
+    {
+        final Integer oldAmount = content.get(storage);
+        final int previousAmount = oldAmount == null ? 0 : oldAmount;
+        final int newAmount = Math.max(0, previousAmount + delta);
+        final int maxStackSize = Math.max(1, storage.getItemStack().getMaxStackSize());
+
+        usedSlots += (newAmount + maxStackSize - 1) / maxStackSize - (previousAmount + maxStackSize - 1) / maxStackSize;
+        contentVersion = nextContentVersion();
+        if (newAmount == 0)
+        {
+            content.remove(storage);
+        }
+        else
+        {
+            content.put(storage, newAmount);
+        }
+        return newAmount;
+    }
+
+    /**
+     * Schedule a block tick to update the block state, so several changes within one tick update it only once.
+     * Racks without a pending change do not tick at all.
+     */
+    private void scheduleBlockStateUpdate()
+    {
+        if (world == null || blockStateUpdateScheduled || !(getBlockType() instanceof AbstractBlockMinecoloniesRack))
+        {
+            return;
+        }
+
+        if (world.isRemote)
+        {
+            updateBlockState();
+            return;
+        }
+
+        blockStateUpdateScheduled = true;
+        world.scheduleUpdate(pos, getBlockType(), 1);
+    }
+
+    @Override
+    public void onScheduledBlockStateUpdate()
+    {
+        blockStateUpdateScheduled = false;
+        updateBlockState();
+    }
+
+    /**
+     * Check if the content of this rack is part of the warehouse item index of the colony.
+     *
+     * @return true if so.
+     */
+    protected boolean isIndexedInWarehouse()
+    {
+        return inWarehouse;
+    }
+
+    /**
+     * Push the new amount of a single item to the warehouse item index of the colony.
+     *
+     * @param storage the item.
+     * @param amount  the amount this rack holds now.
+     */
+    private void updateWarehouseIndex(@NotNull final ItemStorage storage, final int amount)
+    {
+        if (world == null || world.isRemote || !isIndexedInWarehouse())
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+        if (colony != null)
+        {
+            if (colony.getWarehouseItemIndex().containsRack(pos))
             {
-                amount += content.remove(storage);
+                colony.getWarehouseItemIndex().updateRackItem(pos, storage, amount);
+            }
+            else
+            {
+                colony.getWarehouseItemIndex().updateRack(pos, content);
             }
-            content.put(storage, amount);
         }
+    }
 
-        updateBlockState();
-        markDirty();
+    /**
+     * Push the content of the rack to the warehouse item index of its colony.
+     */
+    private void updateWarehouseIndex()
+    {
+        if (world == null || world.isRemote)
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+        if (colony != null)
+        {
+            if (isIndexedInWarehouse())
+            {
+                colony.getWarehouseItemIndex().updateRack(pos, content);
+            }
+            else
+            {
+                colony.getWarehouseItemIndex().removeRack(pos);
+            }
+        }
+    }
+
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        updateWarehouseIndex();
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        if (world != null && !world.isRemote)
+        {
+            final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+            if (colony != null)
+            {
+                colony.getWarehouseItemIndex().removeRack(pos);
+            }
+        }
     }
 
     /**
@@ -380,9 +612,8 @@ public class TileEntityRack extends AbstractTileEntityRack
         }
 
         main = compound.getBoolean(TAG_MAIN);
-        updateItemStorage();
-
         this.inWarehouse = compound.getBoolean(TAG_IN_WAREHOUSE);
+        updateItemStorage();
     }
 
     @NotNull
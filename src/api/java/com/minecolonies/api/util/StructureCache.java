@@ -0,0 +1,109 @@
+package com.minecolonies.api.util;
+
+import com.ldtteam.structures.helpers.Structure;
+import com.ldtteam.structurize.util.PlacementSettings;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the server side structures which are only read, like for the corners of a building, loaded and rotated.
+ * One template is kept per schematic, rotation and mirror, so they are not read and decompressed from disk every time.
+ * Users which move or iterate their structure, like the builders, still create their own one.
+ */
+public final class StructureCache
+{
+    /**
+     * The max amount of templates to keep, the least recently used one is dropped first.
+     */
+    private static final int MAX_CACHED_TEMPLATES = 64;
+
+    /**
+     * The loaded templates by dimension, schematic name, rotation and mirror, in access order.
+     * Softly referenced, so they are dropped when the memory gets short.
+     */
+    private static final Map<String, SoftReference<Structure>> TEMPLATES = new LinkedHashMap<String, SoftReference<Structure>>(16, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, SoftReference<Structure>> eldest)
+        {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private StructureCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the shared template of a structure, already rotated and mirrored.
+     * It may only be read, it must not be rotated, moved or iterated.
+     * Loaded on the calling thread if there is no template yet.
+     *
+     * @param world     the world the structure is for.
+     * @param name      the schematic name.
+     * @param rotations the amount of rotations.
+     * @param mirror    the mirror.
+     * @return the template, check {@link Structure#isBluePrintMissing()} for schematics which do not exist.
+     * @throws IllegalStateException like the constructor of the structure.
+     */
+    @NotNull
+    public static synchronized Structure getTemplate(@NotNull final World world, @NotNull final String name, final int rotations, @NotNull final Mirror mirror)
+    {
+        if (world.isRemote)
+        {
+            return loadTemplate(world, name, rotations, mirror);
+        }
+
+        final String key = world.provider.getDimension() + ":" + name + ":" + rotations + ":" + mirror.name();
+        final SoftReference<Structure> reference = TEMPLATES.get(key);
+        Structure template = reference == null ? null : reference.get();
+        if (template == null)
+        {
+            template = loadTemplate(world, name, rotations, mirror);
+            TEMPLATES.put(key, new SoftReference<>(template));
+        }
+        return template;
+    }
+
+    /**
+     * Drop all templates, when the worlds they were loaded for are unloaded.
+     */
+    public static synchronized void clear()
+    {
+        TEMPLATES.clear();
+    }
+
+    /**
+     * Load a structure and rotate it.
+     *
+     * @param world     the world the structure is for.
+     * @param name      the schematic name.
+     * @param rotations the amount of rotations.
+     * @param mirror    the mirror.
+     * @return the rotated structure.
+     */
+    @NotNull
+    private static Structure loadTemplate(@NotNull final World world, @NotNull final String name, final int rotations, @NotNull final Mirror mirror)
+    {
+        final Rotation rotation = BlockPosUtil.getRotationFromRotations(rotations);
+        final Structure structure = new Structure(world, name, new PlacementSettings(mirror, rotation));
+        if (!structure.isBluePrintMissing())
+        {
+            structure.rotate(rotation, world, BlockPos.ORIGIN, mirror);
+        }
+        return structure;
+    }
+}
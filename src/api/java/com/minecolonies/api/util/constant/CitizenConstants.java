@@ -247,4 +247,39 @@ public final class CitizenConstants
      * Chance to dump, if < this then dump else not.
      */
     public static final int CHANCE_TO_DUMP = 8;
+
+    /**
+     * Citizen data view field group: name, gender, entity, pause, child, buildings, job and colony.
+     */
+    public static final int DIRTY_INFO = 1;
+
+    /**
+     * Citizen data view field group: level, experience and skills.
+     */
+    public static final int DIRTY_SKILLS = 1 << 1;
+
+    /**
+     * Citizen data view field group: health and saturation, the position is sent with every group.
+     */
+    public static final int DIRTY_STATE = 1 << 2;
+
+    /**
+     * Citizen data view field group: happiness and its modifiers.
+     */
+    public static final int DIRTY_HAPPINESS = 1 << 3;
+
+    /**
+     * Citizen data view field group: inventory.
+     */
+    public static final int DIRTY_INVENTORY = 1 << 4;
+
+    /**
+     * Citizen data view field group: interactions.
+     */
+    public static final int DIRTY_INTERACTIONS = 1 << 5;
+
+    /**
+     * All citizen data view field groups.
+     */
+    public static final int DIRTY_ALL = (1 << 6) - 1;
 }
@@ -135,6 +135,11 @@ public final class ColonyConstants
     public static final int CITIZEN_LIMIT_FOR_HELP  = 20;
     public static final int BUILDING_LIMIT_FOR_HELP = 10;
 
+    /**
+     * The amount of world saves which may reuse the unchanged sections of the colony tag before it is rebuilt entirely.
+     */
+    public static final int MAX_SAVES_WITHOUT_FULL_WRITE = 10;
+
     /**
      * Private constructor to hide the implicit one.
      */
@@ -32,6 +32,16 @@ public final class ColonyManagerConstants
      */
     public static final String CHUNK_INFO_PATH = FILENAME_MINECOLONIES_PATH + "/chunkInfo";
 
+    /**
+     * The path of the chunk info region files of a dimension.
+     */
+    public static final String CHUNK_REGION_PATH = CHUNK_INFO_PATH + "/dim%d";
+
+    /**
+     * The file name pattern of a chunk info region file.
+     */
+    public static final String FILENAME_CHUNK_REGION = "region.%d.%d.dat";
+
     /**
      * The file name of the minecolonies.
      */
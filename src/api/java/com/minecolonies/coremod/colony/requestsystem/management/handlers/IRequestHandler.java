@@ -53,6 +53,12 @@ public interface IRequestHandler
     @SuppressWarnings({UNCHECKED, RAWTYPES})
     IToken<?> assignRequestDefault(IRequest request, Collection<IToken<?>> resolverTokenBlackList);
 
+    /**
+     * Method used to drop the cached resolver candidates per request type.
+     * Has to be called when resolvers are registered or removed, or their priority changes.
+     */
+    void onResolversChanged();
+
     /**
      * Method used to reassign the request to a resolver that is not in the given blacklist. Cancels the request internally without notify the requester, and attempts a reassign.
      * If the reassignment failed, it is assigned back to the orignal resolver.
@@ -18,6 +18,7 @@ import com.minecolonies.coremod.event.EventHandler;
 import com.minecolonies.coremod.event.FMLEventHandler;
 import com.minecolonies.coremod.fixers.TileEntityIdFixer;
 import com.minecolonies.coremod.network.messages.*;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.placementhandlers.MinecoloniesPlacementHandlers;
 import com.minecolonies.coremod.proxy.IProxy;
 import com.minecolonies.coremod.util.RecipeHandler;
@@ -82,6 +83,7 @@ public class MineColonies
         MinecraftForge.EVENT_BUS.register(new BarbarianSpawnEventHandler());
         MinecraftForge.EVENT_BUS.register(new EventHandler());
         MinecraftForge.EVENT_BUS.register(new FMLEventHandler());
+        MinecraftForge.EVENT_BUS.register(new ColonyPermissionEventDispatcher());
     }
 
     /**
@@ -302,6 +304,7 @@ public class MineColonies
         getNetwork().registerMessage(EnchanterWorkerSetMessage.class, EnchanterWorkerSetMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(EnchanterQtySetMessage.class, EnchanterQtySetMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(TriggerServerResponseHandlerMessage.class, TriggerServerResponseHandlerMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(ColonyViewResyncMessage.class, ColonyViewResyncMessage.class, ++id, Side.SERVER);
 
         //Client side only
         getNetwork().registerMessage(BlockParticleEffectMessage.class, BlockParticleEffectMessage.class, ++id, Side.CLIENT);
@@ -35,6 +35,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static com.minecolonies.api.util.constant.Suppression.DEPRECATION;
 
@@ -230,6 +231,16 @@ public class BlockMinecoloniesRack extends AbstractBlockMinecoloniesRack<BlockMi
         super.neighborChanged(state, worldIn, pos, blockIn, fromPos);
     }
 
+    @Override
+    public void updateTick(final World worldIn, final BlockPos pos, final IBlockState state, final Random rand)
+    {
+        final TileEntity rack = worldIn.getTileEntity(pos);
+        if (rack instanceof AbstractTileEntityRack)
+        {
+            ((AbstractTileEntityRack) rack).onScheduledBlockStateUpdate();
+        }
+    }
+
     @Override
     public void breakBlock(@NotNull final World worldIn, @NotNull final BlockPos pos, @NotNull final IBlockState state)
     {
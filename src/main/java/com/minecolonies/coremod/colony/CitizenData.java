@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingWorker;
 import com.minecolonies.api.colony.interactionhandling.IInteractionResponseHandler;
+import com.minecolonies.api.colony.interactionhandling.InteractionValidatorTrigger;
 import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.colony.jobs.registry.IJobDataManager;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -46,8 +47,7 @@ import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.minecolonies.api.util.constant.CitizenConstants.BASE_MAX_HEALTH;
-import static com.minecolonies.api.util.constant.CitizenConstants.MAX_CITIZEN_LEVEL;
+import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
@@ -160,9 +160,9 @@ public class CitizenData implements ICitizenData
     private IJob job;
 
     /**
-     * If the citizen is dirty (Has to be updated on client side).
+     * The field groups which have to be updated on client side.
      */
-    private boolean dirty;
+    private int dirtyFields;
 
     /**
      * Minimum for citizen stats
@@ -220,6 +220,11 @@ public class CitizenData implements ICitizenData
      */
     private final Map<ITextComponent, IInteractionResponseHandler> citizenChatOptions = new HashMap<>();
 
+    /**
+     * The changes since the interactions were last validated, all of them to validate the loaded interactions once.
+     */
+    private final Set<InteractionValidatorTrigger> pendingValidatorTriggers = EnumSet.allOf(InteractionValidatorTrigger.class);
+
     /**
      * Create a CitizenData given an ID.
      * Used as a super-constructor or during loading.
@@ -241,7 +246,7 @@ public class CitizenData implements ICitizenData
         if (citizenChatOptions.containsKey(key))
         {
             citizenChatOptions.get(key).onServerResponseTriggered(response, world, this);
-            markDirty();
+            markDirty(DIRTY_INTERACTIONS);
         }
     }
 
@@ -280,6 +285,9 @@ public class CitizenData implements ICitizenData
         if (citizen != null)
         {
             entity = new WeakReference<>(citizen);
+            //  Citizens without entity are not sent, the clients might not know this one yet. Nothing saved changed.
+            dirtyFields |= DIRTY_ALL;
+            colony.getCitizenManager().markCitizensDirty();
         }
     }
 
@@ -289,10 +297,31 @@ public class CitizenData implements ICitizenData
     @Override
     public void markDirty()
     {
-        dirty = true;
+        markDirty(DIRTY_ALL);
+    }
+
+    @Override
+    public void markDirty(final int fields)
+    {
+        dirtyFields |= fields;
+        if ((fields & DIRTY_INVENTORY) != 0)
+        {
+            pendingValidatorTriggers.add(InteractionValidatorTrigger.INVENTORY);
+        }
+        //  The saved part of the state group, the saturation, marks the section itself when it changes.
+        if ((fields & ~DIRTY_STATE) != 0)
+        {
+            colony.getCitizenManager().markCitizenSectionDirty();
+        }
         colony.getCitizenManager().markCitizensDirty();
     }
 
+    @Override
+    public int getDirtyFields()
+    {
+        return dirtyFields;
+    }
+
     /**
      * Returns a random element in a list.
      *
@@ -521,7 +550,7 @@ public class CitizenData implements ICitizenData
     {
         this.female = isFemale;
         this.name = generateName(new Random());
-        markDirty();
+        markDirty(DIRTY_INFO);
     }
 
     /**
@@ -531,7 +560,7 @@ public class CitizenData implements ICitizenData
     public void setPaused(final boolean p)
     {
         this.paused = p;
-        markDirty();
+        markDirty(DIRTY_INFO);
     }
 
     /**
@@ -564,7 +593,7 @@ public class CitizenData implements ICitizenData
     @Override
     public boolean isDirty()
     {
-        return dirty;
+        return dirtyFields != 0;
     }
 
     /**
@@ -573,7 +602,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void clearDirty()
     {
-        dirty = false;
+        dirtyFields = 0;
     }
 
     /**
@@ -620,11 +649,11 @@ public class CitizenData implements ICitizenData
         if (homeBuilding != null && building != null && !homeBuilding.equals(building))
         {
             homeBuilding.removeCitizen(this);
-            markDirty();
+            markDirty(DIRTY_INFO);
         }
 
         homeBuilding = building;
-        markDirty();
+        markDirty(DIRTY_INFO);
 
         if (getCitizenEntity().isPresent() && getCitizenEntity().get().getCitizenJobHandler().getColonyJob() == null)
         {
@@ -684,7 +713,8 @@ public class CitizenData implements ICitizenData
                 colony.getWorkManager().clearWorkForCitizen(this);
             }
 
-            markDirty();
+            pendingValidatorTriggers.add(InteractionValidatorTrigger.BUILDING);
+            markDirty(DIRTY_INFO);
         }
     }
 
@@ -759,11 +789,14 @@ public class CitizenData implements ICitizenData
     @Override
     public void setJob(final IJob job)
     {
+        final IJob oldJob = this.job;
         this.job = job;
+        colony.getCitizenManager().onCitizenJobChanged(this, oldJob);
+        pendingValidatorTriggers.add(InteractionValidatorTrigger.BUILDING);
 
         getCitizenEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
-        markDirty();
+        markDirty(DIRTY_INFO | DIRTY_SKILLS);
     }
 
     /**
@@ -793,68 +826,102 @@ public class CitizenData implements ICitizenData
     @Override
     public void serializeViewNetworkData(@NotNull final ByteBuf buf)
     {
-        ByteBufUtils.writeUTF8String(buf, name);
-        buf.writeBoolean(female);
+        serializeViewNetworkData(buf, DIRTY_ALL);
+    }
 
-        buf.writeInt(getCitizenEntity().map(AbstractEntityCitizen::getEntityId).orElse(-1));
+    /**
+     * Writes some field groups of the citizen data to a byte buf for transition.
+     * The position is always written.
+     *
+     * @param buf    Buffer to write to.
+     * @param fields the field groups to write.
+     */
+    @Override
+    public void serializeViewNetworkData(@NotNull final ByteBuf buf, final int fields)
+    {
+        buf.writeByte(fields);
 
-        buf.writeBoolean(paused);
+        if ((fields & DIRTY_INFO) != 0)
+        {
+            ByteBufUtils.writeUTF8String(buf, name);
+            buf.writeBoolean(female);
 
-        buf.writeBoolean(isChild);
+            buf.writeInt(getCitizenEntity().map(AbstractEntityCitizen::getEntityId).orElse(-1));
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
-        }
+            buf.writeBoolean(paused);
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
-        }
+            buf.writeBoolean(isChild);
 
-        //  Attributes
-        buf.writeInt(getLevel());
-        buf.writeDouble(getExperience());
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            }
 
-        // If the entity is not present we assumes standard values.
-        buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
-        buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            }
 
-        buf.writeInt(getStrength());
-        buf.writeInt(getEndurance());
-        buf.writeInt(getCharisma());
-        buf.writeInt(getIntelligence());
-        buf.writeInt(getDexterity());
-        buf.writeDouble(getSaturation());
-        buf.writeDouble(citizenHappinessHandler.getHappiness());
+            ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
 
-        citizenHappinessHandler.serializeViewNetworkData(buf);
+            buf.writeInt(colony.getID());
+        }
 
-        ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+        //  Attributes
+        if ((fields & DIRTY_SKILLS) != 0)
+        {
+            buf.writeInt(getLevel());
+            buf.writeDouble(getExperience());
 
-        buf.writeInt(colony.getID());
+            buf.writeInt(getStrength());
+            buf.writeInt(getEndurance());
+            buf.writeInt(getCharisma());
+            buf.writeInt(getIntelligence());
+            buf.writeInt(getDexterity());
+        }
 
-        final NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
-        ByteBufUtils.writeTag(buf, compound);
-        BlockPosUtil.writeToByteBuf(buf, lastPosition == null ? BlockPos.ORIGIN : lastPosition);
+        if ((fields & DIRTY_STATE) != 0)
+        {
+            // If the entity is not present we assumes standard values.
+            buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
+            buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            buf.writeDouble(getSaturation());
+        }
 
-        if (colony.getWorld() != null)
+        if ((fields & DIRTY_HAPPINESS) != 0)
         {
-            final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).collect(Collectors.toList());
+            buf.writeDouble(citizenHappinessHandler.getHappiness());
+            citizenHappinessHandler.serializeViewNetworkData(buf);
+        }
 
-            buf.writeInt(subInteractions.size());
-            for (final IInteractionResponseHandler interactionHandler : subInteractions)
-            {
-                ByteBufUtils.writeTag(buf, interactionHandler.serializeNBT());
-            }
+        if ((fields & DIRTY_INVENTORY) != 0)
+        {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
+            ByteBufUtils.writeTag(buf, compound);
         }
-        else
+
+        if ((fields & DIRTY_INTERACTIONS) != 0)
         {
-            buf.writeInt(0);
+            if (colony.getWorld() != null)
+            {
+                final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).collect(Collectors.toList());
+
+                buf.writeInt(subInteractions.size());
+                for (final IInteractionResponseHandler interactionHandler : subInteractions)
+                {
+                    ByteBufUtils.writeTag(buf, interactionHandler.serializeNBT());
+                }
+            }
+            else
+            {
+                buf.writeInt(0);
+            }
         }
+
+        BlockPosUtil.writeToByteBuf(buf, lastPosition == null ? BlockPos.ORIGIN : lastPosition);
     }
 
     /**
@@ -887,6 +954,7 @@ public class CitizenData implements ICitizenData
         final Tuple<Integer, Double> entry = queryLevelExperienceMap();
         this.levelExperienceMap.put(job.getExperienceTag(), new Tuple<>(lvl, entry.getSecond()));
         job.onLevelUp(lvl);
+        colony.getCitizenManager().markCitizenSectionDirty();
     }
 
     /**
@@ -956,7 +1024,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void increaseSaturation(final double extraSaturation)
     {
-        this.saturation = Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation));
+        setSaturation(Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation)));
     }
 
     /**
@@ -967,8 +1035,23 @@ public class CitizenData implements ICitizenData
     @Override
     public void decreaseSaturation(final double extraSaturation)
     {
-        this.saturation = Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation * Configurations.gameplay.foodModifier));
-        this.justAte = false;
+        setSaturation(Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation * Configurations.gameplay.foodModifier)));
+        setJustAte(false);
+    }
+
+    /**
+     * Set the saturation, the citizens are saved again once it changed by a whole point.
+     * The small decreases of every action are written with the next full write of the colony.
+     *
+     * @param newSaturation the new saturation.
+     */
+    private void setSaturation(final double newSaturation)
+    {
+        if ((int) newSaturation != (int) this.saturation)
+        {
+            colony.getCitizenManager().markCitizenSectionDirty();
+        }
+        this.saturation = newSaturation;
     }
 
     /**
@@ -1136,7 +1219,11 @@ public class CitizenData implements ICitizenData
     @Override
     public void setAsleep(final boolean asleep)
     {
-        isAsleep = asleep;
+        if (isAsleep != asleep)
+        {
+            isAsleep = asleep;
+            colony.getCitizenManager().markCitizenSectionDirty();
+        }
     }
 
     /**
@@ -1147,7 +1234,11 @@ public class CitizenData implements ICitizenData
     @Override
     public void setBedPos(final BlockPos bedPos)
     {
-        this.bedPos = bedPos;
+        if (!Objects.equals(this.bedPos, bedPos))
+        {
+            this.bedPos = bedPos;
+            colony.getCitizenManager().markCitizenSectionDirty();
+        }
     }
 
     /**
@@ -1258,7 +1349,7 @@ public class CitizenData implements ICitizenData
                 dexterity = Math.max(dexterity, Math.min(dexterity + 1, levelCap));
                 break;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1299,7 +1390,7 @@ public class CitizenData implements ICitizenData
     public void setIsChild(final boolean isChild)
     {
         this.isChild = isChild;
-        markDirty();
+        markDirty(DIRTY_INFO);
 
         if (colony != null)
         {
@@ -1334,7 +1425,7 @@ public class CitizenData implements ICitizenData
         {
             this.strength = strength > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : strength;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1353,7 +1444,7 @@ public class CitizenData implements ICitizenData
         {
             this.endurance = endurance > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : endurance;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1372,7 +1463,7 @@ public class CitizenData implements ICitizenData
         {
             this.charisma = charisma > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : charisma;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1391,7 +1482,7 @@ public class CitizenData implements ICitizenData
         {
             this.intelligence = intelligence > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : intelligence;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1410,7 +1501,7 @@ public class CitizenData implements ICitizenData
         {
             this.dexterity = dexterity > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : dexterity;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1450,7 +1541,11 @@ public class CitizenData implements ICitizenData
     @Override
     public void setJustAte(final boolean justAte)
     {
-        this.justAte = justAte;
+        if (this.justAte != justAte)
+        {
+            this.justAte = justAte;
+            colony.getCitizenManager().markCitizenSectionDirty();
+        }
     }
 
     @Override
@@ -1466,7 +1561,7 @@ public class CitizenData implements ICitizenData
             final int newLevel = ExperienceUtils.calculateLevel(newXp);
 
             this.levelExperienceMap.put(job.getExperienceTag(), new Tuple<>(newLevel, newXp));
-            this.markDirty();
+            this.markDirty(DIRTY_SKILLS);
             return xpDrain;
         }
         return 0;
@@ -1485,7 +1580,7 @@ public class CitizenData implements ICitizenData
             final int newLevel = ExperienceUtils.calculateLevel(newXp);
 
             this.levelExperienceMap.put(job.getExperienceTag(), new Tuple<>(newLevel, newXp));
-            this.markDirty();
+            this.markDirty(DIRTY_SKILLS);
         }
     }
 
@@ -1636,45 +1731,79 @@ public class CitizenData implements ICitizenData
     @Override
     public void tick()
     {
-        if (!getCitizenEntity().isPresent() || getCitizenEntity().get().isDead())
+        if (!hasPendingInteractionValidation())
         {
             return;
         }
 
-        final List<IInteractionResponseHandler> toRemove = new ArrayList<>();
+        final Deque<IInteractionResponseHandler> toValidate = new ArrayDeque<>();
         for (final IInteractionResponseHandler handler : citizenChatOptions.values())
         {
-            try
-            {
-                if (!handler.isValid(this))
-                {
-                    toRemove.add(handler);
-                }
-            }
-            catch (final Exception e)
+            if (!Collections.disjoint(handler.getValidatorTriggers(), pendingValidatorTriggers))
             {
-                Log.getLogger().warn("Error during validation of handler: " + handler.getInquiry(), e);
-                // If anything goes wrong in checking validity, remove handler.
-                toRemove.add(handler);
+                toValidate.add(handler);
             }
         }
+        pendingValidatorTriggers.clear();
 
-        if (!toRemove.isEmpty())
+        boolean removed = false;
+        while (!toValidate.isEmpty())
         {
-            markDirty();
-        }
+            final IInteractionResponseHandler handler = toValidate.poll();
+            if (citizenChatOptions.get(handler.getInquiry()) != handler || isValid(handler))
+            {
+                continue;
+            }
 
-        for (final IInteractionResponseHandler handler : toRemove)
-        {
+            removed = true;
             citizenChatOptions.remove(handler.getInquiry());
             for (final ITextComponent comp : handler.getPossibleResponses())
             {
-                if (citizenChatOptions.containsKey(handler.getResponseResult(comp)))
+                final IInteractionResponseHandler child = citizenChatOptions.get(handler.getResponseResult(comp));
+                if (child != null)
                 {
-                    citizenChatOptions.get(handler.getResponseResult(comp)).removeParent(handler.getInquiry());
+                    child.removeParent(handler.getInquiry());
+                    //  The child may have depended on its last parent.
+                    toValidate.add(child);
                 }
             }
         }
+
+        if (removed)
+        {
+            markDirty(DIRTY_INTERACTIONS);
+        }
+    }
+
+    /**
+     * Check if an interaction is still valid.
+     * @param handler the interaction.
+     * @return false if it is not valid or the validation failed.
+     */
+    private boolean isValid(@NotNull final IInteractionResponseHandler handler)
+    {
+        try
+        {
+            return handler.isValid(this);
+        }
+        catch (final Exception e)
+        {
+            Log.getLogger().warn("Error during validation of handler: " + handler.getInquiry(), e);
+            // If anything goes wrong in checking validity, remove handler.
+            return false;
+        }
+    }
+
+    @Override
+    public void markInteractionsForValidation(@NotNull final InteractionValidatorTrigger trigger)
+    {
+        pendingValidatorTriggers.add(trigger);
+    }
+
+    @Override
+    public boolean hasPendingInteractionValidation()
+    {
+        return !pendingValidatorTriggers.isEmpty() && getCitizenEntity().isPresent() && !getCitizenEntity().get().isDead();
     }
 
     @Override
@@ -1687,7 +1816,7 @@ public class CitizenData implements ICitizenData
             {
                 this.citizenChatOptions.put(childHandler.getInquiry(), (ServerCitizenInteractionResponseHandler) childHandler);
             }
-            markDirty();
+            markDirty(DIRTY_INTERACTIONS);
         }
     }
 }
@@ -20,6 +20,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_OFFHAND_HELD_ITEM_SLOT;
 
 /**
@@ -393,6 +394,7 @@ public class CitizenDataView implements ICitizenDataView
 
     /**
      * Deserialize the attributes and variables from transition.
+     * Only the field groups the server sent are updated, the others keep their value.
      *
      * @param buf
      *            Byte buffer to deserialize.
@@ -400,70 +402,92 @@ public class CitizenDataView implements ICitizenDataView
     @Override
     public void deserialize(@NotNull final ByteBuf buf)
     {
-        name = ByteBufUtils.readUTF8String(buf);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
-        paused = buf.readBoolean();
-        isChild = buf.readBoolean();
+        final int fields = buf.readByte();
 
-        homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-        workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+        if ((fields & DIRTY_INFO) != 0)
+        {
+            name = ByteBufUtils.readUTF8String(buf);
+            female = buf.readBoolean();
+            entityId = buf.readInt();
+            paused = buf.readBoolean();
+            isChild = buf.readBoolean();
+
+            homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+
+            job = ByteBufUtils.readUTF8String(buf);
+
+            colonyId = buf.readInt();
+        }
 
         // Attributes
-        level = buf.readInt();
-        experience = buf.readDouble();
-        health = buf.readFloat();
-        maxHealth = buf.readFloat();
-
-        strength = buf.readInt();
-        endurance = buf.readInt();
-        charisma = buf.readInt();
-        intelligence = buf.readInt();
-        dexterity = buf.readInt();
-        saturation = buf.readDouble();
-        happiness = buf.readDouble();
-
-        foodModifier = buf.readDouble();
-        damageModifier = buf.readDouble();
-        houseModifier = buf.readDouble();
-        jobModifier = buf.readDouble();
-        fieldsModifier = buf.readDouble();
-        toolsModifiers = buf.readDouble();
-
-        job = ByteBufUtils.readUTF8String(buf);
-
-        colonyId = buf.readInt();
-
-        final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-        inventory = new InventoryCitizen(this.name, true);
-        final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
-        this.inventory.readFromNBT(nbttaglist);
-        this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
-        this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
+        if ((fields & DIRTY_SKILLS) != 0)
+        {
+            level = buf.readInt();
+            experience = buf.readDouble();
+
+            strength = buf.readInt();
+            endurance = buf.readInt();
+            charisma = buf.readInt();
+            intelligence = buf.readInt();
+            dexterity = buf.readInt();
+        }
 
-        position = BlockPosUtil.readFromByteBuf(buf);
+        if ((fields & DIRTY_STATE) != 0)
+        {
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
+            saturation = buf.readDouble();
+        }
 
-        citizenChatOptions.clear();
-        final int size = buf.readInt();
-        for (int i = 0; i < size; i++)
+        if ((fields & DIRTY_HAPPINESS) != 0)
         {
-            final NBTTagCompound compoundNBT = ByteBufUtils.readTag(buf);
-            final ServerCitizenInteractionResponseHandler handler =
-              (ServerCitizenInteractionResponseHandler) MinecoloniesAPIProxy.getInstance().getInteractionResponseHandlerDataManager().createFrom(this, compoundNBT);
-            citizenChatOptions.put(handler.getInquiry(), handler);
+            happiness = buf.readDouble();
+
+            foodModifier = buf.readDouble();
+            damageModifier = buf.readDouble();
+            houseModifier = buf.readDouble();
+            jobModifier = buf.readDouble();
+            fieldsModifier = buf.readDouble();
+            toolsModifiers = buf.readDouble();
         }
 
-        primaryInteractions = citizenChatOptions.values().stream().filter(IInteractionResponseHandler::isPrimary).sorted(Comparator.comparingInt(e -> e.getPriority().getPriority())).collect(Collectors.toList());
-        if (!primaryInteractions.isEmpty())
+        if ((fields & DIRTY_INVENTORY) != 0)
         {
-            hasAnyPrimaryInteraction = true;
-            hasPrimaryBlockingInteractions = primaryInteractions.get(0).getPriority().getPriority() >= ChatPriority.IMPORTANT.ordinal();
+            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
+            inventory = new InventoryCitizen(this.name, true);
+            final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
+            this.inventory.readFromNBT(nbttaglist);
+            this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
+            this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
         }
-        else
+
+        if ((fields & DIRTY_INTERACTIONS) != 0)
         {
-            hasAnyPrimaryInteraction = false;
-            hasPrimaryBlockingInteractions = false;
+            citizenChatOptions.clear();
+            final int size = buf.readInt();
+            for (int i = 0; i < size; i++)
+            {
+                final NBTTagCompound compoundNBT = ByteBufUtils.readTag(buf);
+                final ServerCitizenInteractionResponseHandler handler =
+                  (ServerCitizenInteractionResponseHandler) MinecoloniesAPIProxy.getInstance().getInteractionResponseHandlerDataManager().createFrom(this, compoundNBT);
+                citizenChatOptions.put(handler.getInquiry(), handler);
+            }
+
+            primaryInteractions = citizenChatOptions.values().stream().filter(IInteractionResponseHandler::isPrimary).sorted(Comparator.comparingInt(e -> e.getPriority().getPriority())).collect(Collectors.toList());
+            if (!primaryInteractions.isEmpty())
+            {
+                hasAnyPrimaryInteraction = true;
+                hasPrimaryBlockingInteractions = primaryInteractions.get(0).getPriority().getPriority() >= ChatPriority.IMPORTANT.ordinal();
+            }
+            else
+            {
+                hasAnyPrimaryInteraction = false;
+                hasPrimaryBlockingInteractions = false;
+            }
         }
+
+        position = BlockPosUtil.readFromByteBuf(buf);
     }
 
     @Override
@@ -20,6 +20,7 @@ import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRate
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.mobs.util.MobEventsUtils;
+import com.minecolonies.api.inventory.WarehouseItemIndex;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
@@ -28,8 +29,10 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.managers.*;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestManagerSyncTracker;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
+import com.minecolonies.coremod.entity.pathfinding.ColonyNavigationGraph;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
 import net.minecraft.block.Block;
@@ -40,12 +43,13 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.nbt.NBTTagString;
 import net.minecraft.nbt.NBTUtil;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.server.permission.PermissionAPI;
 import org.jetbrains.annotations.NotNull;
@@ -93,6 +97,16 @@ public class Colony implements IColony
      */
     private final Map<BlockPos, IBlockState> wayPoints = new HashMap<>();
 
+    /**
+     * Abstract navigation graph for long trips through the colony.
+     */
+    private final ColonyNavigationGraph navigationGraph = new ColonyNavigationGraph(this);
+
+    /**
+     * Index of the items in the warehouse racks.
+     */
+    private final WarehouseItemIndex warehouseItemIndex = new WarehouseItemIndex();
+
     /**
      * Work Manager of the colony (Request System).
      */
@@ -205,11 +219,27 @@ public class Colony implements IColony
      */
     private IRequestManager requestManager;
 
+    /**
+     * Tracks the request system state the colony views have received.
+     */
+    private final RequestManagerSyncTracker requestSyncTracker = new RequestManagerSyncTracker();
+
     /**
      * The NBTTag compound of the colony itself.
      */
     private NBTTagCompound colonyTag;
 
+    /**
+     * Serialized manager sections of the colony tag by their tag, reused by the world saves as long as the manager did not change.
+     * Cached compounds are never modified, so they can be shared between saves.
+     */
+    private final Map<String, NBTTagCompound> savedSections = new HashMap<>();
+
+    /**
+     * The amount of world saves since the sections have been rebuilt entirely.
+     */
+    private int savesSinceFullWrite = 0;
+
     /**
      * List of players visiting the colony.
      */
@@ -565,6 +595,7 @@ public class Colony implements IColony
      */
     public void readFromNBT(@NotNull final NBTTagCompound compound)
     {
+        savedSections.clear();
         manualHiring = compound.getBoolean(TAG_MANUAL_HIRING);
         dimensionId = compound.getInteger(TAG_DIMENSION);
 
@@ -730,6 +761,25 @@ public class Colony implements IColony
      */
     public NBTTagCompound writeToNBT(@NotNull final NBTTagCompound compound)
     {
+        return writeToNBT(compound, false);
+    }
+
+    /**
+     * Write colony to save data.
+     *
+     * @param compound      compound to write to.
+     * @param reuseSections if the cached manager sections which did not change can be reused.
+     * @return the compound.
+     */
+    private NBTTagCompound writeToNBT(@NotNull final NBTTagCompound compound, final boolean reuseSections)
+    {
+        if (!reuseSections || ++savesSinceFullWrite > MAX_SAVES_WITHOUT_FULL_WRITE)
+        {
+            //  Changes which did not mark their manager dirty are picked up here.
+            savedSections.clear();
+            savesSinceFullWrite = 0;
+        }
+
         //  Core attributes
         compound.setInteger(TAG_ID, id);
         compound.setInteger(TAG_DIMENSION, dimensionId);
@@ -752,13 +802,17 @@ public class Colony implements IColony
         // Permissions
         permissions.savePermissions(compound);
 
-        final NBTTagCompound buildingCompound = new NBTTagCompound();
-        buildingManager.writeToNBT(buildingCompound);
-        compound.setTag(TAG_BUILDING_MANAGER, buildingCompound);
+        compound.setTag(TAG_BUILDING_MANAGER, savedSections.computeIfAbsent(TAG_BUILDING_MANAGER, tag -> {
+            final NBTTagCompound buildingCompound = new NBTTagCompound();
+            buildingManager.writeToNBT(buildingCompound);
+            return buildingCompound;
+        }));
 
-        final NBTTagCompound citizenCompound = new NBTTagCompound();
-        citizenManager.writeToNBT(citizenCompound);
-        compound.setTag(TAG_CITIZEN_MANAGER, citizenCompound);
+        compound.setTag(TAG_CITIZEN_MANAGER, savedSections.computeIfAbsent(TAG_CITIZEN_MANAGER, tag -> {
+            final NBTTagCompound citizenCompound = new NBTTagCompound();
+            citizenManager.writeToNBT(citizenCompound);
+            return citizenCompound;
+        }));
 
         colonyHappinessManager.getLockedHappinessModifier().ifPresent(d -> compound.setDouble(TAG_HAPPINESS_MODIFIER, d));
 
@@ -844,9 +898,11 @@ public class Colony implements IColony
     public void onWorldLoad(@NotNull final World w)
     {
         this.world = w;
-        // Register a new event handler
-        eventHandler = new ColonyPermissionEventHandler(this);
-        MinecraftForge.EVENT_BUS.register(eventHandler);
+        // The events are forwarded by the global permission event dispatcher
+        if (eventHandler == null)
+        {
+            eventHandler = new ColonyPermissionEventHandler(this);
+        }
     }
 
     /**
@@ -987,6 +1043,7 @@ public class Colony implements IColony
         }
 
         colonyStateMachine.tick();
+        navigationGraph.tick(event.world);
     }
 
     /**
@@ -1140,6 +1197,17 @@ public class Colony implements IColony
         return requestManager;
     }
 
+    /**
+     * Get the tracker of the request system state the colony views have received.
+     *
+     * @return the tracker.
+     */
+    @NotNull
+    public RequestManagerSyncTracker getRequestSyncTracker()
+    {
+        return requestSyncTracker;
+    }
+
     @Override
     public boolean hasWillRaidTonight()
     {
@@ -1167,6 +1235,17 @@ public class Colony implements IColony
         isActive = true;
     }
 
+    /**
+     * Marks a manager section of the colony tag dirty, so the next save serializes it again.
+     *
+     * @param sectionTag the tag of the section, like the building manager tag.
+     */
+    public void markSectionDirty(@NotNull final String sectionTag)
+    {
+        savedSections.remove(sectionTag);
+        isActive = true;
+    }
+
     @Override
     public boolean canBeAutoDeleted()
     {
@@ -1317,6 +1396,7 @@ public class Colony implements IColony
     public void addWayPoint(final BlockPos point, final IBlockState block)
     {
         wayPoints.put(point, block);
+        navigationGraph.onBlockChanged(point);
         this.markDirty();
     }
 
@@ -1463,6 +1543,12 @@ public class Colony implements IColony
         return progressManager;
     }
 
+    @Override
+    public WarehouseItemIndex getWarehouseItemIndex()
+    {
+        return warehouseItemIndex;
+    }
+
     /**
      * Get all visiting players.
      *
@@ -1512,7 +1598,9 @@ public class Colony implements IColony
         {
             if (this.colonyTag == null || this.isActive)
             {
-                this.writeToNBT(new NBTTagCompound());
+                //  The last save before the server stops writes everything.
+                final MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+                this.writeToNBT(new NBTTagCompound(), server != null && server.isServerRunning());
             }
         }
         catch (final Exception e)
@@ -1758,12 +1846,24 @@ public class Colony implements IColony
     public void addLoadedChunk(final long chunkPos)
     {
         loadedChunks.add(chunkPos);
+        navigationGraph.onChunkLoaded(chunkPos);
     }
 
     @Override
     public void removeLoadedChunk(final long chunkPos)
     {
         loadedChunks.remove(chunkPos);
+        navigationGraph.onChunkUnloaded(chunkPos);
+    }
+
+    /**
+     * Get the abstract navigation graph of the colony.
+     *
+     * @return the graph.
+     */
+    public ColonyNavigationGraph getNavigationGraph()
+    {
+        return navigationGraph;
     }
 
     @Override
@@ -13,6 +13,7 @@ import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.util.ChunkLoadStorage;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.StructureCache;
 import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
 import com.minecolonies.coremod.util.BackUpHelper;
@@ -28,7 +29,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -209,15 +209,6 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
-            {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
-
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
@@ -965,8 +956,10 @@ public final class ColonyManager implements IColonyManager
             if (loaded)
             {
                 BackUpHelper.backupColonyData();
+                BackUpHelper.waitForPendingSaves();
                 loaded = false;
             }
+            StructureCache.clear();
         }
     }
 
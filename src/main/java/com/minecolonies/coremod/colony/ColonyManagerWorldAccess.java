@@ -1,8 +1,12 @@
 package com.minecolonies.coremod.colony;
 
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.WorldSnapshotProvider;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -14,7 +18,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Allows us to respond to entity addition and removal events.
+ * Allows us to respond to entity addition and removal events and to block changes.
  */
 public class ColonyManagerWorldAccess implements IWorldEventListener
 {
@@ -22,8 +26,17 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(@NotNull final World worldIn, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState, final int flags)
     {
-        //Not needed
+        if (oldState != newState)
+        {
+            WorldSnapshotProvider.getInstance().onBlockChanged(worldIn, pos);
+            PathCache.getInstance().onBlockChanged(worldIn, pos);
 
+            final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(worldIn, pos);
+            if (colony instanceof Colony)
+            {
+                ((Colony) colony).getNavigationGraph().onBlockChanged(pos);
+            }
+        }
     }
 
     @Override
@@ -20,8 +20,11 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.permissions.PermissionsView;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestManagerSyncTracker;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
+import com.minecolonies.coremod.network.messages.ColonyViewResyncMessage;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.TownHallRenameMessage;
 import io.netty.buffer.ByteBuf;
@@ -55,6 +58,13 @@ public final class ColonyView implements IColonyView
      */
     private static final int MAX_BYTES_NBTCOMPOUND = (int) 1e6;
 
+    /**
+     * The ways the request system is part of the view data.
+     */
+    private static final byte REQUESTS_UNCHANGED = 0;
+    private static final byte REQUESTS_SNAPSHOT  = 1;
+    private static final byte REQUESTS_DELTA     = 2;
+
     //  General Attributes
     private final int                            id;
     private final Map<Integer, WorkOrderView>    workOrders    = new HashMap<>();
@@ -148,6 +158,16 @@ public final class ColonyView implements IColonyView
      */
     private IRequestManager requestManager;
 
+    /**
+     * The version of the request system state the view has.
+     */
+    private int requestSyncVersion;
+
+    /**
+     * If a full request system snapshot got requested because the view got out of sync.
+     */
+    private boolean awaitingRequestSnapshot = false;
+
     /**
      * The number of raiders in the horde.
      */
@@ -215,9 +235,9 @@ public final class ColonyView implements IColonyView
      *
      * @param colony            Colony to write data about.
      * @param buf               {@link ByteBuf} to write data in.
-     * @param hasNewSubscribers true if there is a new subscription.
+     * @param fullRequestSync   true if the full request system has to be sent, instead of what changed since the last update.
      */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull ByteBuf buf, boolean hasNewSubscribers)
+    public static void serializeNetworkData(@NotNull Colony colony, @NotNull ByteBuf buf, boolean fullRequestSync)
     {
         //  General Attributes
         ByteBufUtils.writeUTF8String(buf, colony.getName());
@@ -258,25 +278,7 @@ public final class ColonyView implements IColonyView
         buf.writeBoolean(colony.canMoveIn());
         //  Citizens are sent as a separate packet
 
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
-        {
-            final int preSize = buf.writerIndex();
-            final int preState = buf.readerIndex();
-            buf.writeBoolean(true);
-            ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.MAX_BYTES_NBTCOMPOUND)
-            {
-                colony.getRequestManager().reset();
-                buf.setIndex(preState, preSize);
-                buf.writeBoolean(true);
-                ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
-            }
-        }
-        else
-        {
-            buf.writeBoolean(false);
-        }
+        serializeRequestManager(colony, buf, fullRequestSync);
 
         buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
         for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
@@ -701,6 +703,48 @@ public final class ColonyView implements IColonyView
         return citizens.get(id);
     }
 
+    /**
+     * Write the request system of a colony, as a full snapshot or as the changes since the last update.
+     *
+     * @param colony          Colony to write the request system of.
+     * @param buf             {@link ByteBuf} to write data in.
+     * @param fullRequestSync true if the full request system has to be sent.
+     */
+    private static void serializeRequestManager(@NotNull final Colony colony, @NotNull final ByteBuf buf, final boolean fullRequestSync)
+    {
+        final IRequestManager requestManager = colony.getRequestManager();
+        final RequestManagerSyncTracker tracker = colony.getRequestSyncTracker();
+        if (requestManager == null || !(requestManager.isDirty() || fullRequestSync))
+        {
+            buf.writeByte(REQUESTS_UNCHANGED);
+            return;
+        }
+
+        if (!fullRequestSync && requestManager instanceof IStandardRequestManager && tracker.canWriteDelta((IStandardRequestManager) requestManager))
+        {
+            buf.writeByte(REQUESTS_DELTA);
+            buf.writeInt(tracker.getVersion());
+            final NBTTagCompound delta = tracker.writeDelta((IStandardRequestManager) requestManager);
+            buf.writeInt(tracker.getVersion());
+            ByteBufUtils.writeTag(buf, delta);
+            return;
+        }
+
+        final int preSize = buf.writerIndex();
+        final int preState = buf.readerIndex();
+        buf.writeByte(REQUESTS_SNAPSHOT);
+        ByteBufUtils.writeTag(buf, requestManager.serializeNBT());
+        final int postSize = buf.writerIndex();
+        if ((postSize - preSize) >= ColonyView.MAX_BYTES_NBTCOMPOUND)
+        {
+            requestManager.reset();
+            buf.setIndex(preState, preSize);
+            buf.writeByte(REQUESTS_SNAPSHOT);
+            ByteBufUtils.writeTag(buf, requestManager.serializeNBT());
+        }
+        buf.writeInt(requestManager instanceof IStandardRequestManager ? tracker.onFullSnapshot((IStandardRequestManager) requestManager) : 0);
+    }
+
     /**
      * Populate a ColonyView from the network data.
      *
@@ -757,11 +801,31 @@ public final class ColonyView implements IColonyView
         this.manualHousing = buf.readBoolean();
         this.moveIn = buf.readBoolean();
 
-        if (buf.readBoolean())
+        final byte requestSync = buf.readByte();
+        if (requestSync == REQUESTS_SNAPSHOT)
         {
             final NBTTagCompound compound = ByteBufUtils.readTag(buf);
             this.requestManager = new StandardRequestManager(this);
             this.requestManager.deserializeNBT(compound);
+            this.requestSyncVersion = buf.readInt();
+            this.awaitingRequestSnapshot = false;
+        }
+        else if (requestSync == REQUESTS_DELTA)
+        {
+            final int baseVersion = buf.readInt();
+            final int version = buf.readInt();
+            final NBTTagCompound delta = ByteBufUtils.readTag(buf);
+            if (requestManager instanceof IStandardRequestManager
+                  && RequestManagerSyncTracker.applyDeltaIfCurrent((IStandardRequestManager) requestManager, requestSyncVersion, baseVersion, delta))
+            {
+                this.requestSyncVersion = version;
+            }
+            else if (!awaitingRequestSnapshot)
+            {
+                //  Missed an update, the deltas can not be applied anymore until the full state got resent.
+                awaitingRequestSnapshot = true;
+                MineColonies.getNetwork().sendToServer(new ColonyViewResyncMessage(this));
+            }
         }
 
         final int barbSpawnListSize = buf.readInt();
@@ -5,12 +5,12 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.ISchematicProvider;
+import com.minecolonies.api.colony.interactionhandling.InteractionValidatorTrigger;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestSystemBuildingDataStore;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
@@ -47,6 +47,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
@@ -128,6 +129,17 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         return this.customName;
     }
 
+    @Override
+    public void setCorners(final int x1, final int x2, final int z1, final int z2)
+    {
+        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = getCorners();
+        super.setCorners(x1, x2, z1, z2);
+        if (corners.getFirst().getFirst() != x1 || corners.getFirst().getSecond() != x2 || corners.getSecond().getFirst() != z1 || corners.getSecond().getSecond() != z2)
+        {
+            colony.getBuildingManager().onBuildingCornersChanged(this);
+        }
+    }
+
     /**
      * Executed when a new day start.
      */
@@ -337,6 +349,12 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         {
             colony.getBuildingManager().markBuildingsDirty();
         }
+
+        //  Only the interactions of the own workers and residents can depend on this building.
+        for (final ICitizenData citizen : getAssignedCitizen())
+        {
+            citizen.markInteractionsForValidation(InteractionValidatorTrigger.BUILDING);
+        }
     }
 
     /**
@@ -608,19 +626,15 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         }
         ConstructionTapeHelper.removeConstructionTape(getCorners(), colony.getWorld());
         colony.getProgressManager().progressBuildBuilding(this,
-          colony.getBuildingManager().getBuildings().values().stream()
-            .filter(building -> building instanceof AbstractBuildingWorker).mapToInt(ISchematicProvider::getBuildingLevel).sum(),
-          colony.getBuildingManager().getBuildings().values().stream()
-            .filter(building -> building instanceof BuildingHome).mapToInt(ISchematicProvider::getBuildingLevel).sum()
+          colony.getBuildingManager().getBuildingsOfType(AbstractBuildingWorker.class).stream().mapToInt(ISchematicProvider::getBuildingLevel).sum(),
+          colony.getBuildingManager().getBuildingsOfType(BuildingHome.class).stream().mapToInt(ISchematicProvider::getBuildingLevel).sum()
         );
         final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(this, newLevel);
-        final Structure wrapper = new Structure(colony.getWorld(), workOrder.getStructureName(), new PlacementSettings());
-        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-          = ColonyUtils.calculateCorners(this.getPosition(),
-          colony.getWorld(),
-          wrapper,
+        final Structure wrapper = StructureCache.getTemplate(colony.getWorld(),
+          workOrder.getStructureName(),
           workOrder.getRotation(colony.getWorld()),
-          workOrder.isMirrored());
+          workOrder.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
+        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = ColonyUtils.calculateCorners(this.getPosition(), wrapper);
         this.setHeight(wrapper.getHeight());
         this.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
         this.isBuilt = true;
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony.buildings;
 
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.BuildingInventorySummary;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
@@ -67,6 +68,12 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
      */
     private boolean priorityStatic = false;
 
+    /**
+     * The item counts of the containers, null until asked for.
+     */
+    @Nullable
+    private BuildingInventorySummary inventorySummary;
+
     /**
      * The constructor for the building container.
      * @param pos the position of it.
@@ -134,6 +141,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
     public void alterPickUpPriority(final int value)
     {
         this.pickUpPriority = MathHelper.clamp(this.pickUpPriority + value, 1, MAX_PRIO);
+        markSaveDirty();
     }
 
     /**
@@ -145,6 +153,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
     public void setPickUpPriority(final int pickUpPriority)
     {
         this.pickUpPriority = MathHelper.clamp(pickUpPriority, 1, MAX_PRIO);
+        markSaveDirty();
     }
 
     /**
@@ -165,6 +174,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
     public void alterPriorityState()
     {
         this.priorityStatic = !this.priorityStatic;
+        markSaveDirty();
     }
 
     /**
@@ -179,6 +189,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
         {
             containerList.add(pos);
         }
+        markSaveDirty();
     }
 
     /**
@@ -190,6 +201,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
     public void removeContainerPosition(final BlockPos pos)
     {
         containerList.remove(pos);
+        markSaveDirty();
     }
 
     /**
@@ -203,6 +215,32 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
         return new ArrayList<>(containerList);
     }
 
+    @NotNull
+    @Override
+    public BuildingInventorySummary getInventorySummary()
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return BuildingInventorySummary.EMPTY;
+        }
+
+        final List<BlockPos> containers = new ArrayList<>(containerList.size() + 1);
+        containers.add(getPosition());
+        for (final BlockPos pos : containerList)
+        {
+            if (!pos.equals(getPosition()))
+            {
+                containers.add(pos);
+            }
+        }
+        if (inventorySummary == null || !inventorySummary.isValid(world, containers))
+        {
+            inventorySummary = BuildingInventorySummary.of(world, containers);
+        }
+        return inventorySummary;
+    }
+
     /**
      * Register a blockState and position.
      * We suppress this warning since this parameter will be used in child classes which override this method.
@@ -114,6 +114,7 @@ public abstract class AbstractBuildingFurnaceUser extends AbstractFilterableList
     public void removeFromFurnaces(final BlockPos pos)
     {
         furnaces.remove(pos);
+        markSaveDirty();
     }
 
     /**
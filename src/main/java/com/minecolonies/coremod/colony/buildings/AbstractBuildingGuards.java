@@ -25,6 +25,7 @@ import com.minecolonies.coremod.network.messages.GuardMobAttackListMessage;
 import com.minecolonies.coremod.util.AttributeModifierUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.entity.monster.EntityMob;
 import net.minecraft.entity.player.EntityPlayer;
@@ -36,7 +37,9 @@ import net.minecraft.nbt.NBTUtil;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Tuple;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.registry.EntityEntry;
@@ -85,6 +88,17 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
      */
     private static final int VISION_RANGE_PER_LEVEL = 5;
 
+    /**
+     * Blocks an entity lookup is grown by, so it also covers the search areas of the other guards close by.
+     */
+    private static final int SHARED_LOOKUP_MARGIN = 8;
+
+    /**
+     * Ticks an entity lookup is shared for, guards search their targets once per second at different ticks.
+     * Entities rarely move further than the lookup margin within that time.
+     */
+    private static final int SHARED_LOOKUP_TICKS = 20;
+
     /**
      * Whether the guardType will be assigned manually.
      */
@@ -140,6 +154,21 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
      */
     private boolean tightGrouping;
 
+    /**
+     * The area of the last entity lookup of a guard.
+     */
+    private AxisAlignedBB lastLookupArea = null;
+
+    /**
+     * The world tick of the last entity lookup.
+     */
+    private long lastLookupTick = -1;
+
+    /**
+     * The entities found by the last entity lookup.
+     */
+    private List<EntityLivingBase> lastLookupEntities = new ArrayList<>();
+
     /**
      * The abstract constructor of the building.
      *
@@ -462,6 +491,42 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
         return patrolTargets.get(0);
     }
 
+    @Override
+    public List<EntityLivingBase> getEntitiesWithinArea(@NotNull final AxisAlignedBB area)
+    {
+        final World world = getColony().getWorld();
+        final long age = world.getTotalWorldTime() - lastLookupTick;
+        if (age < 0 || age >= SHARED_LOOKUP_TICKS || lastLookupArea == null || !contains(lastLookupArea, area))
+        {
+            lastLookupTick = world.getTotalWorldTime();
+            lastLookupArea = area.grow(SHARED_LOOKUP_MARGIN);
+            lastLookupEntities = world.getEntitiesWithinAABB(EntityLivingBase.class, lastLookupArea);
+        }
+
+        final List<EntityLivingBase> entities = new ArrayList<>();
+        for (final EntityLivingBase entity : lastLookupEntities)
+        {
+            if (entity.getEntityBoundingBox().intersects(area))
+            {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Check if an area lies completely within another one.
+     *
+     * @param outer the outer area.
+     * @param inner the inner area.
+     * @return true if so.
+     */
+    private static boolean contains(@NotNull final AxisAlignedBB outer, @NotNull final AxisAlignedBB inner)
+    {
+        return outer.minX <= inner.minX && outer.minY <= inner.minY && outer.minZ <= inner.minZ
+                 && outer.maxX >= inner.maxX && outer.maxY >= inner.maxY && outer.maxZ >= inner.maxZ;
+    }
+
     /**
      * Getter for the patrol distance the guard currently has.
      *
@@ -778,6 +843,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
     public void setRetrieveOnLowHealth(final boolean retrieve)
     {
         this.retrieveOnLowHealth = retrieve;
+        markSaveDirty();
     }
 
     /**
@@ -800,6 +866,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
     public void setPatrolManually(final boolean patrolManually)
     {
         this.patrolManually = patrolManually;
+        markSaveDirty();
     }
 
     /**
@@ -822,6 +889,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
     public void setAssignManually(final boolean assignManually)
     {
         this.assignManually = assignManually;
+        markSaveDirty();
     }
 
     /**
@@ -844,6 +912,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
     public void setTightGrouping(final boolean tightGrouping)
     {
         this.tightGrouping = tightGrouping;
+        markSaveDirty();
     }
 
     /**
@@ -866,6 +935,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
     public void setGuardPos(final BlockPos guardPos)
     {
         this.guardPos = guardPos;
+        markSaveDirty();
     }
 
     /**
@@ -892,6 +962,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker impl
         {
             mobsToAttack.put(entry.getEntityEntry().getEntityClass(), entry);
         }
+        markSaveDirty();
     }
 
     /**
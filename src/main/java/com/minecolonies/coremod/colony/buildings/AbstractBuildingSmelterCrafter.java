@@ -201,6 +201,7 @@ public abstract class AbstractBuildingSmelterCrafter extends AbstractFilterableL
     public void removeFromFurnaces(final BlockPos pos)
     {
         this.furnaces.remove(pos);
+        markSaveDirty();
     }
 
     /**
@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.buildings.HiringMode;
 import com.minecolonies.api.colony.buildings.IBuildingWorker;
 import com.minecolonies.api.colony.buildings.IBuildingWorkerView;
+import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
@@ -150,9 +151,20 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Nullable
     public IRecipeStorage getFirstRecipe(final ItemStack stack)
     {
+        final Set<IToken> candidates = IColonyManager.getInstance().getRecipeManager().getRecipeIdsForOutput(stack);
+        if (candidates.isEmpty())
+        {
+            return null;
+        }
+
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            if (!candidates.contains(token))
+            {
+                continue;
+            }
+
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (storage != null && storage.getPrimaryOutput().isItemEqual(stack))
             {
                 return storage;
@@ -172,7 +184,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     {
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (storage != null && stackPredicate.test(storage.getPrimaryOutput()))
             {
                 return storage;
@@ -202,9 +214,20 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Override
     public IRecipeStorage getFirstFullFillableRecipe(final ItemStack tempStack, int count)
     {
+        final Set<IToken> candidates = IColonyManager.getInstance().getRecipeManager().getRecipeIdsForOutput(tempStack);
+        if (candidates.isEmpty())
+        {
+            return null;
+        }
+
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            if (!candidates.contains(token))
+            {
+                continue;
+            }
+
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if(storage != null && storage.getPrimaryOutput().isItemEqual(tempStack))
             {
                 final List<IItemHandler> handlers = getHandlers();
@@ -222,7 +245,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     {
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if(storage != null && stackPredicate.test(storage.getPrimaryOutput()))
             {
                 final List<IItemHandler> handlers = getHandlers();
@@ -261,6 +284,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             recipes.set(i, recipes.get(j));
             recipes.set(j, storage);
         }
+        markSaveDirty();
     }
 
     /**
@@ -331,7 +355,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
         {
             citizen.setWorkBuilding(this);
             citizen.getJob().onLevelUp(citizen.getLevel());
-            colony.getProgressManager().progressEmploy(colony.getCitizenManager().getCitizens().stream().filter(citizenData -> citizenData.getJob() != null).collect(Collectors.toList()).size());
+            colony.getProgressManager().progressEmploy(colony.getCitizenManager().getCitizensWithJob(IJob.class).size());
         }
         return true;
     }
@@ -490,7 +514,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
         final List<IRecipeStorage> storages = new ArrayList<>();
         for(final IToken token: new ArrayList<>(recipes))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if(storage == null)
             {
                 removeRecipe(token);
@@ -52,6 +52,12 @@ public abstract class AbstractCitizenAssignable extends AbstractSchematicProvide
         assignedCitizen.clear();
     }
 
+    @Override
+    protected void markSaveDirty()
+    {
+        colony.getBuildingManager().markBuildingSectionDirty();
+    }
+
     /**
      * Returns the colony of the building.
      *
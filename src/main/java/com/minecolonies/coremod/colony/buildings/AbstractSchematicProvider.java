@@ -182,6 +182,7 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider
         this.cornerX2 = x2;
         this.cornerZ1 = z1;
         this.cornerZ2 = z2;
+        markSaveDirty();
     }
 
     /**
@@ -193,6 +194,7 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider
     public void setHeight(final int height)
     {
         this.height = height;
+        markSaveDirty();
     }
 
     /**
@@ -250,6 +252,7 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider
     public void setRotation(final int rotation)
     {
         this.rotation = rotation;
+        markSaveDirty();
     }
 
     /**
@@ -334,6 +337,12 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider
         dirty = false;
     }
 
+    /**
+     * Marks saved data of the building changed which the views do not need, so the buildings are serialized again on the next save.
+     * {@link #markDirty()} covers both.
+     */
+    protected abstract void markSaveDirty();
+
     /**
      * Marks the instance and the building dirty.
      */
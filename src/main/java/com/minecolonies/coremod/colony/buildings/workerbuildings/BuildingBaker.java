@@ -156,6 +156,7 @@ public class BuildingBaker extends AbstractFilterableListBuilding
     public void addToFurnaces(final BlockPos pos)
     {
         furnaces.put(pos, null);
+        markSaveDirty();
     }
 
     /**
@@ -334,6 +335,7 @@ public class BuildingBaker extends AbstractFilterableListBuilding
     public void removeFromFurnaces(final BlockPos pos)
     {
         furnaces.remove(pos);
+        markSaveDirty();
     }
 
     /**
@@ -352,6 +354,7 @@ public class BuildingBaker extends AbstractFilterableListBuilding
     public void removeProductFromFurnace(final BlockPos pos)
     {
         furnaces.replace(pos, null);
+        markSaveDirty();
     }
 
     /**
@@ -143,6 +143,7 @@ public class BuildingBarracksTower extends AbstractBuildingGuards
     public void addBarracks(final BlockPos pos)
     {
         barracks = pos;
+        markSaveDirty();
     }
 
     /**
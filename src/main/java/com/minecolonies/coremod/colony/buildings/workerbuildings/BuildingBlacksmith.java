@@ -79,7 +79,7 @@ public class BuildingBlacksmith extends AbstractBuildingCrafter
             return false;
         }
 
-        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
         if(storage == null)
         {
             return false;
@@ -141,6 +141,7 @@ public class BuildingBuilder extends AbstractBuildingStructureBuilder
     public void setPurgedMobsToday(final boolean purgedMobsToday)
     {
         this.purgedMobsToday = purgedMobsToday;
+        markSaveDirty();
     }
 
     /**
@@ -209,11 +210,11 @@ public class BuildingBuilder extends AbstractBuildingStructureBuilder
                 continue;
             }
 
-            for (@NotNull final ICitizenData otherBuilder : getColony().getCitizenManager().getCitizens())
+            for (@NotNull final ICitizenData otherBuilder : getColony().getCitizenManager().getCitizensWithJob(JobBuilder.class))
             {
                 final JobBuilder job = otherBuilder.getJob(JobBuilder.class);
 
-                if (job == null || otherBuilder.getWorkBuilding() == null || citizen.getId() == otherBuilder.getId())
+                if (otherBuilder.getWorkBuilding() == null || citizen.getId() == otherBuilder.getId())
                 {
                     continue;
                 }
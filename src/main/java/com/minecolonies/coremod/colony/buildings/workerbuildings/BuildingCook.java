@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.buildings.workerbuildings;
 
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.buildings.ModBuildings;
 import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
@@ -14,7 +15,6 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuildingFurnaceUser;
 import com.minecolonies.coremod.colony.buildings.views.AbstractFilterableListsView;
 import com.minecolonies.coremod.colony.jobs.JobCook;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntityFurnace;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
@@ -52,8 +52,8 @@ public class BuildingCook extends AbstractBuildingFurnaceUser
     {
         super(c, l);
         keepX.put(ItemStackUtils.ISFOOD, new Tuple<>(STACKSIZE, true));
-        keepX.put(ItemStackUtils.ISCOOKABLE, new Tuple<>(STACKSIZE, true));
-        keepX.put(TileEntityFurnace::isItemFuel, new Tuple<>(STACKSIZE, true));
+        keepX.put(IColonyManager.getInstance().getCompatibilityManager()::isCookable, new Tuple<>(STACKSIZE, true));
+        keepX.put(IColonyManager.getInstance().getCompatibilityManager()::isFuel, new Tuple<>(STACKSIZE, true));
     }
 
     @NotNull
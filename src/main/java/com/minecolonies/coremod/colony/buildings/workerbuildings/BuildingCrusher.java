@@ -165,6 +165,7 @@ public class BuildingCrusher extends AbstractBuildingCrafter
     {
         this.crusherMode = crusherMode;
         this.dailyQuantity = dailyQuantity;
+        markSaveDirty();
     }
 
     /**
@@ -185,6 +186,7 @@ public class BuildingCrusher extends AbstractBuildingCrafter
     public void setCurrentDailyQuantity(final int currentDailyQuantity)
     {
         this.currentDailyQuantity = currentDailyQuantity;
+        markSaveDirty();
     }
 
     /**
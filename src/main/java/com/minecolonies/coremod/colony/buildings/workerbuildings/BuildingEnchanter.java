@@ -234,6 +234,7 @@ public class BuildingEnchanter extends AbstractBuildingWorker
     public void setAsGathered(final BlockPos pos)
     {
         buildingToGatherFrom.put(pos, true);
+        markSaveDirty();
     }
 
     /**
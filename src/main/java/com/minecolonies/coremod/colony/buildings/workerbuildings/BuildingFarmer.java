@@ -540,6 +540,7 @@ public class BuildingFarmer extends AbstractBuildingWorker
     public void setAssignManually(final boolean assignManually)
     {
         this.shouldAssignManually = assignManually;
+        markSaveDirty();
     }
 
     /**
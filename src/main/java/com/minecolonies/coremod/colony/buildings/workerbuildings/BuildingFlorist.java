@@ -181,6 +181,7 @@ public class BuildingFlorist extends AbstractFilterableListBuilding
     public void removePlantableGround(final BlockPos pos)
     {
         this.plantGround.remove(pos);
+        markSaveDirty();
     }
 
     /**
@@ -4,7 +4,6 @@ import com.minecolonies.api.advancements.AdvancementTriggers;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyView;
-import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.ModBuildings;
 import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
@@ -331,13 +330,8 @@ public class BuildingHome extends AbstractBuilding
             else
             {
                 // Assign to a different citizen hut and adopt
-                for (final IBuilding build : colony.getBuildingManager().getBuildings().values())
+                for (final BuildingHome build : colony.getBuildingManager().getBuildingsOfType(BuildingHome.class))
                 {
-                    if (!(build instanceof BuildingHome))
-                    {
-                        continue;
-                    }
-
                     // Try assigning
                     if (build.assignCitizen(newCitizen))
                     {
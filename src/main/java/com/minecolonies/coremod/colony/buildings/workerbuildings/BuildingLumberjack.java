@@ -328,6 +328,7 @@ public class BuildingLumberjack extends AbstractFilterableListBuilding
     {
         this.startRestriction = startPosition;
         this.endRestriction = endPosition;
+        markSaveDirty();
     }
 
     public BlockPos getStartRestriction()
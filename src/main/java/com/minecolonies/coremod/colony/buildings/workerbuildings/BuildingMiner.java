@@ -330,6 +330,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void addLevel(final Level currentLevel)
     {
         levels.add(currentLevel);
+        markSaveDirty();
     }
 
     /**
@@ -377,6 +378,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
         this.currentLevel = currentLevel;
         this.activeNode = null;
         this.oldNode = null;
+        markSaveDirty();
     }
 
     /**
@@ -426,6 +428,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setLadderLocation(final BlockPos ladderLocation)
     {
         this.ladderLocation = ladderLocation;
+        markSaveDirty();
     }
 
     /**
@@ -446,6 +449,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setFoundLadder(final boolean foundLadder)
     {
         this.foundLadder = foundLadder;
+        markSaveDirty();
     }
 
     /**
@@ -466,6 +470,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setVectorX(final int vectorX)
     {
         this.vectorX = vectorX;
+        markSaveDirty();
     }
 
     /**
@@ -486,6 +491,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setVectorZ(final int vectorZ)
     {
         this.vectorZ = vectorZ;
+        markSaveDirty();
     }
 
     /**
@@ -506,6 +512,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setCobbleLocation(final BlockPos pos)
     {
         this.cobbleLocation = pos;
+        markSaveDirty();
     }
 
     /**
@@ -516,6 +523,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setShaftStart(final BlockPos pos)
     {
         this.shaftStart = pos;
+        markSaveDirty();
     }
 
     /**
@@ -560,6 +568,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setClearedShaft(final boolean clearedShaft)
     {
         this.clearedShaft = clearedShaft;
+        markSaveDirty();
     }
 
     /**
@@ -579,6 +588,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setActiveNode(final Node activeNode)
     {
         this.activeNode = activeNode;
+        markSaveDirty();
     }
 
     /**
@@ -597,6 +607,7 @@ public class BuildingMiner extends AbstractBuildingStructureBuilder
     public void setOldNode(final Node oldNode)
     {
         this.oldNode = oldNode;
+        markSaveDirty();
     }
 
     @Override
@@ -87,7 +87,7 @@ public class BuildingSawmill extends AbstractBuildingCrafter
             return false;
         }
 
-        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
         if(storage == null)
         {
             return false;
@@ -168,6 +168,7 @@ public class BuildingSifter extends AbstractBuildingWorker
     public void setCurrentDailyQuantity(final int currentDailyQuantity)
     {
         this.currentDailyQuantity = currentDailyQuantity;
+        markSaveDirty();
     }
 
     /**
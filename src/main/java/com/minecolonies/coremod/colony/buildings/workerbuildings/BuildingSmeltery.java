@@ -16,7 +16,6 @@ import com.minecolonies.coremod.colony.jobs.JobSmelter;
 import net.minecraft.item.ItemArmor;
 import net.minecraft.item.ItemSword;
 import net.minecraft.item.ItemTool;
-import net.minecraft.tileentity.TileEntityFurnace;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
@@ -58,7 +57,7 @@ public class BuildingSmeltery extends AbstractBuildingFurnaceUser
     {
         super(c, l);
         keepX.put(IColonyManager.getInstance().getCompatibilityManager()::isOre, new Tuple<>(Integer.MAX_VALUE, true));
-        keepX.put(TileEntityFurnace::isItemFuel, new Tuple<>(Integer.MAX_VALUE, true));
+        keepX.put(IColonyManager.getInstance().getCompatibilityManager()::isFuel, new Tuple<>(Integer.MAX_VALUE, true));
         keepX.put(stack -> !ItemStackUtils.isEmpty(stack)
                 && (stack.getItem() instanceof ItemSword || stack.getItem() instanceof ItemTool || stack.getItem() instanceof ItemArmor)
                 , new Tuple<>(STUFF_TO_KEEP, true));
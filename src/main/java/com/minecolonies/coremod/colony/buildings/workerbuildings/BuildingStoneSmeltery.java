@@ -83,7 +83,7 @@ public class BuildingStoneSmeltery extends AbstractBuildingSmelterCrafter
             return false;
         }
 
-        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
         if (storage == null)
         {
             return false;
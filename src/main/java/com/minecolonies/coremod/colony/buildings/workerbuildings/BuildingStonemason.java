@@ -89,7 +89,7 @@ public class BuildingStonemason extends AbstractBuildingCrafter
             return false;
         }
 
-        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+        final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
         if(storage == null)
         {
             return false;
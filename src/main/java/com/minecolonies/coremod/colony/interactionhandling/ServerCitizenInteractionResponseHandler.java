@@ -97,6 +97,12 @@ public abstract class ServerCitizenInteractionResponseHandler extends AbstractIn
         return (validator == null && !this.parents.isEmpty()) || ( validator != null && validator.test(citizen) );
     }
 
+    @Override
+    public Set<InteractionValidatorTrigger> getValidatorTriggers()
+    {
+        return InteractionValidatorRegistry.getValidatorTriggers(validatorId);
+    }
+
     /**
      * Add a parent to the list.
      * @param parent the parent to add.
@@ -0,0 +1,121 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.util.Log;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable grid of the footprints of the buildings of a colony, by the chunks they cover.
+ * A new index is built when a footprint changes, so it can be read from other threads without locking.
+ */
+public final class BuildingFootprintIndex
+{
+    /**
+     * The index of a colony without buildings.
+     */
+    public static final BuildingFootprintIndex EMPTY = new BuildingFootprintIndex(new HashMap<>(), new int[0][]);
+
+    /**
+     * Footprints covering more chunks than this are not put into the grid but checked one by one, the corners of such a building are probably broken.
+     */
+    private static final int MAX_CHUNKS_PER_FOOTPRINT = 64;
+
+    /**
+     * The footprints as {x1, x2, z1, z2} by the long of the chunks they cover.
+     */
+    private final Map<Long, int[][]> footprintsByChunk;
+
+    /**
+     * The footprints too large for the grid, as {x1, x2, z1, z2}.
+     */
+    private final int[][] oversizedFootprints;
+
+    private BuildingFootprintIndex(@NotNull final Map<Long, int[][]> footprintsByChunk, @NotNull final int[][] oversizedFootprints)
+    {
+        this.footprintsByChunk = footprintsByChunk;
+        this.oversizedFootprints = oversizedFootprints;
+    }
+
+    /**
+     * Build the index of the given buildings.
+     *
+     * @param buildings the buildings.
+     * @return the index.
+     */
+    @NotNull
+    public static BuildingFootprintIndex of(@NotNull final Collection<IBuilding> buildings)
+    {
+        final Map<Long, List<int[]>> footprints = new HashMap<>();
+        final List<int[]> oversized = new ArrayList<>();
+        for (final IBuilding building : buildings)
+        {
+            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = building.getCorners();
+            final int[] footprint = {corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond()};
+
+            //  Only the blocks between the corners are inside.
+            if (footprint[1] - footprint[0] < 2 || footprint[3] - footprint[2] < 2)
+            {
+                continue;
+            }
+
+            final int minChunkX = (footprint[0] + 1) >> 4;
+            final int maxChunkX = (footprint[1] - 1) >> 4;
+            final int minChunkZ = (footprint[2] + 1) >> 4;
+            final int maxChunkZ = (footprint[3] - 1) >> 4;
+            if ((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > MAX_CHUNKS_PER_FOOTPRINT)
+            {
+                Log.getLogger().warn("Building at " + building.getPosition() + " has an unusually large footprint: " + corners.getFirst() + " " + corners.getSecond());
+                oversized.add(footprint);
+                continue;
+            }
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+            {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+                {
+                    footprints.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), key -> new ArrayList<>()).add(footprint);
+                }
+            }
+        }
+
+        final Map<Long, int[][]> footprintsByChunk = new HashMap<>();
+        for (final Map.Entry<Long, List<int[]>> entry : footprints.entrySet())
+        {
+            footprintsByChunk.put(entry.getKey(), entry.getValue().toArray(new int[0][]));
+        }
+        return new BuildingFootprintIndex(footprintsByChunk, oversized.toArray(new int[0][]));
+    }
+
+    /**
+     * Check if a position lies strictly between the corners of one of the buildings.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return true if so.
+     */
+    public boolean contains(final int x, final int z)
+    {
+        final int[][] footprints = footprintsByChunk.get(ChunkPos.asLong(x >> 4, z >> 4));
+        return (footprints != null && contains(footprints, x, z)) || contains(oversizedFootprints, x, z);
+    }
+
+    private static boolean contains(@NotNull final int[][] footprints, final int x, final int z)
+    {
+        for (final int[] footprint : footprints)
+        {
+            if (x > footprint[0] && x < footprint[1] && z > footprint[2] && z < footprint[3])
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
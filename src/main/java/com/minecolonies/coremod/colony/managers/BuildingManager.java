@@ -1,7 +1,6 @@
 package com.minecolonies.coremod.colony.managers;
 
 import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
@@ -9,6 +8,7 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.registry.IBuildingDataManager;
 import com.minecolonies.api.colony.buildings.workerbuildings.ITownHall;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import com.minecolonies.api.colony.interactionhandling.InteractionValidatorTrigger;
 import com.minecolonies.api.colony.managers.interfaces.IBuildingManager;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.tileentities.AbstractScarescrowTileEntity;
@@ -16,6 +16,7 @@ import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.StructureCache;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.*;
@@ -29,6 +30,7 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -40,6 +42,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
 public class BuildingManager implements IBuildingManager
 {
@@ -75,6 +78,16 @@ public class BuildingManager implements IBuildingManager
      */
     private boolean isFieldsDirty = false;
 
+    /**
+     * The buildings by their type.
+     */
+    private final TypeIndex<IBuilding> buildingsByType = new TypeIndex<>(IBuilding.class);
+
+    /**
+     * The footprints of the buildings, replaced as a whole when one changes so other threads can read it.
+     */
+    private volatile BuildingFootprintIndex footprints = BuildingFootprintIndex.EMPTY;
+
     /**
      * The colony of the manager.
      */
@@ -94,6 +107,7 @@ public class BuildingManager implements IBuildingManager
     public void readFromNBT(@NotNull final NBTTagCompound compound)
     {
         buildings.clear();
+        buildingsByType.clear();
         //  Buildings
         final NBTTagList buildingTagList = compound.getTagList(TAG_BUILDINGS, Constants.NBT.TAG_COMPOUND);
         for (int i = 0; i < buildingTagList.tagCount(); ++i)
@@ -105,6 +119,7 @@ public class BuildingManager implements IBuildingManager
                 addBuilding(b);
             }
         }
+        updateFootprints();
 
         if (compound.hasKey(TAG_NEW_FIELDS))
         {
@@ -187,6 +202,13 @@ public class BuildingManager implements IBuildingManager
     public void markBuildingsDirty()
     {
         isBuildingsDirty = true;
+        markBuildingSectionDirty();
+    }
+
+    @Override
+    public void markBuildingSectionDirty()
+    {
+        colony.markSectionDirty(TAG_BUILDING_MANAGER);
     }
 
     @Override
@@ -245,6 +267,30 @@ public class BuildingManager implements IBuildingManager
         return null;
     }
 
+    @NotNull
+    @Override
+    @SuppressWarnings(UNCHECKED)
+    public <B extends IBuilding> List<B> getBuildingsOfType(@NotNull final Class<B> type)
+    {
+        //  The index only holds buildings of the type under it.
+        return (List<B>) buildingsByType.get(type);
+    }
+
+    @Override
+    public boolean isInBuildingFootprint(final BlockPos pos)
+    {
+        return footprints.contains(pos.getX(), pos.getZ());
+    }
+
+    @Override
+    public void onBuildingCornersChanged(final IBuilding building)
+    {
+        if (buildings.get(building.getID()) == building)
+        {
+            updateFootprints();
+        }
+    }
+
     @Override
     public Map<BlockPos, IBuilding> getBuildings()
     {
@@ -321,6 +367,7 @@ public class BuildingManager implements IBuildingManager
             if (building != null)
             {
                 addBuilding(building);
+                updateFootprints();
                 tileEntity.setBuilding(building);
 
                 Log.getLogger().info(String.format("Colony %d - new AbstractBuilding for %s at %s",
@@ -346,13 +393,11 @@ public class BuildingManager implements IBuildingManager
 
                     building.setRotation(BlockUtils.getRotationFromFacing(world.getBlockState(building.getPosition()).getValue(AbstractBlockHut.FACING)));
                     final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
-                    final Structure wrapper = new Structure(world, workOrder.getStructureName(), new PlacementSettings());
-                    final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-                      = ColonyUtils.calculateCorners(building.getPosition(),
-                      world,
-                      wrapper,
+                    final Structure wrapper = StructureCache.getTemplate(world,
+                      workOrder.getStructureName(),
                       workOrder.getRotation(world),
-                      workOrder.isMirrored());
+                      workOrder.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
+                    final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = ColonyUtils.calculateCorners(building.getPosition(), wrapper);
 
                     building.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
                     building.setHeight(wrapper.getHeight());
@@ -382,6 +427,10 @@ public class BuildingManager implements IBuildingManager
     {
         if (buildings.remove(building.getID()) != null)
         {
+            buildingsByType.remove(building.getClass(), building);
+            colony.markSectionDirty(TAG_BUILDING_MANAGER);
+            colony.getCitizenManager().markInteractionsForValidation(InteractionValidatorTrigger.BUILDING);
+            updateFootprints();
             for (final EntityPlayerMP player : subscribers)
             {
                 MineColonies.getNetwork().sendTo(new ColonyViewRemoveBuildingMessage(colony, building.getID()), player);
@@ -426,9 +475,9 @@ public class BuildingManager implements IBuildingManager
     {
         double distance = Double.MAX_VALUE;
         BlockPos goodCook = null;
-        for (final IBuilding building : citizen.getCitizenColonyHandler().getColony().getBuildingManager().getBuildings().values())
+        for (final BuildingCook building : citizen.getCitizenColonyHandler().getColony().getBuildingManager().getBuildingsOfType(BuildingCook.class))
         {
-            if (building instanceof BuildingCook && building.getBuildingLevel() > 0)
+            if (building.getBuildingLevel() > 0)
             {
                 final double localDistance = building.getPosition().distanceSq(citizen.getPosition());
                 if (localDistance < distance)
@@ -459,12 +508,21 @@ public class BuildingManager implements IBuildingManager
         wareHouses.remove(wareHouse);
     }
 
+    /**
+     * Rebuild the footprint index from the current buildings.
+     */
+    private void updateFootprints()
+    {
+        footprints = BuildingFootprintIndex.of(buildings.values());
+    }
+
     /**
      * Updates all subscribers of fields etc.
      */
     private void markFieldsDirty()
     {
         isFieldsDirty = true;
+        colony.markSectionDirty(TAG_BUILDING_MANAGER);
     }
 
     /**
@@ -474,7 +532,12 @@ public class BuildingManager implements IBuildingManager
      */
     private void addBuilding(@NotNull final IBuilding building)
     {
-        buildings.put(building.getID(), building);
+        final IBuilding previous = buildings.put(building.getID(), building);
+        if (previous != null)
+        {
+            buildingsByType.remove(previous.getClass(), previous);
+        }
+        buildingsByType.add(building.getClass(), building);
         building.markDirty();
 
         //  Limit 1 town hall
@@ -501,7 +564,8 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    final ColonyViewBuildingViewMessage message = new ColonyViewBuildingViewMessage(building);
+                    players.forEach(player -> MineColonies.getNetwork().sendTo(message, player));
                 }
             }
         }
@@ -519,7 +583,8 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    final ColonyViewBuildingViewMessage message = new ColonyViewBuildingViewMessage(building);
+                    players.forEach(player -> MineColonies.getNetwork().sendTo(message, player));
                 }
             }
         }
@@ -537,5 +602,6 @@ public class BuildingManager implements IBuildingManager
             fields.add(pos);
         }
         colony.markDirty();
+        colony.markSectionDirty(TAG_BUILDING_MANAGER);
     }
 }
@@ -6,6 +6,8 @@ import com.minecolonies.api.colony.ICitizenDataManager;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingWorker;
+import com.minecolonies.api.colony.interactionhandling.InteractionValidatorTrigger;
+import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.EntityUtils;
@@ -39,15 +41,31 @@ import static com.minecolonies.api.util.constant.ColonyConstants.HAPPINESS_FACTO
 import static com.minecolonies.api.util.constant.ColonyConstants.WELL_SATURATED_LIMIT;
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CITIZENS;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CITIZEN_MANAGER;
 
 public class CitizenManager implements ICitizenManager
 {
+    /**
+     * The amount of citizens whose time based interactions are validated again per tick of the citizen data.
+     */
+    private static final int TIMED_VALIDATIONS_PER_TICK = 20;
+
+    /**
+     * The max amount of citizens whose interactions are validated per tick of the citizen data, the others wait for the next tick.
+     */
+    private static final int MAX_VALIDATIONS_PER_TICK = 20;
+
     /**
      * Map of citizens with ID,CitizenData
      */
     @NotNull
     private final Map<Integer, ICitizenData> citizens = new HashMap<>();
 
+    /**
+     * The citizens with a job by the type of their job.
+     */
+    private final TypeIndex<ICitizenData> citizensByJob = new TypeIndex<>(IJob.class);
+
     /**
      * Variables to determine if citizens have to be updated on the client side.
      */
@@ -78,6 +96,21 @@ public class CitizenManager implements ICitizenManager
      */
     private int respawnInterval = Configurations.gameplay.citizenRespawnInterval * TICKS_SECOND;
 
+    /**
+     * The changes to validate the interactions of all citizens for on the next tick of the citizen data.
+     */
+    private final Set<InteractionValidatorTrigger> pendingValidatorTriggers = EnumSet.noneOf(InteractionValidatorTrigger.class);
+
+    /**
+     * The index of the last citizen whose time based interactions were validated.
+     */
+    private int timedValidationIndex = 0;
+
+    /**
+     * The index of the last citizen whose interactions were validated.
+     */
+    private int validationIndex = 0;
+
     /**
      * Creates the Citizenmanager for a colony.
      *
@@ -97,6 +130,15 @@ public class CitizenManager implements ICitizenManager
                           .map(this::deserializeCitizen)
                           .collect(Collectors.toMap(ICitizenData::getId, Function.identity())));
 
+        citizensByJob.clear();
+        for (final ICitizenData citizen : citizens.values())
+        {
+            if (citizen.getJob() != null)
+            {
+                citizensByJob.add(citizen.getJob().getClass(), citizen);
+            }
+        }
+
         // Update child state after loading citizen data
         colony.updateHasChilds();
     }
@@ -127,13 +169,24 @@ public class CitizenManager implements ICitizenManager
             {
                 if (citizen.getCitizenEntity().isPresent())
                 {
-                    if (citizen.isDirty() || !newSubscribers.isEmpty())
+                    if (citizen.isDirty())
+                    {
+                        //  Players which already know the citizen only need the changed field groups.
+                        final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen, citizen.getDirtyFields());
+                        closeSubscribers.stream()
+                          .filter(player -> !newSubscribers.contains(player))
+                          .forEach(player -> MineColonies.getNetwork().sendTo(message, player));
+                    }
+
+                    if (!newSubscribers.isEmpty())
                     {
-                        players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                        final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen);
+                        newSubscribers.forEach(player -> MineColonies.getNetwork().sendTo(message, player));
                     }
                 }
             }
-            players.forEach(player -> MineColonies.getNetwork().sendTo(new HappinessDataMessage(colony, colony.getHappinessData()), player));
+            final HappinessDataMessage happinessMessage = new HappinessDataMessage(colony, colony.getHappinessData());
+            players.forEach(player -> MineColonies.getNetwork().sendTo(happinessMessage, player));
         }
     }
 
@@ -217,6 +270,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCitizen();
         citizens.put(citizenData.getId(), citizenData);
+        colony.markSectionDirty(TAG_CITIZEN_MANAGER);
 
         return citizenData;
     }
@@ -226,6 +280,10 @@ public class CitizenManager implements ICitizenManager
     {
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        if (citizen.getJob() != null)
+        {
+            citizensByJob.remove(citizen.getJob().getClass(), citizen);
+        }
 
         if (citizen.getWorkBuilding() != null)
         {
@@ -252,6 +310,7 @@ public class CitizenManager implements ICitizenManager
 
         calculateMaxCitizens();
         colony.markDirty();
+        colony.markSectionDirty(TAG_CITIZEN_MANAGER);
     }
 
     @Override
@@ -325,6 +384,12 @@ public class CitizenManager implements ICitizenManager
         isCitizensDirty = true;
     }
 
+    @Override
+    public void markCitizenSectionDirty()
+    {
+        colony.markSectionDirty(TAG_CITIZEN_MANAGER);
+    }
+
     @Override
     public ICitizenData getCitizen(final int citizenId)
     {
@@ -344,6 +409,31 @@ public class CitizenManager implements ICitizenManager
         return new ArrayList<>(citizens.values());
     }
 
+    @Override
+    public List<ICitizenData> getCitizensWithJob(@NotNull final Class<? extends IJob> type)
+    {
+        return citizensByJob.get(type);
+    }
+
+    @Override
+    public void onCitizenJobChanged(@NotNull final ICitizenData citizen, @Nullable final IJob oldJob)
+    {
+        //  Citizens being loaded are indexed once all are loaded.
+        if (citizens.get(citizen.getId()) != citizen)
+        {
+            return;
+        }
+
+        if (oldJob != null)
+        {
+            citizensByJob.remove(oldJob.getClass(), citizen);
+        }
+        if (citizen.getJob() != null)
+        {
+            citizensByJob.add(citizen.getJob().getClass(), citizen);
+        }
+    }
+
     @Override
     public int getMaxCitizens()
     {
@@ -469,7 +559,43 @@ public class CitizenManager implements ICitizenManager
     @Override
     public void tickCitizenData()
     {
-        this.getCitizens().forEach(ICitizenData::tick);
+        final List<ICitizenData> citizenList = this.getCitizens();
+        if (citizenList.isEmpty())
+        {
+            return;
+        }
+
+        for (final InteractionValidatorTrigger trigger : pendingValidatorTriggers)
+        {
+            citizenList.forEach(citizen -> citizen.markInteractionsForValidation(trigger));
+        }
+        pendingValidatorTriggers.clear();
+
+        //  Things without an event are only checked for a few citizens each time, going round the colony.
+        for (int i = 0; i < Math.min(TIMED_VALIDATIONS_PER_TICK, citizenList.size()); i++)
+        {
+            timedValidationIndex = (timedValidationIndex + 1) % citizenList.size();
+            citizenList.get(timedValidationIndex).markInteractionsForValidation(InteractionValidatorTrigger.TIME);
+        }
+
+        //  Validate a limited amount of citizens with pending changes, going round the colony so every citizen gets its turn.
+        int validated = 0;
+        for (int i = 0; i < citizenList.size() && validated < MAX_VALIDATIONS_PER_TICK; i++)
+        {
+            validationIndex = (validationIndex + 1) % citizenList.size();
+            final ICitizenData citizen = citizenList.get(validationIndex);
+            if (citizen.hasPendingInteractionValidation())
+            {
+                citizen.tick();
+                validated++;
+            }
+        }
+    }
+
+    @Override
+    public void markInteractionsForValidation(@NotNull final InteractionValidatorTrigger trigger)
+    {
+        pendingValidatorTriggers.add(trigger);
     }
 
     /**
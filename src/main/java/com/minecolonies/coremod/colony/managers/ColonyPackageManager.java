@@ -165,14 +165,31 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void sendColonyViewPackets()
     {
-        if (isDirty || !newSubscribers.isEmpty())
+        final boolean requestsDirty = colony.getRequestManager() != null && colony.getRequestManager().isDirty();
+        if (isDirty || requestsDirty)
         {
+            //  Existing subscribers get the request system changes since their last update.
+            //  Written before the new subscription views, so the next changes are based on the state they receive.
             final ByteBuf colonyByteBuf = Unpooled.buffer();
-            ColonyView.serializeNetworkData(colony, colonyByteBuf, !newSubscribers.isEmpty());
-            final Set<EntityPlayerMP> players = isDirty ? closeSubscribers : newSubscribers;
-            players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, colonyByteBuf, newSubscribers.contains(player)), player));
+            ColonyView.serializeNetworkData(colony, colonyByteBuf, false);
+            final ColonyViewMessage updateMessage = new ColonyViewMessage(colony, colonyByteBuf, false);
+            closeSubscribers.stream()
+              .filter(player -> !newSubscribers.contains(player))
+              .forEach(player -> MineColonies.getNetwork().sendTo(updateMessage, player));
+        }
+
+        if (!newSubscribers.isEmpty())
+        {
+            final ByteBuf colonyByteBuf = Unpooled.buffer();
+            ColonyView.serializeNetworkData(colony, colonyByteBuf, true);
+            final ColonyViewMessage subscriptionMessage = new ColonyViewMessage(colony, colonyByteBuf, true);
+            newSubscribers.forEach(player -> MineColonies.getNetwork().sendTo(subscriptionMessage, player));
+        }
+
+        if (colony.getRequestManager() != null)
+        {
+            colony.getRequestManager().setDirty(false);
         }
-        colony.getRequestManager().setDirty(false);
     }
 
     @Override
@@ -197,7 +214,8 @@ public class ColonyPackageManager implements IColonyPackageManager
             {
                 if (!(workOrder instanceof WorkOrderBuildMiner))
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewWorkOrderMessage(colony, workOrder), player));
+                    final ColonyViewWorkOrderMessage message = new ColonyViewWorkOrderMessage(colony, workOrder);
+                    players.forEach(player -> MineColonies.getNetwork().sendTo(message, player));
                 }
             }
             workManager.setDirty(false);
@@ -233,6 +251,15 @@ public class ColonyPackageManager implements IColonyPackageManager
         }
     }
 
+    @Override
+    public void resendFullView(@NotNull final EntityPlayerMP subscriber)
+    {
+        if (closeSubscribers.contains(subscriber))
+        {
+            newSubscribers.add(subscriber);
+        }
+    }
+
     @Override
     public void removeCloseSubscriber(@NotNull final EntityPlayerMP player)
     {
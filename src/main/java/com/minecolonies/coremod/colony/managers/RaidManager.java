@@ -18,7 +18,9 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.Constants;
@@ -34,6 +36,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.*;
 
 public class RaidManager implements IRaiderManager
 {
+    /**
+     * Blocks a raider may stick out of the chunk section it is sorted into.
+     */
+    private static final double RAIDER_GRID_MARGIN = 2.0D;
+
     /**
      * Whether there will be a raid in this colony tonight.
      */
@@ -69,6 +76,22 @@ public class RaidManager implements IRaiderManager
      */
     private final List<UUID> horde = new ArrayList<>();
 
+    /**
+     * The registered raider entities, to look them up by position.
+     * Weakly referenced, so raiders unloaded with their chunk do not stay in here.
+     */
+    private final Set<AbstractEntityMinecoloniesMob> raiderEntities = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * The registered raiders by the chunk section they are in.
+     */
+    private final Map<Long, List<AbstractEntityMinecoloniesMob>> raiderGrid = new HashMap<>();
+
+    /**
+     * The world tick the raider grid was built in, raiders move, so it is rebuilt once per tick when used.
+     */
+    private long raiderGridTick = -1;
+
     /**
      * Creates the RaidManager for a colony.
      *
@@ -193,6 +216,8 @@ public class RaidManager implements IRaiderManager
     public void registerRaider(@NotNull final AbstractEntityMinecoloniesMob raider)
     {
         this.horde.add(raider.getUniqueID());
+        this.raiderEntities.add(raider);
+        this.raiderGridTick = -1;
     }
 
     @Override
@@ -206,6 +231,9 @@ public class RaidManager implements IRaiderManager
                 horde.remove(uuid);
             }
         }
+        raiderEntities.remove(raider);
+        raiderGrid.clear();
+        raiderGridTick = -1;
 
         sendHordeMessage();
     }
@@ -230,6 +258,13 @@ public class RaidManager implements IRaiderManager
     @Override
     public void onColonyTick(@NotNull final IColony colony)
     {
+        // Drop the raiders which died or were unloaded since, the grid is only kept for the tick it was built in.
+        if (colony.getWorld() != null && raiderGridTick != colony.getWorld().getTotalWorldTime())
+        {
+            pruneRaiders(colony.getWorld());
+            raiderGrid.clear();
+        }
+
         for (final Map.Entry<BlockPos, Tuple<String, Long>> entry : new HashMap<>(schematicMap).entrySet())
         {
             if (entry.getKey().equals(BlockPos.ORIGIN))
@@ -296,6 +331,86 @@ public class RaidManager implements IRaiderManager
         return raiders;
     }
 
+    @Override
+    public List<AbstractEntityMinecoloniesMob> getRaidersInArea(@NotNull final AxisAlignedBB area)
+    {
+        final List<AbstractEntityMinecoloniesMob> raiders = new ArrayList<>();
+        final World world = colony.getWorld();
+        if (raiderEntities.isEmpty() || world == null)
+        {
+            return raiders;
+        }
+
+        if (raiderGridTick != world.getTotalWorldTime())
+        {
+            buildRaiderGrid(world);
+        }
+
+        //  Raiders are sorted in by their position, so also look at the sections next to the area for raiders sticking into it.
+        final int minX = MathHelper.floor(area.minX - RAIDER_GRID_MARGIN) >> 4;
+        final int maxX = MathHelper.floor(area.maxX + RAIDER_GRID_MARGIN) >> 4;
+        final int minY = MathHelper.floor(area.minY - RAIDER_GRID_MARGIN) >> 4;
+        final int maxY = MathHelper.floor(area.maxY + RAIDER_GRID_MARGIN) >> 4;
+        final int minZ = MathHelper.floor(area.minZ - RAIDER_GRID_MARGIN) >> 4;
+        final int maxZ = MathHelper.floor(area.maxZ + RAIDER_GRID_MARGIN) >> 4;
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int y = minY; y <= maxY; y++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    final List<AbstractEntityMinecoloniesMob> section = raiderGrid.get(getSectionKey(x, y, z));
+                    if (section != null)
+                    {
+                        for (final AbstractEntityMinecoloniesMob raider : section)
+                        {
+                            if (raider.getEntityBoundingBox().intersects(area))
+                            {
+                                raiders.add(raider);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return raiders;
+    }
+
+    /**
+     * Sort the living registered raiders into the grid by the chunk section they are in.
+     *
+     * @param world the world of the colony.
+     */
+    private void buildRaiderGrid(@NotNull final World world)
+    {
+        raiderGrid.clear();
+        raiderGridTick = world.getTotalWorldTime();
+        pruneRaiders(world);
+
+        for (final AbstractEntityMinecoloniesMob raider : raiderEntities)
+        {
+            raiderGrid.computeIfAbsent(getSectionKey(MathHelper.floor(raider.posX) >> 4, MathHelper.floor(raider.posY) >> 4, MathHelper.floor(raider.posZ) >> 4),
+              key -> new ArrayList<>()).add(raider);
+        }
+    }
+
+    /**
+     * Remove the registered raiders which are dead or no longer loaded.
+     *
+     * @param world the world of the colony.
+     */
+    private void pruneRaiders(@NotNull final World world)
+    {
+        raiderEntities.removeIf(raider -> !raider.isEntityAlive()
+                                            || !(world instanceof WorldServer)
+                                            || ((WorldServer) world).getEntityFromUuid(raider.getUniqueID()) != raider);
+    }
+
+    private static long getSectionKey(final int sectionX, final int sectionY, final int sectionZ)
+    {
+        return new BlockPos(sectionX, sectionY, sectionZ).toLong();
+    }
+
     @Override
     public void registerRaiderOriginSchematic(final String schematicName, final BlockPos position, final long worldTime)
     {
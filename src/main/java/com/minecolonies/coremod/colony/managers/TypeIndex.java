@@ -0,0 +1,132 @@
+package com.minecolonies.coremod.colony.managers;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of objects by a type and all of its super types, to get all objects of a type without checking every object.
+ *
+ * @param <T> the type of the indexed objects.
+ */
+public class TypeIndex<T>
+{
+    /**
+     * The indexed super types of each type, by root type and type.
+     */
+    private static final Map<Class<?>, Map<Class<?>, List<Class<?>>>> SUPER_TYPES = new ConcurrentHashMap<>();
+
+    /**
+     * Only the super types which are sub types of this are indexed.
+     */
+    private final Class<?> rootType;
+
+    /**
+     * The objects by type.
+     */
+    private final Map<Class<?>, List<T>> objectsByType = new HashMap<>();
+
+    /**
+     * Read only views of the lists of objects by type.
+     */
+    private final Map<Class<?>, List<T>> viewsByType = new HashMap<>();
+
+    /**
+     * Create an index.
+     *
+     * @param rootType the type all indexed types are sub types of, its super types are not indexed.
+     */
+    public TypeIndex(@NotNull final Class<?> rootType)
+    {
+        this.rootType = rootType;
+    }
+
+    /**
+     * Add an object under its type and all super types.
+     *
+     * @param type   the type of the object.
+     * @param object the object.
+     */
+    public void add(@NotNull final Class<?> type, @NotNull final T object)
+    {
+        for (final Class<?> superType : getSuperTypes(type))
+        {
+            final List<T> objects = getList(superType);
+            if (!objects.contains(object))
+            {
+                objects.add(object);
+            }
+        }
+    }
+
+    /**
+     * Remove an object from its type and all super types.
+     *
+     * @param type   the type the object was added with.
+     * @param object the object.
+     */
+    public void remove(@NotNull final Class<?> type, @NotNull final T object)
+    {
+        for (final Class<?> superType : getSuperTypes(type))
+        {
+            getList(superType).remove(object);
+        }
+    }
+
+    /**
+     * Remove all objects.
+     */
+    public void clear()
+    {
+        objectsByType.values().forEach(List::clear);
+    }
+
+    /**
+     * Get the objects of a type, including the ones of its sub types.
+     *
+     * @param type the type.
+     * @return a read only view of the objects, which follows later changes.
+     */
+    @NotNull
+    public List<T> get(@NotNull final Class<?> type)
+    {
+        return viewsByType.computeIfAbsent(type, key -> Collections.unmodifiableList(getList(key)));
+    }
+
+    @NotNull
+    private List<T> getList(@NotNull final Class<?> type)
+    {
+        return objectsByType.computeIfAbsent(type, key -> new ArrayList<>());
+    }
+
+    /**
+     * Get the super types of a type which are sub types of the root type, including the type itself.
+     *
+     * @param type the type.
+     * @return the super types.
+     */
+    @NotNull
+    private List<Class<?>> getSuperTypes(@NotNull final Class<?> type)
+    {
+        return SUPER_TYPES.computeIfAbsent(rootType, key -> new ConcurrentHashMap<>()).computeIfAbsent(type, key -> {
+            final Set<Class<?>> superTypes = new LinkedHashSet<>();
+            collectSuperTypes(key, superTypes);
+            return new ArrayList<>(superTypes);
+        });
+    }
+
+    private void collectSuperTypes(final Class<?> type, @NotNull final Set<Class<?>> superTypes)
+    {
+        if (type == null || !rootType.isAssignableFrom(type) || !superTypes.add(type))
+        {
+            return;
+        }
+
+        collectSuperTypes(type.getSuperclass(), superTypes);
+        for (final Class<?> superInterface : type.getInterfaces())
+        {
+            collectSuperTypes(superInterface, superTypes);
+        }
+    }
+}
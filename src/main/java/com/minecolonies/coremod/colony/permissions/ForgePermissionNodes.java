@@ -49,7 +49,8 @@ public enum ForgePermissionNodes
     SCAN("com.minecolonies.coremod.Scan", DefaultPermissionLevel.OP, "Can scan structures."),
     CLAIM("com.minecolonies.coremod.Claim", DefaultPermissionLevel.OP, "Can claim structures."),
     LOOT_GEN("com.minecolonies.coremod.lootGen", DefaultPermissionLevel.OP, "Can lootGen minecolonies building blocks."),
-    LOAD_BACKUP("com.minecolonies.coremod.loadBackup", DefaultPermissionLevel.OP, "Can load colony backups, should be OP only!")
+    LOAD_BACKUP("com.minecolonies.coremod.loadBackup", DefaultPermissionLevel.OP, "Can load colony backups, should be OP only!"),
+    PATHFINDING_STATS("com.minecolonies.coremod.PathfindingStats", DefaultPermissionLevel.OP, "Can view pathfinding queue statistics.")
     ;
 
     @NotNull private final String nodeName;
@@ -0,0 +1,268 @@
+package com.minecolonies.coremod.colony.requestsystem.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Key to values multimap which keeps a reverse index from each value to the key it is assigned to.
+ * The value collections handed out are live views, changes to them keep the reverse index up to date.
+ * Collections put into the map are copied, keeping their iteration order.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public class AssignmentMultimap<K, V> extends AbstractMap<K, Collection<V>>
+{
+    /**
+     * The values assigned per key.
+     */
+    private final Map<K, AssignedValues> assignments = new HashMap<>();
+
+    /**
+     * The key each value is assigned to.
+     */
+    private final Map<V, K> owners = new HashMap<>();
+
+    /**
+     * Creates a new empty map.
+     */
+    public AssignmentMultimap()
+    {
+        super();
+    }
+
+    /**
+     * Creates a new map with the assignments of the given map.
+     *
+     * @param source the assignments to copy.
+     */
+    public AssignmentMultimap(@NotNull final Map<K, ? extends Collection<V>> source)
+    {
+        super();
+        source.forEach(this::put);
+    }
+
+    /**
+     * Get the key a value is assigned to.
+     *
+     * @param value the value to look for.
+     * @return the key or null.
+     */
+    @Nullable
+    public K getKeyForValue(final V value)
+    {
+        return owners.get(value);
+    }
+
+    @Override
+    public int size()
+    {
+        return assignments.size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key)
+    {
+        return assignments.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value)
+    {
+        return assignments.containsValue(value);
+    }
+
+    @Override
+    public Collection<V> get(final Object key)
+    {
+        return assignments.get(key);
+    }
+
+    @Override
+    public Collection<V> put(final K key, final Collection<V> values)
+    {
+        final AssignedValues assignedValues = new AssignedValues(key);
+        final AssignedValues previous = assignments.put(key, assignedValues);
+        if (previous != null)
+        {
+            previous.detach();
+        }
+        assignedValues.addAll(values);
+        return previous;
+    }
+
+    @Override
+    public Collection<V> remove(final Object key)
+    {
+        final AssignedValues previous = assignments.remove(key);
+        if (previous != null)
+        {
+            previous.detach();
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (final AssignedValues values : assignments.values())
+        {
+            values.attached = false;
+        }
+        assignments.clear();
+        owners.clear();
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<K, Collection<V>>> entrySet()
+    {
+        return new AbstractSet<Entry<K, Collection<V>>>()
+        {
+            @NotNull
+            @Override
+            public Iterator<Entry<K, Collection<V>>> iterator()
+            {
+                final Iterator<Entry<K, AssignedValues>> iterator = assignments.entrySet().iterator();
+                return new Iterator<Entry<K, Collection<V>>>()
+                {
+                    private AssignedValues current;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, Collection<V>> next()
+                    {
+                        final Entry<K, AssignedValues> entry = iterator.next();
+                        current = entry.getValue();
+                        return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+                    }
+
+                    @Override
+                    public void remove()
+                    {
+                        iterator.remove();
+                        current.detach();
+                    }
+                };
+            }
+
+            @Override
+            public int size()
+            {
+                return assignments.size();
+            }
+        };
+    }
+
+    /**
+     * The values of a single key, keeps the reverse index up to date while it is part of the map.
+     */
+    private final class AssignedValues extends AbstractCollection<V>
+    {
+        private final K            key;
+        private final Set<V>       values   = new LinkedHashSet<>();
+        private       boolean      attached = true;
+
+        private AssignedValues(final K key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public boolean add(final V value)
+        {
+            if (!values.add(value))
+            {
+                return false;
+            }
+
+            if (attached)
+            {
+                owners.put(value, key);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean remove(final Object value)
+        {
+            if (!values.remove(value))
+            {
+                return false;
+            }
+
+            unassign(value);
+            return true;
+        }
+
+        @Override
+        public boolean contains(final Object value)
+        {
+            return values.contains(value);
+        }
+
+        @Override
+        public int size()
+        {
+            return values.size();
+        }
+
+        @NotNull
+        @Override
+        public Iterator<V> iterator()
+        {
+            final Iterator<V> iterator = values.iterator();
+            return new Iterator<V>()
+            {
+                private V current;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public V next()
+                {
+                    current = iterator.next();
+                    return current;
+                }
+
+                @Override
+                public void remove()
+                {
+                    iterator.remove();
+                    unassign(current);
+                }
+            };
+        }
+
+        private void unassign(final Object value)
+        {
+            if (attached && Objects.equals(owners.get(value), key))
+            {
+                owners.remove(value);
+            }
+        }
+
+        /**
+         * Called when the collection got removed from the map.
+         */
+        private void detach()
+        {
+            for (final V value : values)
+            {
+                unassign(value);
+            }
+            attached = false;
+        }
+    }
+}
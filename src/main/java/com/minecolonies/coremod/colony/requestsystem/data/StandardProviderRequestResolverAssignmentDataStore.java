@@ -14,6 +14,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,7 +24,7 @@ import java.util.stream.Collectors;
 public class StandardProviderRequestResolverAssignmentDataStore implements IProviderResolverAssignmentDataStore
 {
 
-    private final Map<IToken<?>, Collection<IToken<?>>> assignments;
+    private final AssignmentMultimap<IToken<?>, IToken<?>> assignments;
     private IToken<?> id;
 
     public StandardProviderRequestResolverAssignmentDataStore(
@@ -31,7 +32,7 @@ public class StandardProviderRequestResolverAssignmentDataStore implements IProv
       final Map<IToken<?>, Collection<IToken<?>>> assignments
       ) {
         this.id = id;
-        this.assignments = assignments;
+        this.assignments = new AssignmentMultimap<>(assignments);
     }
 
     public StandardProviderRequestResolverAssignmentDataStore()
@@ -46,6 +47,13 @@ public class StandardProviderRequestResolverAssignmentDataStore implements IProv
         return assignments;
     }
 
+    @Nullable
+    @Override
+    public IToken<?> getAssignmentForValue(final IToken<?> value)
+    {
+        return assignments.getKeyForValue(value);
+    }
+
     @Override
     public IToken<?> getId()
     {
@@ -34,6 +34,13 @@ public class RequestHandler implements IRequestHandler
 
     private final IStandardRequestManager manager;
 
+    /**
+     * The priority sorted tokens of the resolvers that can be asked for a request type.
+     * Only valid as long as the registered resolvers do not change.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private final Map<TypeToken, List<IToken<?>>> resolverCandidates = new HashMap<>();
+
     public RequestHandler(final IStandardRequestManager manager) {this.manager = manager;}
 
     @Override
@@ -134,32 +141,16 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getType());
-        requestTypes.remove(TypeConstants.OBJECT);
-
-        final List<TypeToken> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
-
-
-        for (final IRequestResolver<?> resolver : resolvers)
+        for (final IToken<?> resolverToken : getResolverCandidates(request.getType()))
         {
             //Skip when the resolver is in the blacklist.
-            if (resolverTokenBlackList.contains(resolver.getId()))
+            if (resolverTokenBlackList.contains(resolverToken))
             {
                 continue;
             }
 
+            final IRequestResolver<?> resolver = manager.getResolverHandler().getResolver(resolverToken);
+
             //Skip if preliminary check fails
             if (!resolver.canResolveRequest(manager, request))
             {
@@ -210,6 +201,43 @@ public class RequestHandler implements IRequestHandler
         return null;
     }
 
+    /**
+     * Get the resolvers that can be asked for a request type, sorted by priority and then by how specific their request type is.
+     *
+     * @param requestType The type of the request.
+     * @return The tokens of the resolvers.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private List<IToken<?>> getResolverCandidates(final TypeToken requestType)
+    {
+        return resolverCandidates.computeIfAbsent(requestType, type -> {
+            final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(type);
+            requestTypes.remove(TypeConstants.OBJECT);
+
+            final List<TypeToken> typeIndexList = new ArrayList<>(requestTypes);
+
+            return requestTypes.stream()
+                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
+                     .flatMap(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
+                                             .getAssignments()
+                                             .get(typeToken)
+                                             .stream()
+                                             .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
+                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
+                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
+                     .map(IRequestResolver::getId)
+                     .distinct()
+                     .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public void onResolversChanged()
+    {
+        resolverCandidates.clear();
+    }
+
     /**
      * Method used to reassign the request to a resolver that is not in the given blacklist.
      * Cancels the request internally without notify the requester, and attempts a reassign. If the reassignment failed, it is assigned back to the orignal resolver.
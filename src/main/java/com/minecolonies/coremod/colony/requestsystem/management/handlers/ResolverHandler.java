@@ -98,6 +98,7 @@ public class ResolverHandler implements IResolverHandler
             manager.getLogger().debug("Registering resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getId());
         });
+        manager.getRequestHandler().onResolversChanged();
 
         return resolver.getId();
     }
@@ -230,6 +231,7 @@ public class ResolverHandler implements IResolverHandler
             manager.getLogger().debug("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getId());
         });
+        manager.getRequestHandler().onResolversChanged();
     }
 
     /**
@@ -0,0 +1,234 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.google.common.collect.BiMap;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.data.IDataStore;
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.api.util.constant.NbtTagConstants;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks the request system state the clients of a colony have seen, to send them only what changed since.
+ * The tracked state is the one of the last delta, or of the first full snapshot if no delta was written yet.
+ * Clients which received a later full snapshot are ahead of it, applying a delta to them is harmless as every entry replaces the whole request or store.
+ * Must only be used from the server thread.
+ */
+public class RequestManagerSyncTracker
+{
+    ////---------------------------NBTTags-------------------------\\\\
+    private static final String NBT_REQUESTS         = "Requests";
+    private static final String NBT_REMOVED_REQUESTS = "RemovedRequests";
+    private static final String NBT_STORES           = "Stores";
+    private static final String NBT_REMOVED_STORES   = "RemovedStores";
+    ////---------------------------NBTTags-------------------------\\\\
+
+    /**
+     * The version of the tracked state.
+     */
+    private int version = 0;
+
+    /**
+     * The id of the requests store of the tracked state, changes when the request manager got reset.
+     * Null as long as nothing is tracked.
+     */
+    @Nullable
+    private IToken<?> requestIdentitiesStoreId;
+
+    /**
+     * The serialized requests of the tracked state.
+     */
+    private Map<IToken<?>, NBTTagCompound> sentRequests = new HashMap<>();
+
+    /**
+     * The serialized data stores of the tracked state, without the requests store.
+     */
+    private Map<IToken<?>, NBTTagCompound> sentStores = new HashMap<>();
+
+    /**
+     * Get the version of the tracked state.
+     *
+     * @return the version.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Check if a delta can be computed for the given manager.
+     *
+     * @param manager the request manager of the colony.
+     * @return false if nothing is tracked yet or the manager got reset since.
+     */
+    public boolean canWriteDelta(@NotNull final IStandardRequestManager manager)
+    {
+        return requestIdentitiesStoreId != null && requestIdentitiesStoreId.equals(manager.getRequestIdentitiesDataStore().getId());
+    }
+
+    /**
+     * Called after a full snapshot of the manager was written.
+     * Starts tracking a new state if the delta can not be computed anymore.
+     *
+     * @param manager the request manager of the colony.
+     * @return the version to label the snapshot with.
+     */
+    public int onFullSnapshot(@NotNull final IStandardRequestManager manager)
+    {
+        if (!canWriteDelta(manager))
+        {
+            final IFactoryController controller = StandardFactoryController.getInstance();
+            sentRequests = serializeRequests(controller, manager);
+            sentStores = serializeStores(controller, manager);
+            requestIdentitiesStoreId = manager.getRequestIdentitiesDataStore().getId();
+            version++;
+        }
+        return version;
+    }
+
+    /**
+     * Compute the changes since the tracked state and track the current state instead.
+     *
+     * @param manager the request manager of the colony, {@link #canWriteDelta(IStandardRequestManager)} must be true.
+     * @return the delta, to be applied with {@link #applyDelta(IStandardRequestManager, NBTTagCompound)}.
+     */
+    @NotNull
+    public NBTTagCompound writeDelta(@NotNull final IStandardRequestManager manager)
+    {
+        final IFactoryController controller = StandardFactoryController.getInstance();
+        final NBTTagCompound delta = new NBTTagCompound();
+
+        final Map<IToken<?>, NBTTagCompound> requests = serializeRequests(controller, manager);
+        final NBTTagList changedRequests = new NBTTagList();
+        requests.forEach((token, compound) -> {
+            if (!compound.equals(sentRequests.get(token)))
+            {
+                changedRequests.appendTag(compound);
+            }
+        });
+        delta.setTag(NBT_REQUESTS, changedRequests);
+        delta.setTag(NBT_REMOVED_REQUESTS, removedTokens(controller, sentRequests, requests));
+
+        final Map<IToken<?>, NBTTagCompound> stores = serializeStores(controller, manager);
+        final NBTTagList changedStores = new NBTTagList();
+        stores.forEach((token, compound) -> {
+            if (!compound.equals(sentStores.get(token)))
+            {
+                final NBTTagCompound entryCompound = new NBTTagCompound();
+                entryCompound.setTag(NbtTagConstants.TAG_TOKEN, controller.serialize(token));
+                entryCompound.setTag(NbtTagConstants.TAG_VALUE, compound);
+                changedStores.appendTag(entryCompound);
+            }
+        });
+        delta.setTag(NBT_STORES, changedStores);
+        delta.setTag(NBT_REMOVED_STORES, removedTokens(controller, sentStores, stores));
+
+        sentRequests = requests;
+        sentStores = stores;
+        version++;
+        return delta;
+    }
+
+    /**
+     * Apply a delta written by {@link #writeDelta(IStandardRequestManager)} to a client side request manager.
+     *
+     * @param manager the request manager of the colony view.
+     * @param delta   the delta.
+     */
+    public static void applyDelta(@NotNull final IStandardRequestManager manager, @NotNull final NBTTagCompound delta)
+    {
+        final IFactoryController controller = StandardFactoryController.getInstance();
+
+        final NBTTagList removedStores = delta.getTagList(NBT_REMOVED_STORES, Constants.NBT.TAG_COMPOUND);
+        final NBTTagList changedStores = delta.getTagList(NBT_STORES, Constants.NBT.TAG_COMPOUND);
+        NBTUtils.streamCompound(removedStores).forEach(compound -> manager.getDataStoreManager().remove(controller.deserialize(compound)));
+        NBTUtils.streamCompound(changedStores).forEach(compound -> {
+            final IToken<?> token = controller.deserialize(compound.getCompoundTag(NbtTagConstants.TAG_TOKEN));
+            final IDataStore store = controller.deserialize(compound.getCompoundTag(NbtTagConstants.TAG_VALUE));
+            manager.getDataStoreManager().put(token, store);
+        });
+        if (removedStores.tagCount() > 0 || changedStores.tagCount() > 0)
+        {
+            //  The resolver assignments might have changed
+            manager.getRequestHandler().onResolversChanged();
+        }
+
+        final BiMap<IToken<?>, IRequest<?>> requests = manager.getRequestIdentitiesDataStore().getIdentities();
+        NBTUtils.streamCompound(delta.getTagList(NBT_REMOVED_REQUESTS, Constants.NBT.TAG_COMPOUND))
+          .forEach(compound -> requests.remove(controller.<IToken<?>>deserialize(compound)));
+        NBTUtils.streamCompound(delta.getTagList(NBT_REQUESTS, Constants.NBT.TAG_COMPOUND)).forEach(compound -> {
+            final IRequest<?> request = controller.deserialize(compound);
+            requests.forcePut(request.getId(), request);
+        });
+    }
+
+    /**
+     * Apply a delta to a client side request manager, if it is based on the version the client has.
+     *
+     * @param manager       the request manager of the colony view.
+     * @param clientVersion the version of the state the client has.
+     * @param baseVersion   the version the delta is based on.
+     * @param delta         the delta.
+     * @return false if the client missed an update and needs a full snapshot instead.
+     */
+    public static boolean applyDeltaIfCurrent(
+      @NotNull final IStandardRequestManager manager,
+      final int clientVersion,
+      final int baseVersion,
+      @NotNull final NBTTagCompound delta)
+    {
+        if (baseVersion != clientVersion)
+        {
+            return false;
+        }
+
+        applyDelta(manager, delta);
+        return true;
+    }
+
+    private static Map<IToken<?>, NBTTagCompound> serializeRequests(@NotNull final IFactoryController controller, @NotNull final IStandardRequestManager manager)
+    {
+        final Map<IToken<?>, NBTTagCompound> requests = new HashMap<>();
+        manager.getRequestIdentitiesDataStore().getIdentities().forEach((token, request) -> requests.put(token, controller.serialize(request)));
+        return requests;
+    }
+
+    private static Map<IToken<?>, NBTTagCompound> serializeStores(@NotNull final IFactoryController controller, @NotNull final IStandardRequestManager manager)
+    {
+        final IToken<?> requestIdentitiesId = manager.getRequestIdentitiesDataStore().getId();
+        final Map<IToken<?>, NBTTagCompound> stores = new HashMap<>();
+        manager.getDataStoreManager().getAll().forEach((token, store) -> {
+            if (!token.equals(requestIdentitiesId))
+            {
+                stores.put(token, controller.serialize(store));
+            }
+        });
+        return stores;
+    }
+
+    private static NBTTagList removedTokens(
+      @NotNull final IFactoryController controller,
+      @NotNull final Map<IToken<?>, NBTTagCompound> previous,
+      @NotNull final Map<IToken<?>, NBTTagCompound> current)
+    {
+        final NBTTagList removed = new NBTTagList();
+        for (final IToken<?> token : previous.keySet())
+        {
+            if (!current.containsKey(token))
+            {
+                removed.appendTag(controller.serialize(token));
+            }
+        }
+        return removed;
+    }
+}
@@ -7,15 +7,17 @@ import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.*;
 
 public class StandardRecipeManager implements IRecipeManager
 {
@@ -29,16 +31,62 @@ public class StandardRecipeManager implements IRecipeManager
      */
     private final BiMap<IToken, IRecipeStorage> recipes = HashBiMap.create();
 
+    /**
+     * Read only copy of the recipes, rebuilt after the recipes changed.
+     */
+    @Nullable
+    private ImmutableMap<IToken, IRecipeStorage> recipesView;
+
+    /**
+     * The id of each recipe, by the fields the recipe equality is based on.
+     */
+    private final Map<RecipeKey, IToken> recipeIds = new HashMap<>();
+
+    /**
+     * The ids of the recipes by their primary output, ignoring the nbt.
+     */
+    private final Map<ItemStorage, Set<IToken>> recipesByOutput = new HashMap<>();
+
     @Override
     public ImmutableMap<IToken, IRecipeStorage> getRecipes()
     {
-        return ImmutableMap.copyOf(recipes);
+        if (recipesView == null)
+        {
+            recipesView = ImmutableMap.copyOf(recipes);
+        }
+        return recipesView;
+    }
+
+    @Nullable
+    @Override
+    public IRecipeStorage getRecipe(final IToken token)
+    {
+        return recipes.get(token);
+    }
+
+    @NotNull
+    @Override
+    public Set<IToken> getRecipeIdsForOutput(@NotNull final ItemStack output)
+    {
+        if (ItemStackUtils.isEmpty(output))
+        {
+            return Collections.emptySet();
+        }
+
+        final Set<IToken> tokens = recipesByOutput.get(new ItemStorage(output, false, true));
+        return tokens == null ? Collections.emptySet() : Collections.unmodifiableSet(tokens);
     }
 
     @Override
     public IToken addRecipe(final IRecipeStorage storage)
     {
-        recipes.put(storage.getToken(), storage);
+        final IRecipeStorage previous = recipes.put(storage.getToken(), storage);
+        if (previous != null)
+        {
+            unindex(storage.getToken(), previous);
+        }
+        index(storage.getToken(), storage);
+        recipesView = null;
         return storage.getToken();
     }
 
@@ -56,14 +104,48 @@ public class StandardRecipeManager implements IRecipeManager
     @Override
     public IToken getRecipeId(final IRecipeStorage storage)
     {
-        for(final Map.Entry<IToken, IRecipeStorage> tempStorage: recipes.entrySet())
+        return recipeIds.get(new RecipeKey(storage));
+    }
+
+    /**
+     * Add a recipe to the lookup indices.
+     *
+     * @param token   the id of the recipe.
+     * @param storage the recipe.
+     */
+    private void index(final IToken token, final IRecipeStorage storage)
+    {
+        recipeIds.putIfAbsent(new RecipeKey(storage), token);
+
+        if (!ItemStackUtils.isEmpty(storage.getPrimaryOutput()))
         {
-            if(tempStorage.getValue().equals(storage))
-            {
-                return tempStorage.getKey();
-            }
+            recipesByOutput.computeIfAbsent(new ItemStorage(storage.getPrimaryOutput(), false, true), key -> new LinkedHashSet<>()).add(token);
+        }
+    }
+
+    /**
+     * Remove a recipe from the lookup indices.
+     *
+     * @param token   the id of the recipe.
+     * @param storage the recipe.
+     */
+    private void unindex(final IToken token, final IRecipeStorage storage)
+    {
+        recipeIds.remove(new RecipeKey(storage), token);
+
+        if (!ItemStackUtils.isEmpty(storage.getPrimaryOutput()))
+        {
+            removeFromIndex(recipesByOutput, new ItemStorage(storage.getPrimaryOutput(), false, true), token);
+        }
+    }
+
+    private static void removeFromIndex(final Map<ItemStorage, Set<IToken>> index, final ItemStorage key, final IToken token)
+    {
+        final Set<IToken> tokens = index.get(key);
+        if (tokens != null && tokens.remove(token) && tokens.isEmpty())
+        {
+            index.remove(key);
         }
-        return null;
     }
 
     @Override
@@ -77,9 +159,55 @@ public class StandardRecipeManager implements IRecipeManager
     @Override
     public void readFromNBT(@NotNull final NBTTagCompound compound)
     {
-        recipes.putAll(NBTUtils.streamCompound(compound.getTagList(TAG_RECIPES, Constants.NBT.TAG_COMPOUND))
+        NBTUtils.streamCompound(compound.getTagList(TAG_RECIPES, Constants.NBT.TAG_COMPOUND))
                 .map(recipeCompound -> (IRecipeStorage) StandardFactoryController.getInstance().deserialize(recipeCompound))
                 .filter(Objects::nonNull)
-                .collect(Collectors.toMap(IRecipeStorage::getToken, recipe -> recipe)));
+                .forEach(this::addRecipe);
+    }
+
+    /**
+     * Hash key for a recipe, based on the same fields as the equality of {@link com.minecolonies.api.crafting.RecipeStorage}.
+     * The equality itself is left to the recipe.
+     */
+    private static final class RecipeKey
+    {
+        private final IRecipeStorage storage;
+        private final int            hash;
+
+        private RecipeKey(@NotNull final IRecipeStorage storage)
+        {
+            this.storage = storage;
+
+            final List<ItemStack> input = storage.getInput();
+            int result = storage.getGridSize();
+            result = 31 * result + input.size();
+            result = 31 * result + Objects.hashCode(storage.getPrimaryOutput().getItem());
+            for (final ItemStack stack : input)
+            {
+                result = 31 * result + Objects.hashCode(stack.getItem());
+            }
+            result = 31 * result + Objects.hashCode(storage.getIntermediate());
+            this.hash = result;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            return storage.equals(((RecipeKey) o).storage);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.requestsystem.management.manager;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.interactionhandling.InteractionValidatorTrigger;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
@@ -206,6 +207,7 @@ public class StandardRequestManager implements IStandardRequestManager
         if (this.isDirty())
         {
             colony.markDirty();
+            colony.getCitizenManager().markInteractionsForValidation(InteractionValidatorTrigger.REQUEST);
         }
     }
 
@@ -471,6 +473,7 @@ public class StandardRequestManager implements IStandardRequestManager
           NBTTagCompound::getCompoundTag,
           c -> retryingRequestResolverId = getFactoryController().deserialize(c));
 
+        getRequestHandler().onResolversChanged();
         updateIfRequired();
     }
 
@@ -19,7 +19,6 @@ import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemFood;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntityFurnace;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.ITextComponent;
@@ -537,7 +536,7 @@ public final class StandardRequests
                           Log.getLogger().warn("Failed to get sub items from: " + item.getRegistryName());
                       }
 
-                      return stacks.stream().filter(TileEntityFurnace::isItemFuel);
+                      return stacks.stream().filter(IColonyManager.getInstance().getCompatibilityManager()::isFuel);
                   }).collect(Collectors.toList()));
             }
 
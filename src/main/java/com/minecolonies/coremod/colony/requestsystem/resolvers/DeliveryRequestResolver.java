@@ -48,14 +48,13 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
         }
 
         final Colony colony = (Colony) manager.getColony();
-        final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizens()
+        final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizensWithJob(JobDeliveryman.class)
                                               .stream()
                                               .filter(citizenData -> citizenData.getCitizenEntity()
                                                                        .map(entityCitizen -> requestToCheck.getRequest()
                                                                                                .getTarget()
                                                                                                .isReachableFromLocation(entityCitizen.getLocation()))
                                                                        .orElse(false))
-                                              .filter(c -> c.getJob() instanceof JobDeliveryman)
                                               .findFirst()
                                               .orElse(null);
 
@@ -74,14 +73,13 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
         final Colony colony = (Colony) manager.getColony();
         //We can do an instant get here, since we are already filtering on anything that has no entity.
         final ICitizenData freeDeliveryMan = colony.getCitizenManager()
-                                              .getCitizens()
+                                              .getCitizensWithJob(JobDeliveryman.class)
                                               .stream()
                                               .filter(citizenData -> citizenData.getCitizenEntity()
                                                                        .map(entityCitizen -> request.getRequest()
                                                                                                .getTarget()
                                                                                                .isReachableFromLocation(entityCitizen.getLocation()))
                                                                        .orElse(false))
-                                               .filter(c -> c.getJob() instanceof JobDeliveryman)
                                                .filter(c -> ((JobDeliveryman) c.getJob()).isActive())
                                                .min(Comparator.comparing((ICitizenData c) -> ((JobDeliveryman) c.getJob()).getTaskQueue().size())
                                                      .thenComparing(Comparator.comparing(c -> {
@@ -131,9 +129,9 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
         if (!manager.getColony().getWorld().isRemote)
         {
             final Colony colony = (Colony) manager.getColony();
-            final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizens()
+            final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizensWithJob(JobDeliveryman.class)
                                                    .stream()
-                                                   .filter(c -> c.getJob() instanceof JobDeliveryman && ((JobDeliveryman) c.getJob()).getTaskQueue().contains(request.getId()))
+                                                   .filter(c -> ((JobDeliveryman) c.getJob()).getTaskQueue().contains(request.getId()))
                                                    .findFirst()
                                                    .orElse(null);
 
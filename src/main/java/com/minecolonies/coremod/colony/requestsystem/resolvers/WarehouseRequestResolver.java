@@ -202,8 +202,7 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
 
     private static Set<TileEntityWareHouse> getWareHousesInColony(final Colony colony)
     {
-        return colony.getBuildingManager().getBuildings().values().stream()
-                 .filter(building -> building instanceof BuildingWareHouse)
+        return colony.getBuildingManager().getBuildingsOfType(BuildingWareHouse.class).stream()
                  .map(building -> (TileEntityWareHouse) building.getTileEntity())
                  .collect(Collectors.toSet());
     }
@@ -152,7 +152,7 @@ public class WorkOrderBuild extends WorkOrderBuildDecoration
     @Override
     public boolean tooFarFromAnyBuilder(final IColony colony, final int level)
     {
-        return colony.getBuildingManager().getBuildings().values().stream().noneMatch(building -> building instanceof BuildingBuilder && building.getMainCitizen() != null && building.getPosition().distanceSq(this.getBuildingLocation()) <= MAX_DISTANCE_SQ);
+        return colony.getBuildingManager().getBuildingsOfType(BuildingBuilder.class).stream().noneMatch(building -> building.getMainCitizen() != null && building.getPosition().distanceSq(this.getBuildingLocation()) <= MAX_DISTANCE_SQ);
     }
 
     /**
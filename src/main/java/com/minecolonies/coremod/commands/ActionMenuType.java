@@ -297,6 +297,13 @@ public enum ActionMenuType implements IMenuType
       new ActionArgument("building", ActionArgumentType.STRING, ActionArgumentType.Is.REQUIRED),
       new ActionArgument("paste", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL),
       new ActionArgument("level", ActionArgumentType.INTEGER, ActionArgumentType.Is.OPTIONAL)
+    )),
+    PATHFINDING_STATS(new ActionMenu(
+      "PathfindingStats",
+      "pathstats",
+      ForgePermissionNodes.PATHFINDING_STATS,
+      PathfindingStatsCommand.class,
+      new ActionArgument("reset", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL)
     )),;
 
     @NotNull private final ActionMenu menu;
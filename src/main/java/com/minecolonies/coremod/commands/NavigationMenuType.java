@@ -63,7 +63,8 @@ public enum NavigationMenuType implements IMenuType
             ActionMenuType.WHO_AM_I,
             ActionMenuType.WHERE_AM_I,
             ActionMenuType.SCAN,
-            ActionMenuType.LOOT_GEN
+            ActionMenuType.LOOT_GEN,
+            ActionMenuType.PATHFINDING_STATS
     ))
 
     ;
@@ -67,7 +67,7 @@ public class ClaimChunksCommand implements IActionCommand
                 return;
             }
 
-            if (chunkManager.getAllChunkStorages().size() > CHUNKS_TO_CLAM_THRESHOLD)
+            if (chunkManager.getChunkStorageCount() > CHUNKS_TO_CLAM_THRESHOLD)
             {
                 sender.sendMessage(new TextComponentString(TOO_MANY_CHUNKS_CLAIMED));
                 return;
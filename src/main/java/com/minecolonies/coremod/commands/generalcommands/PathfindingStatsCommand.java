@@ -0,0 +1,66 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.entity.pathfinding.PathfindingStatistics;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+import static com.minecolonies.coremod.commands.AbstractSingleCommand.isPlayerOpped;
+
+/**
+ * Prints the queue depth and the per job type wait and run times of the pathfinding executor.
+ */
+public class PathfindingStatsCommand implements IActionCommand
+{
+    public static final  String DESC                  = "pathstats";
+    private static final String NO_PERMISSION_MESSAGE = "Must be OP to use command";
+    private static final String QUEUE_MESSAGE         = "Pathfinding queue: %d/%d waiting, %d running.";
+    private static final String CACHE_MESSAGE         = "Path cache: %d hits, %d misses.";
+    private static final String JOB_TYPE_MESSAGE      = "%s: queued %d, started %d, dropped %d, avg wait %.2fms, avg run %.2fms";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public PathfindingStatsCommand()
+    {
+        super();
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        if (!isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString(NO_PERMISSION_MESSAGE));
+            return;
+        }
+
+        sender.sendMessage(new TextComponentString(String.format(QUEUE_MESSAGE, Pathfinding.getQueueDepth(), Pathfinding.getQueueCapacity(), Pathfinding.getActiveCount())));
+        sender.sendMessage(new TextComponentString(String.format(CACHE_MESSAGE,
+          PathfindingStatistics.getInstance().getCacheHits(),
+          PathfindingStatistics.getInstance().getCacheMisses())));
+        for (final Map.Entry<String, PathfindingStatistics.JobTypeStatistics> entry : PathfindingStatistics.getInstance().getStatistics().entrySet())
+        {
+            final PathfindingStatistics.JobTypeStatistics stats = entry.getValue();
+            sender.sendMessage(new TextComponentString(String.format(JOB_TYPE_MESSAGE,
+              entry.getKey(),
+              stats.getQueued(),
+              stats.getStarted(),
+              stats.getDropped(),
+              stats.getAverageWaitMillis(),
+              stats.getAverageRunMillis())));
+        }
+
+        if (actionMenuState.getBooleanValueForArgument("reset", false))
+        {
+            PathfindingStatistics.getInstance().reset();
+        }
+    }
+}
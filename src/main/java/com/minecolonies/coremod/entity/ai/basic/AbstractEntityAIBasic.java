@@ -654,7 +654,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
         @Nullable final IBuildingWorker building = getOwnBuilding();
 
         boolean hasItem;
-        if (building != null)
+        if (building != null && building.getInventorySummary().hasItem(is))
         {
             hasItem = building.getTileEntity().hasItemStack(is);
 
@@ -692,7 +692,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
         @Nullable final IBuildingWorker building = getOwnBuilding();
 
         boolean hasItem;
-        if (building != null)
+        if (building != null && is != null && building.getInventorySummary().hasItem(stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(is, stack, true, true)))
         {
             hasItem = isInTileEntity(building.getTileEntity(), is);
 
@@ -981,7 +981,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     {
         @Nullable final IBuildingWorker building = getOwnBuilding();
 
-        if (building != null)
+        if (building != null && !ToolType.NONE.equals(toolType) && building.getInventorySummary().hasTool(toolType, minimalLevel, building.getMaxToolLevel()))
         {
             if (retrieveToolInTileEntity(building.getTileEntity(), toolType, minimalLevel, getOwnBuilding().getMaxToolLevel()))
             {
@@ -1443,7 +1443,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
             return true;
         }
 
-        if (InventoryUtils.getItemCountInProvider(getOwnBuilding(),
+        if (getOwnBuilding().getInventorySummary().getItemCount(
           itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true)) >= stack.getCount() &&
               InventoryUtils.transferXOfFirstSlotInProviderWithIntoNextFreeSlotInItemHandler(
                 getOwnBuilding(), itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack, true, true),
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.entity.ai.basic;
 
+import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.blocks.schematic.BlockSolidSubstitution;
 import com.ldtteam.structurize.placementhandlers.IPlacementHandler;
 import com.ldtteam.structurize.placementhandlers.PlacementHandlers;
@@ -10,6 +11,9 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.compatibility.candb.ChiselAndBitsCheck;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.entity.ai.statemachine.AIEventTarget;
+import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
+import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.ai.util.StructureIterator;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
@@ -37,7 +41,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDCOMPLETE;
@@ -49,6 +55,27 @@ import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECO
  */
 public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJobStructure> extends AbstractEntityAIStructure<J>
 {
+    /**
+     * The max amount of blocks of the structure to check for required materials each tick.
+     */
+    private static final int MAX_BLOCKS_CHECKED_PER_TICK = 500;
+
+    /**
+     * The placement handler of each block state without a tile entity, the first handler able to handle a state handles it regardless of its position.
+     */
+    private static final Map<IBlockState, IPlacementHandler> HANDLERS_BY_STATE = new HashMap<>();
+
+    /**
+     * The structure the required materials are currently calculated for, null if there is no calculation running.
+     */
+    @Nullable
+    private Structure requirementStructure;
+
+    /**
+     * The index of the next block of the structure to check for required materials.
+     */
+    private int requirementProgress = 0;
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -57,6 +84,13 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     public AbstractEntityAIStructureWithWorkOrder(@NotNull final J job)
     {
         super(job);
+        super.registerTargets(
+          /*
+           * Continue calculating the required materials.
+           * Does not stop execution, so the builder requests and builds meanwhile.
+           */
+          new AIEventTarget(AIBlockingEventType.AI_BLOCKING, this::calculateRequirements, 1)
+        );
         worker.setCanPickUpLoot(true);
     }
 
@@ -167,80 +201,154 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
             return;
         }
         requestMaterials();
+    }
 
+    /**
+     * Start calculating the required resources of the structure, the calculation continues over the next ticks.
+     * The entities are added right away, the blocks a limited amount per tick by {@link #calculateRequirements()}.
+     */
+    private void requestMaterials()
+    {
         final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
-        job.getWorkOrder().setRequested(true);
+        buildingWorker.resetNeededResources();
+        requirementStructure = job.getStructure();
+        requirementProgress = 0;
 
-        if (job.getWorkOrder().getAmountOfRes() == 0)
+        for (final NBTTagCompound entityInfo : job.getStructure().getEntityData())
         {
-            job.getWorkOrder().setAmountOfRes(buildingWorker.getNeededResources().values().stream()
-                                                .mapToInt(ItemStorage::getAmount).sum());
+            if (entityInfo != null)
+            {
+                for (final ItemStorage stack : ItemStackUtils.getListOfStackForEntityInfo(entityInfo, world, worker))
+                {
+                    if (!ItemStackUtils.isEmpty(stack.getItemStack()))
+                    {
+                        buildingWorker.addNeededResource(stack.getItemStack(), 1);
+                    }
+                }
+            }
         }
     }
 
     /**
-     * Iterates through all the required resources and stores them in the building.
-     * Suppressing Sonar Rule Squid:S135
-     * The rule thinks we should have less continue and breaks.
-     * But in this case the rule does not apply because code would become unreadable and uneffective without.
+     * Check the next blocks of the structure for required resources and store them in the building.
+     * Marks the work order as requested once all blocks are checked.
+     *
+     * @return null, to not stop the execution of the AI.
      */
-    private void requestMaterials()
+    @Nullable
+    private IAIState calculateRequirements()
     {
+        if (requirementStructure == null)
+        {
+            return null;
+        }
+
+        if (requirementStructure != job.getStructure() || job.getWorkOrder() == null)
+        {
+            //  The structure was reset or replaced, a new calculation is started with the next one.
+            requirementStructure = null;
+            return null;
+        }
+
         final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
-        buildingWorker.resetNeededResources();
+        final List<BlockInfo> blockInfos = requirementStructure.getBluePrint().getBlockInfoAsList();
+        final int end = Math.min(blockInfos.size(), requirementProgress + MAX_BLOCKS_CHECKED_PER_TICK);
+        for (; requirementProgress < end; requirementProgress++)
+        {
+            requestBlockIfRequired(buildingWorker, blockInfos.get(requirementProgress));
+        }
 
-        for (final BlockInfo blockInfo : job.getStructure().getBluePrint().getBlockInfoAsList())
+        if (requirementProgress >= blockInfos.size())
         {
-            if (blockInfo == null)
+            requirementStructure = null;
+            job.getWorkOrder().setRequested(true);
+            if (job.getWorkOrder().getAmountOfRes() == 0)
             {
-                continue;
+                job.getWorkOrder().setAmountOfRes(buildingWorker.getNeededResources().values().stream()
+                                                    .mapToInt(ItemStorage::getAmount).sum());
             }
-            final BlockPos worldPos = blockInfo.getPos().add(job.getStructure().getOffsetPosition());
+        }
+        return null;
+    }
 
-            @Nullable IBlockState blockState = blockInfo.getState();
-            @Nullable Block block = blockState.getBlock();
+    /**
+     * Check if a block of the structure has to be placed and store the resources it requires in the building.
+     *
+     * @param buildingWorker the building to store the resources in.
+     * @param blockInfo      the block of the structure.
+     */
+    private void requestBlockIfRequired(final AbstractBuildingStructureBuilder buildingWorker, @Nullable final BlockInfo blockInfo)
+    {
+        if (blockInfo == null)
+        {
+            return;
+        }
+        final BlockPos worldPos = blockInfo.getPos().add(job.getStructure().getOffsetPosition());
 
-            if (StructurePlacementUtils.isStructureBlockEqualWorldBlock(world, worldPos, blockState)
-                  || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
-                  || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER))
-                  || blockState.getBlock() == Blocks.AIR)
-            {
-                continue;
-            }
+        @Nullable IBlockState blockState = blockInfo.getState();
+        @Nullable Block block = blockState.getBlock();
 
-            @Nullable Block worldBlock = world.getBlockState(worldPos).getBlock();
-            for (final IPlacementHandler handler : PlacementHandlers.handlers)
+        if (StructurePlacementUtils.isStructureBlockEqualWorldBlock(world, worldPos, blockState)
+              || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
+              || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER))
+              || blockState.getBlock() == Blocks.AIR)
+        {
+            return;
+        }
+
+        @Nullable Block worldBlock = world.getBlockState(worldPos).getBlock();
+        final IPlacementHandler handler = getPlacementHandler(worldPos, blockState);
+        if (handler != null)
+        {
+            for (final ItemStack stack : handler.getRequiredItems(world, worldPos, blockState, blockInfo.getTileEntityData(), false))
             {
-                if (handler.canHandle(world, worldPos, blockState))
+                if (block != Blocks.AIR
+                      && worldBlock != Blocks.BEDROCK
+                      && !(worldBlock instanceof AbstractBlockHut)
+                      && !isBlockFree(block, 0))
                 {
-                    for (final ItemStack stack : handler.getRequiredItems(world, worldPos, blockState, blockInfo.getTileEntityData(), false))
-                    {
-                        if (block != Blocks.AIR
-                              && worldBlock != Blocks.BEDROCK
-                              && !(worldBlock instanceof AbstractBlockHut)
-                              && !isBlockFree(block, 0))
-                        {
-                            buildingWorker.addNeededResource(stack, stack.getCount());
-                        }
-                    }
-                    break;
+                    buildingWorker.addNeededResource(stack, stack.getCount());
                 }
             }
         }
+    }
 
-        for (final NBTTagCompound entityInfo : job.getStructure().getEntityData())
+    /**
+     * Get the placement handler of a block, looking it up in the handlers only the first time the block state is seen.
+     * Blocks with a tile entity are looked up every time, since their handlers may depend on the tile entity.
+     *
+     * @param worldPos   the position of the block in the world.
+     * @param blockState the state of the block.
+     * @return the handler or null if no handler can handle it.
+     */
+    @Nullable
+    private IPlacementHandler getPlacementHandler(@NotNull final BlockPos worldPos, @NotNull final IBlockState blockState)
+    {
+        if (blockState.getBlock().hasTileEntity(blockState))
         {
-            if (entityInfo != null)
+            return findPlacementHandler(worldPos, blockState);
+        }
+        return HANDLERS_BY_STATE.computeIfAbsent(blockState, state -> findPlacementHandler(worldPos, state));
+    }
+
+    /**
+     * Find the first placement handler able to handle a block.
+     *
+     * @param worldPos   the position of the block in the world.
+     * @param blockState the state of the block.
+     * @return the handler or null if no handler can handle it.
+     */
+    @Nullable
+    private IPlacementHandler findPlacementHandler(@NotNull final BlockPos worldPos, @NotNull final IBlockState blockState)
+    {
+        for (final IPlacementHandler handler : PlacementHandlers.handlers)
+        {
+            if (handler.canHandle(world, worldPos, blockState))
             {
-                for (final ItemStorage stack : ItemStackUtils.getListOfStackForEntityInfo(entityInfo, world, worker))
-                {
-                    if (!ItemStackUtils.isEmpty(stack.getItemStack()))
-                    {
-                        buildingWorker.addNeededResource(stack.getItemStack(), 1);
-                    }
-                }
+                return handler;
             }
         }
+        return null;
     }
 
     /**
@@ -452,8 +560,9 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
         BuildingBuilderResource resource = buildingWorker.getNeededResources().get(stack.getTranslationKey() + ":" + stack.getItemDamage() + "-" + hashCode);
 
-        if(resource == null)
+        if(resource == null && requirementStructure == null)
         {
+            //  Only the entities are known right away, the blocks are added over the next ticks.
             requestMaterials();
             resource = buildingWorker.getNeededResources().get(stack.getTranslationKey() + ":" + stack.getItemDamage() + "-" + hashCode);
         }
@@ -169,10 +169,10 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
             return RETRIEVING_END_PRODUCT_FROM_FURNACE;
         }
 
-        final int amountOfSmeltableInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), this::isSmeltable);
+        final int amountOfSmeltableInBuilding = getOwnBuilding().getInventorySummary().getItemCount(this::isSmeltable);
         final int amountOfSmeltableInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isSmeltable);
 
-        final int amountOfFuelInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), getOwnBuilding(AbstractBuildingFurnaceUser.class)::isAllowedFuel);
+        final int amountOfFuelInBuilding = getOwnBuilding().getInventorySummary().getItemCount(getOwnBuilding(AbstractBuildingFurnaceUser.class)::isAllowedFuel);
         final int amountOfFuelInInv =
           InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), getOwnBuilding(AbstractBuildingFurnaceUser.class)::isAllowedFuel);
 
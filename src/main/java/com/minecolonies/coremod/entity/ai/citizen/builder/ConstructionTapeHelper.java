@@ -1,9 +1,9 @@
 package com.minecolonies.coremod.entity.ai.citizen.builder;
 
 import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.StructureCache;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.coremod.util.ColonyUtils;
 import net.minecraft.block.Block;
@@ -12,6 +12,7 @@ import net.minecraft.block.properties.PropertyDirection;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -46,8 +47,8 @@ public final class ConstructionTapeHelper
     public static void placeConstructionTape(@NotNull final WorkOrderBuildDecoration workOrder, @NotNull final World world)
     {
         final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-          = ColonyUtils.calculateCorners(workOrder.getBuildingLocation(), world,
-          new Structure(world, workOrder.getStructureName(), new PlacementSettings()), workOrder.getRotation(world), workOrder.isMirrored());
+          = ColonyUtils.calculateCorners(workOrder.getBuildingLocation(), StructureCache.getTemplate(world,
+          workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE));
         placeConstructionTape(workOrder.getBuildingLocation(), corners, world);
     }
 
@@ -170,11 +171,13 @@ public final class ConstructionTapeHelper
      */
     public static void removeConstructionTape(@NotNull final WorkOrderBuildDecoration workOrder, @NotNull final World world)
     {
-        final Structure structure = new Structure(world, workOrder.getStructureName(), new PlacementSettings());
+        final Structure structure = StructureCache.getTemplate(world,
+          workOrder.getStructureName(),
+          workOrder.getRotation(world),
+          workOrder.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
         if (!structure.isBluePrintMissing())
         {
-            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = ColonyUtils.calculateCorners(workOrder.getBuildingLocation(), world,
-              structure, workOrder.getRotation(world), workOrder.isMirrored());
+            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = ColonyUtils.calculateCorners(workOrder.getBuildingLocation(), structure);
             removeConstructionTape(corners, world);
         }
     }
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.ai.citizen.cook;
 
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.interactionhandling.TranslationTextComponent;
 import com.minecolonies.api.colony.requestsystem.requestable.Food;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -116,13 +117,13 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook>
     @Override
     protected boolean isSmeltable(final ItemStack stack)
     {
-        return ItemStackUtils.ISCOOKABLE.test(stack);
+        return IColonyManager.getInstance().getCompatibilityManager().isCookable(stack);
     }
 
     @Override
     protected boolean reachedMaxToKeep()
     {
-        return InventoryUtils.getItemCountInProvider(getOwnBuilding(), ItemStackUtils.ISFOOD) > Math.max(1, getOwnBuilding().getBuildingLevel() * getOwnBuilding().getBuildingLevel()) * SLOT_PER_LINE;
+        return getOwnBuilding().getInventorySummary().getItemCount(ItemStackUtils.ISFOOD) > Math.max(1, getOwnBuilding().getBuildingLevel() * getOwnBuilding().getBuildingLevel()) * SLOT_PER_LINE;
     }
 
     @Override
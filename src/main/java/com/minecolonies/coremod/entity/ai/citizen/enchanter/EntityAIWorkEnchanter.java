@@ -36,6 +36,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_SKILLS;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 import static com.minecolonies.api.util.constant.TranslationConstants.NO_WORKERS_TO_DRAIN_SET;
 
@@ -143,7 +144,7 @@ public class EntityAIWorkEnchanter extends AbstractEntityAIInteract<JobEnchanter
         final int ancientTomesInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), IS_ANCIENT_TOME);
         if (ancientTomesInInv <= 0)
         {
-            final int amountOfAncientTomes = InventoryUtils.getItemCountInProvider(getOwnBuilding(), IS_ANCIENT_TOME);
+            final int amountOfAncientTomes = getOwnBuilding().getInventorySummary().getItemCount(IS_ANCIENT_TOME);
             if (amountOfAncientTomes > 0)
             {
                 needsCurrently = IS_ANCIENT_TOME;
@@ -363,7 +364,7 @@ public class EntityAIWorkEnchanter extends AbstractEntityAIInteract<JobEnchanter
             worker.getCitizenData().levelUp();
         }
         worker.getCitizenExperienceHandler().updateLevel();
-        worker.getCitizenData().markDirty();
+        worker.getCitizenData().markDirty(DIRTY_SKILLS);
 
         resetDraining();
         return IDLE;
@@ -165,7 +165,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             searchAndAddFields();
         }
 
-        final int amountOfCompostInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), this::isCompost);
+        final int amountOfCompostInBuilding = getOwnBuilding().getInventorySummary().getItemCount(this::isCompost);
         final int amountOfCompostInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isCompost);
 
         if (amountOfCompostInBuilding + amountOfCompostInInv <= 0)
@@ -143,7 +143,7 @@ public class EntityAIWorkFlorist extends AbstractEntityAIInteract<JobFlorist>
         final int amountOfCompostInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), IS_COMPOST);
         if (amountOfCompostInInv <= 0)
         {
-            final int amountOfCompostInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), IS_COMPOST);
+            final int amountOfCompostInBuilding = getOwnBuilding().getInventorySummary().getItemCount(IS_COMPOST);
             if (amountOfCompostInBuilding > 0)
             {
                 needsCurrently = IS_COMPOST;
@@ -9,6 +9,7 @@ import com.minecolonies.api.entity.ai.statemachine.AIOneTimeEventTarget;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.constant.ToolType;
@@ -32,9 +33,14 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
 import static com.minecolonies.api.util.constant.ColonyConstants.TEAM_COLONY_NAME;
@@ -704,14 +710,22 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
             return null;
         }
 
-        final List<EntityLivingBase> entities = world.getEntitiesWithinAABB(EntityLivingBase.class, getSearchArea());
+        final AxisAlignedBB searchArea = getSearchArea();
 
-        int closest = Integer.MAX_VALUE;
-        EntityLivingBase targetEntity = null;
+        // Raiders come from the index of the colony, the other entities from the lookup shared by the guards of the building.
+        final Set<AbstractEntityMinecoloniesMob> indexedRaiders = new HashSet<>(colony.getRaiderManager().getRaidersInArea(searchArea));
+        final List<EntityLivingBase> targets = new ArrayList<>();
+        for (final AbstractEntityMinecoloniesMob raider : indexedRaiders)
+        {
+            if (isEntityValidTarget(raider))
+            {
+                targets.add(raider);
+            }
+        }
 
-        for (final EntityLivingBase entity : entities)
+        for (final EntityLivingBase entity : buildingGuards.getEntitiesWithinArea(searchArea))
         {
-            if (!worker.canEntityBeSeen(entity) || entity.isDead)
+            if (entity.isDead)
             {
                 continue;
             }
@@ -720,7 +734,8 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
             if (entity instanceof EntityCitizen)
             {
                 final EntityCitizen citizen = (EntityCitizen) entity;
-                if (citizen.getCitizenJobHandler().getColonyJob() instanceof AbstractJobGuard && ((AbstractJobGuard) citizen.getCitizenJobHandler().getColonyJob()).isAsleep())
+                if (citizen.getCitizenJobHandler().getColonyJob() instanceof AbstractJobGuard && ((AbstractJobGuard) citizen.getCitizenJobHandler().getColonyJob()).isAsleep()
+                      && worker.canEntityBeSeen(citizen))
                 {
                     sleepingGuard = new WeakReference<>(citizen);
                     wakeTimer = 0;
@@ -729,19 +744,34 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
                 }
             }
 
-            if (isEntityValidTarget(entity))
+            if (!indexedRaiders.contains(entity) && isEntityValidTarget(entity))
             {
-                // Find closest
-                final int tempDistance = (int) worker.getPosition().distanceSq(entity.posX, entity.posY, entity.posZ);
-                if (tempDistance < closest)
-                {
-                    closest = tempDistance;
-                    targetEntity = entity;
-                }
+                targets.add(entity);
             }
         }
 
-        return targetEntity;
+        return getClosestVisibleEntity(targets);
+    }
+
+    /**
+     * Get the closest of the entities the guard can see.
+     * The line of sight is checked starting with the closest entity, until a visible one is found.
+     *
+     * @param entities the entities, sorted by this.
+     * @return the entity or null if none can be seen.
+     */
+    @Nullable
+    private EntityLivingBase getClosestVisibleEntity(@NotNull final List<EntityLivingBase> entities)
+    {
+        entities.sort(Comparator.comparingDouble(entity -> worker.getDistanceSq(entity)));
+        for (final EntityLivingBase entity : entities)
+        {
+            if (worker.canEntityBeSeen(entity))
+            {
+                return entity;
+            }
+        }
+        return null;
     }
 
     /**
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.ai.minimal;
 
 import com.minecolonies.api.entity.ai.DesiredActivity;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.pathfinding.PathJobPriority;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.CompatibilityUtils;
 import net.minecraft.entity.ai.EntityAIBase;
@@ -100,6 +101,6 @@ public class EntityAICitizenWander extends EntityAIBase
     @Override
     public void startExecuting()
     {
-        citizen.getNavigator().tryMoveToXYZ(this.xPosition, this.yPosition, this.zPosition, this.speed);
+        citizen.getNavigator().moveToXYZ(this.xPosition, this.yPosition, this.zPosition, this.speed, PathJobPriority.LOW);
     }
 }
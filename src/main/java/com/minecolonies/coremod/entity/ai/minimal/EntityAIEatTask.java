@@ -3,6 +3,7 @@ package com.minecolonies.coremod.entity.ai.minimal;
 import com.minecolonies.api.advancements.AdvancementTriggers;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingWorker;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
@@ -30,6 +31,8 @@ import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.wrapper.InvWrapper;
 
 import static com.minecolonies.api.util.ItemStackUtils.*;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_INVENTORY;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_STATE;
 import static com.minecolonies.api.util.constant.CitizenConstants.HIGH_SATURATION;
 import static com.minecolonies.api.util.constant.Constants.SECONDS_A_MINUTE;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
@@ -244,7 +247,7 @@ public class EntityAIEatTask extends EntityAIBase
             AdvancementUtils.TriggerAdvancementPlayersForColony(citizenColony, playerMP -> AdvancementTriggers.CITIZEN_EAT_FOOD.trigger(playerMP, new ItemStack(itemFood)));
         }
 
-        citizenData.markDirty();
+        citizenData.markDirty(DIRTY_STATE | DIRTY_INVENTORY);
         citizen.setHeldItem(EnumHand.MAIN_HAND, ItemStack.EMPTY);
 
         if (citizenData.getSaturation() < CitizenConstants.FULL_SATURATION && !stack.isEmpty())
@@ -421,7 +424,7 @@ public class EntityAIEatTask extends EntityAIBase
         final IColony colony = citizenData.getColony();
         placeToPath = colony.getBuildingManager().getBestRestaurant(citizen);
 
-        final int uncookedFood = InventoryUtils.findFirstSlotInProviderNotEmptyWith(citizen, ISCOOKABLE);
+        final int uncookedFood = InventoryUtils.findFirstSlotInProviderNotEmptyWith(citizen, IColonyManager.getInstance().getCompatibilityManager()::isCookable);
         boolean complained = false;
         if (uncookedFood != -1)
         {
@@ -380,7 +380,7 @@ public class EntityCitizen extends AbstractEntityCitizen
                 isDay = false;
                 final double decreaseBy = citizenColonyHandler.getPerBuildingFoodCost() * 2;
                 citizenData.decreaseSaturation(decreaseBy);
-                citizenData.markDirty();
+                citizenData.markDirty(DIRTY_STATE);
             }
 
             citizenStatusHandler.setLatestStatus(new TextComponentTranslation("com.minecolonies.coremod.status.sleeping"));
@@ -848,7 +848,7 @@ public class EntityCitizen extends AbstractEntityCitizen
                         }
                     }
                     this.citizenData.setName(name);
-                    this.citizenData.markDirty();
+                    this.citizenData.markDirty(DIRTY_INFO);
                     super.setCustomNameTag(name);
                 }
                 return;
@@ -875,7 +875,7 @@ public class EntityCitizen extends AbstractEntityCitizen
             }
 
             heal(healAmount);
-            citizenData.markDirty();
+            citizenData.markDirty(DIRTY_STATE);
         }
     }
 
@@ -1059,9 +1059,9 @@ public class EntityCitizen extends AbstractEntityCitizen
 
         decrementCallForHelpCooldown();
 
-        if (recentlyHit > 0)
+        if (recentlyHit > 0 && citizenData != null)
         {
-            markDirty();
+            citizenData.markDirty(DIRTY_STATE);
         }
 
         if (CompatibilityUtils.getWorldFromCitizen(this).isRemote)
@@ -1192,7 +1192,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost());
-            citizenData.markDirty();
+            citizenData.markDirty(DIRTY_STATE);
         }
     }
 
@@ -1205,7 +1205,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost() / 100.0);
-            citizenData.markDirty();
+            citizenData.markDirty(DIRTY_STATE);
         }
     }
 
@@ -130,7 +130,7 @@ public class CitizenExperienceHandler implements ICitizenExperienceHandler
             citizen.getCitizenData().levelUp();
         }
         updateLevel();
-        citizen.markDirty();
+        citizen.getCitizenData().markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -7,6 +7,7 @@ import net.minecraft.util.text.ITextComponent;
 
 import java.util.Objects;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_STATE;
 import static com.minecolonies.api.util.constant.CitizenConstants.MAX_LINES_OF_LATEST_LOG;
 
 /**
@@ -79,7 +80,7 @@ public class CitizenStatusHandler implements ICitizenStatusHandler
 
         if (hasChanged)
         {
-            citizen.markDirty();
+            markStateDirty();
         }
     }
 
@@ -94,7 +95,18 @@ public class CitizenStatusHandler implements ICitizenStatusHandler
     {
         System.arraycopy(latestStatus, 0, latestStatus, 1, latestStatus.length - 1);
         latestStatus[0] = status;
-        citizen.markDirty();
+        markStateDirty();
+    }
+
+    /**
+     * The status is not part of the citizen view, only refresh its cheap state fields.
+     */
+    private void markStateDirty()
+    {
+        if (citizen.getCitizenData() != null)
+        {
+            citizen.getCitizenData().markDirty(DIRTY_STATE);
+        }
     }
 
     /**
@@ -4,11 +4,15 @@ import com.minecolonies.api.blocks.AbstractBlockBarrel;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
+import com.minecolonies.api.entity.pathfinding.PathJobPriority;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -20,7 +24,6 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.world.ChunkCache;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
@@ -43,7 +46,6 @@ public abstract class AbstractPathJob implements Callable<Path>
     private static final   int      SHIFT_WEST            = 2;
     private static final   int      SHIFT_NORTH           = 3;
     private static final   int      SHIFT_EAST            = 4;
-    private static final   BlockPos BLOCKPOS_IDENTITY     = new BlockPos(0, 0, 0);
     private static final   BlockPos BLOCKPOS_UP           = new BlockPos(0, 1, 0);
     private static final   BlockPos BLOCKPOS_DOWN         = new BlockPos(0, -1, 0);
     private static final   BlockPos BLOCKPOS_NORTH        = new BlockPos(0, 0, -1);
@@ -93,6 +95,26 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private static final int SHIFT_Y_BY = 12;
 
+    /**
+     * Initial capacity of the open set.
+     */
+    private static final int INITIAL_OPEN_CAPACITY = 500;
+
+    /**
+     * Blocks the world snapshot extends beyond the searchable area, for neighbour and destination checks.
+     */
+    private static final int SNAPSHOT_MARGIN = 16;
+
+    /**
+     * Blocks the world snapshot extends above and below the start and end, paths rarely climb or drop further.
+     */
+    private static final int SNAPSHOT_HEIGHT_MARGIN = 32;
+
+    /**
+     * Map of the visited nodes per pathfinding thread, reused between searches instead of allocated per job.
+     */
+    private static final ThreadLocal<NodeMap> VISITED_NODES = ThreadLocal.withInitial(() -> new NodeMap(MAX_NODES_VISITED));
+
     @Nullable
     protected static Set<Node>          lastDebugNodesVisited;
     @Nullable
@@ -105,8 +127,16 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final  IBlockAccess       world;
     protected final  PathResult         result;
     private final    int                maxRange;
-    private final    Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final    Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    private final    NodeHeap           nodesOpen                    = new NodeHeap(INITIAL_OPEN_CAPACITY);
+    //  Visited nodes of the searching thread, taken when the search starts
+    @Nullable
+    private          NodeMap            nodesVisited                 = null;
+    //  Position cursors for neighbour checks, to avoid allocating a BlockPos per check
+    private final    BlockPos.MutableBlockPos walkPos                = new BlockPos.MutableBlockPos();
+    private final    BlockPos.MutableBlockPos scratchPos             = new BlockPos.MutableBlockPos();
+    //  Node pool of the searching thread, null if nodes have to outlive the search (debug drawing)
+    @Nullable
+    private          NodeArena          nodeArena                    = null;
     //  Debug Rendering
     protected        boolean            debugDrawEnabled             = false;
     @Nullable
@@ -140,6 +170,12 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private EntityLivingBase entity;
 
+    /**
+     * The explicitly requested queue priority, null to derive it from the entity.
+     */
+    @Nullable
+    private PathJobPriority priority = null;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -172,7 +208,14 @@ public abstract class AbstractPathJob implements Callable<Path>
         final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
         final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        // Nodes are only expanded within range of the start, so the snapshot has to cover that as well.
+        this.world = WorldSnapshotProvider.getInstance().getSnapshot(world,
+          new BlockPos(Math.min(minX, start.getX() - range) - SNAPSHOT_MARGIN,
+            Math.max(MIN_Y, Math.min(start.getY(), end.getY()) - SNAPSHOT_HEIGHT_MARGIN),
+            Math.min(minZ, start.getZ() - range) - SNAPSHOT_MARGIN),
+          new BlockPos(Math.max(maxX, start.getX() + range) + SNAPSHOT_MARGIN,
+            Math.min(MAX_Y, Math.max(start.getY(), end.getY()) + SNAPSHOT_HEIGHT_MARGIN),
+            Math.max(maxZ, start.getZ() + range) + SNAPSHOT_MARGIN));
 
         this.start = new BlockPos(start);
         this.maxRange = range;
@@ -213,7 +256,13 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         final int range = (int)Math.sqrt(Math.pow(maxX - minX, 2) + Math.pow(maxZ - minZ, 2)) * 2;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.world = WorldSnapshotProvider.getInstance().getSnapshot(world,
+          new BlockPos(minX - SNAPSHOT_MARGIN,
+            Math.max(MIN_Y, Math.min(startRestriction.getY(), endRestriction.getY()) - SNAPSHOT_HEIGHT_MARGIN),
+            minZ - SNAPSHOT_MARGIN),
+          new BlockPos(maxX + SNAPSHOT_MARGIN,
+            Math.min(MAX_Y, Math.max(startRestriction.getY(), endRestriction.getY()) + SNAPSHOT_HEIGHT_MARGIN),
+            maxZ + SNAPSHOT_MARGIN));
 
         this.start = new BlockPos((minX + maxX) / 2, (startRestriction.getY() + endRestriction.getY()) / 2, (minZ + maxZ) / 2);
         this.maxRange = range;
@@ -232,9 +281,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         this.entity = entity;
     }
 
-    private static boolean onLadderGoingUp(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
+    private static boolean onLadderGoingUp(@NotNull final Node currentNode, final int dx, final int dy, final int dz)
     {
-        return currentNode.isLadder() && (dPos.getY() >= 0 || dPos.getX() != 0 || dPos.getZ() != 0);
+        return currentNode.isLadder() && (dy >= 0 || dx != 0 || dz != 0);
     }
 
     /**
@@ -367,10 +416,25 @@ public abstract class AbstractPathJob implements Callable<Path>
      * @return cost to move from the parent to the new position.
      */
     protected static double computeCost(@NotNull final BlockPos dPos, final boolean isSwimming, final boolean onPath)
+    {
+        return computeCost(dPos.getX(), dPos.getY(), dPos.getZ(), isSwimming, onPath);
+    }
+
+    /**
+     * Compute the cost (immediate 'g' value) of moving from the parent space to the new space.
+     *
+     * @param dx         the x delta from the parent to the new space.
+     * @param dy         the y delta from the parent to the new space.
+     * @param dz         the z delta from the parent to the new space.
+     * @param isSwimming true is the current node would require the citizen to swim.
+     * @param onPath     checks if the node is on a path.
+     * @return cost to move from the parent to the new position.
+     */
+    private static double computeCost(final int dx, final int dy, final int dz, final boolean isSwimming, final boolean onPath)
     {
         double cost = 1D;
 
-        if (dPos.getY() != 0 && (dPos.getX() != 0 || dPos.getZ() != 0))
+        if (dy != 0 && (dx != 0 || dz != 0))
         {
             //  Tax the cost for jumping, dropping (warning: also taxes stairs)
             cost *= JUMP_DROP_COST;
@@ -405,14 +469,75 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node != null && node.isClosed();
     }
 
-    private static boolean calculateSwimming(@NotNull final IBlockAccess world, @NotNull final BlockPos pos, @Nullable final Node node)
+    public PathResult getResult()
     {
-        return (node == null) ? world.getBlockState(pos.down()).getMaterial().isLiquid() : node.isSwimming();
+        return result;
     }
 
-    public PathResult getResult()
+    /**
+     * Get the priority of this job in the pathfinding queue.
+     * If none was set explicitly, combat entities (guards and raiders) get a high priority.
+     * Must be called from the server thread.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    public PathJobPriority getPriority()
     {
-        return result;
+        if (priority != null)
+        {
+            return priority;
+        }
+
+        if (entity instanceof AbstractEntityMinecoloniesMob
+              || (entity instanceof AbstractEntityCitizen
+                    && ((AbstractEntityCitizen) entity).getCitizenJobHandler().getColonyJob() instanceof AbstractJobGuard))
+        {
+            return PathJobPriority.HIGH;
+        }
+        return PathJobPriority.NORMAL;
+    }
+
+    /**
+     * Set the priority of this job in the pathfinding queue.
+     *
+     * @param priority the priority to set.
+     */
+    public void setPriority(@NotNull final PathJobPriority priority)
+    {
+        this.priority = priority;
+    }
+
+    /**
+     * Get the id of the colony the entity of this job belongs to, used to share the pathfinding threads fairly.
+     * Must be called from the server thread.
+     *
+     * @return the colony id or 0 if the entity does not belong to a colony.
+     */
+    public int getColonyId()
+    {
+        return getColonyId(entity);
+    }
+
+    /**
+     * Get the id of the colony an entity belongs to.
+     * Must be called from the server thread.
+     *
+     * @param entity the entity.
+     * @return the colony id or 0 if the entity does not belong to a colony.
+     */
+    public static int getColonyId(@Nullable final EntityLivingBase entity)
+    {
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            return ((AbstractEntityCitizen) entity).getCitizenColonyHandler().getColonyId();
+        }
+
+        if (entity instanceof AbstractEntityMinecoloniesMob && ((AbstractEntityMinecoloniesMob) entity).getColony() != null)
+        {
+            return ((AbstractEntityMinecoloniesMob) entity).getColony().getID();
+        }
+        return 0;
     }
 
     /**
@@ -444,6 +569,9 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Nullable
     protected Path search()
     {
+        nodeArena = debugDrawEnabled ? null : NodeArena.reset();
+        nodesVisited = VISITED_NODES.get();
+        nodesVisited.clear();
         Node bestNode = getAndSetupStartNode();
 
         double bestNodeResultScore = getNodeResultScore(bestNode);
@@ -527,52 +655,57 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     private void walkCurrentNode(@NotNull final Node currentNode)
     {
-        BlockPos dPos = BLOCKPOS_IDENTITY;
+        int dx = 0;
+        int dy = 0;
+        int dz = 0;
         if (currentNode.parent != null)
         {
-            dPos = currentNode.pos.subtract(currentNode.parent.pos);
+            dx = currentNode.pos.getX() - currentNode.parent.pos.getX();
+            dy = currentNode.pos.getY() - currentNode.parent.pos.getY();
+            dz = currentNode.pos.getZ() - currentNode.parent.pos.getZ();
         }
 
         //  On a ladder, we can go 1 straight-up
-        if (onLadderGoingUp(currentNode, dPos))
+        if (onLadderGoingUp(currentNode, dx, dy, dz))
         {
             walk(currentNode, BLOCKPOS_UP);
         }
 
         //  We can also go down 1, if the lower block is a ladder
-        if (onLadderGoingDown(currentNode, dPos))
+        if (onLadderGoingDown(currentNode, dx, dy, dz))
         {
             walk(currentNode, BLOCKPOS_DOWN);
         }
 
         // N
-        if (dPos.getZ() <= 0)
+        if (dz <= 0)
         {
             walk(currentNode, BLOCKPOS_NORTH);
         }
 
         // E
-        if (dPos.getX() >= 0)
+        if (dx >= 0)
         {
             walk(currentNode, BLOCKPOS_EAST);
         }
 
         // S
-        if (dPos.getZ() >= 0)
+        if (dz >= 0)
         {
             walk(currentNode, BLOCKPOS_SOUTH);
         }
 
         // W
-        if (dPos.getX() <= 0)
+        if (dx <= 0)
         {
             walk(currentNode, BLOCKPOS_WEST);
         }
     }
 
-    private boolean onLadderGoingDown(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
+    private boolean onLadderGoingDown(@NotNull final Node currentNode, final int dx, final int dy, final int dz)
     {
-        return (dPos.getY() <= 0 || dPos.getX() != 0 || dPos.getZ() != 0) && isLadder(currentNode.pos.down());
+        return (dy <= 0 || dx != 0 || dz != 0)
+                 && isLadder(scratchPos.setPos(currentNode.pos.getX(), currentNode.pos.getY() - 1, currentNode.pos.getZ()));
     }
 
     private void handleDebugDraw()
@@ -591,8 +724,8 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     private Node getAndSetupStartNode()
     {
-        @NotNull final Node startNode = new Node(start,
-                                                  computeHeuristic(start));
+        final double heuristic = computeHeuristic(start);
+        @NotNull final Node startNode = newNode(null, start.getX(), start.getY(), start.getZ(), 0, heuristic, heuristic);
 
         if (isLadder(start))
         {
@@ -611,6 +744,25 @@ public abstract class AbstractPathJob implements Callable<Path>
         return startNode;
     }
 
+    /**
+     * Get an initialized node, from the node arena of this thread if possible.
+     *
+     * @param parent    parent node arrives from.
+     * @param x         the x coordinate.
+     * @param y         the y coordinate.
+     * @param z         the z coordinate.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node.
+     */
+    @NotNull
+    private Node newNode(@Nullable final Node parent, final int x, final int y, final int z, final double cost, final double heuristic, final double score)
+    {
+        final Node node = nodeArena == null ? new Node() : nodeArena.obtain();
+        return node.init(parent, x, y, z, cost, heuristic, score);
+    }
+
     /**
      * Generate the path to the target node.
      *
@@ -744,7 +896,8 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected final boolean walk(@NotNull final Node parent, @NotNull final BlockPos dPos)
     {
-        BlockPos pos = parent.pos.add(dPos);
+        final BlockPos.MutableBlockPos pos =
+          walkPos.setPos(parent.pos.getX() + dPos.getX(), parent.pos.getY() + dPos.getY(), parent.pos.getZ() + dPos.getZ());
 
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
@@ -759,14 +912,19 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        BlockPos yFix = BlockPos.ORIGIN;
+        //  Delta used for the cost, the y fix is added on top of the doubled delta
+        int costDx = dPos.getX();
+        int costDy = dPos.getY();
+        int costDz = dPos.getZ();
 
         if (pos.getY() != newY)
         {
-            yFix = dPos.add(0, newY - pos.getY(), 0);
+            costDx += dPos.getX();
+            costDy += dPos.getY() + newY - pos.getY();
+            costDz += dPos.getZ();
 
             //  Has this node been visited?
-            pos = new BlockPos(pos.getX(), newY, pos.getZ());
+            pos.setPos(pos.getX(), newY, pos.getZ());
             nodeKey = computeNodeKey(pos);
             node = nodesVisited.get(nodeKey);
             if (nodeClosed(node))
@@ -776,10 +934,12 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
         }
 
-        final boolean isSwimming = calculateSwimming(world, pos, node);
-        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(pos.down()).getBlock());
+        final boolean isSwimming = node == null
+                                     ? world.getBlockState(scratchPos.setPos(pos.getX(), pos.getY() - 1, pos.getZ())).getMaterial().isLiquid()
+                                     : node.isSwimming();
+        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(scratchPos.setPos(pos.getX(), pos.getY() - 1, pos.getZ())).getBlock());
         //  Cost may have changed due to a jump up or drop
-        final double stepCost = computeCost(dPos.add(yFix), isSwimming, onRoad);
+        final double stepCost = computeCost(costDx, costDy, costDz, isSwimming, onRoad);
         final double heuristic = computeHeuristic(pos);
         final double cost = parent.getCost() + stepCost;
         final double score = cost + heuristic;
@@ -787,6 +947,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         if (node == null)
         {
             node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
+            nodesOpen.offer(node);
         }
         else if (updateCurrentNode(parent, node, heuristic, cost, score))
         {
@@ -794,8 +955,6 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        nodesOpen.offer(node);
-
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
         // lets go another step in the same direction...
@@ -817,8 +976,7 @@ public abstract class AbstractPathJob implements Callable<Path>
                              final Node parent, @NotNull final BlockPos pos, final int nodeKey,
                              final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
-        final Node node;
-        node = new Node(parent, pos, cost, heuristic, score);
+        final Node node = newNode(parent, pos.getX(), pos.getY(), pos.getZ(), cost, heuristic, score);
         nodesVisited.put(nodeKey, node);
         if (debugDrawEnabled)
         {
@@ -847,7 +1005,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -857,6 +1015,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
+        nodesOpen.decreased(node);
         return false;
     }
 
@@ -884,7 +1043,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Do we have something to stand on in the target space?
-        final IBlockState below = world.getBlockState(pos.down());
+        final IBlockState below = world.getBlockState(scratchPos.setPos(pos.getX(), pos.getY() - 1, pos.getZ()));
         final SurfaceType walkability = isWalkableSurface(below, pos);
         if (walkability == SurfaceType.WALKABLE)
         {
@@ -908,7 +1067,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return handleInLiquid(pos, below, isSwimming);
         }
 
-        if (isLadder(below.getBlock(), pos.down()))
+        if (isLadder(below.getBlock(), scratchPos.setPos(pos.getX(), pos.getY() - 1, pos.getZ())))
         {
             return pos.getY();
         }
@@ -927,7 +1086,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         for (int i = 2; i <= 4; i++)
         {
-            final IBlockState below = world.getBlockState(pos.down(i));
+            final IBlockState below = world.getBlockState(scratchPos.setPos(pos.getX(), pos.getY() - i, pos.getZ()));
             if (isWalkableSurface(below, pos) == SurfaceType.WALKABLE)
             {
                 //  Level path
@@ -970,19 +1129,19 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Check for headroom in the target space
-        if (!isPassable(pos.up(2)))
+        if (!isPassable(scratchPos.setPos(pos.getX(), pos.getY() + 2, pos.getZ())))
         {
             return -1;
         }
 
         //  Check for jump room from the origin space
-        if (!isPassable(parent.pos.up(2)))
+        if (!isPassable(scratchPos.setPos(parent.pos.getX(), parent.pos.getY() + 2, parent.pos.getZ())))
         {
             return -1;
         }
 
-        final IBlockState below = world.getBlockState(parent.pos.down());
-        final AxisAlignedBB bb = below.getCollisionBoundingBox(world, pos.down());
+        final IBlockState below = world.getBlockState(scratchPos.setPos(parent.pos.getX(), parent.pos.getY() - 1, parent.pos.getZ()));
+        final AxisAlignedBB bb = below.getCollisionBoundingBox(world, scratchPos.setPos(pos.getX(), pos.getY() - 1, pos.getZ()));
         if (bb != null && bb.maxY < 1)
         {
             return -1;
@@ -994,21 +1153,21 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     private boolean checkHeadBlock(@Nullable final Node parent, @NotNull final BlockPos pos)
     {
-        BlockPos localPos = pos;
-        final AxisAlignedBB bb = world.getBlockState(localPos).getCollisionBoundingBox(world, localPos);
+        int localY = pos.getY();
+        final AxisAlignedBB bb = world.getBlockState(pos).getCollisionBoundingBox(world, pos);
         if (bb != null && bb.maxY < 1)
         {
-            localPos = pos.up();
+            localY = pos.getY() + 1;
         }
 
-        if (!isPassable(pos.up()))
+        if (!isPassable(scratchPos.setPos(pos.getX(), pos.getY() + 1, pos.getZ())))
         {
             return true;
         }
 
         if (parent != null)
         {
-            final IBlockState hereState = world.getBlockState(localPos.down());
+            final IBlockState hereState = world.getBlockState(scratchPos.setPos(pos.getX(), localY - 1, pos.getZ()));
             return hereState.getMaterial().isLiquid() && !isPassable(pos);
         }
         return false;
@@ -1026,10 +1185,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         {
             if (block.getMaterial().blocksMovement())
             {
-                return block.getBlock() instanceof BlockDoor
-                         || block.getBlock() instanceof BlockFenceGate
-                         || block.getBlock() instanceof AbstractBlockMinecoloniesConstructionTape
-                         || block.getBlock() instanceof BlockPressurePlate;
+                return isWalkThroughBlock(block);
             }
             else
             {
@@ -1040,6 +1196,20 @@ public abstract class AbstractPathJob implements Callable<Path>
         return true;
     }
 
+    /**
+     * Check if a state which blocks movement can still be walked through, like doors and gates.
+     *
+     * @param block the state to check.
+     * @return true if the entity can walk through it.
+     */
+    static boolean isWalkThroughBlock(@NotNull final IBlockState block)
+    {
+        return block.getBlock() instanceof BlockDoor
+                 || block.getBlock() instanceof BlockFenceGate
+                 || block.getBlock() instanceof AbstractBlockMinecoloniesConstructionTape
+                 || block.getBlock() instanceof BlockPressurePlate;
+    }
+
     protected boolean isPassable(final BlockPos pos)
     {
         final IBlockState state = world.getBlockState(pos);
@@ -0,0 +1,728 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.block.BlockFence;
+import net.minecraft.block.BlockFenceGate;
+import net.minecraft.block.BlockWall;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Abstract navigation graph over the loaded chunks of a colony, used to plan long trips before refining them segment by segment with path jobs.
+ * Nodes are portals, walkable crossings between neighbouring chunks, and the colony waypoints.
+ * Nodes in the same chunk are connected by the walking distance between them, portals to the matching portal of the neighbouring chunk.
+ * Chunks are built incrementally on the world tick after they load or a block in them changes.
+ * Must only be used from the server thread.
+ */
+public class ColonyNavigationGraph
+{
+    /**
+     * Edge length of a chunk.
+     */
+    private static final int CHUNK_SIZE = 16;
+
+    /**
+     * Height of the world.
+     */
+    private static final int WORLD_HEIGHT = 256;
+
+    /**
+     * Amount of chunks built per tick.
+     */
+    private static final int CHUNKS_PER_TICK = 1;
+
+    /**
+     * Amount of blocks below the surface scanned for portals.
+     */
+    private static final int PORTAL_SCAN_DEPTH = 24;
+
+    /**
+     * Highest drop walked down in the abstract search.
+     */
+    private static final int MAX_DROP = 2;
+
+    /**
+     * Max distance between a portal and the opposing portal in the neighbouring chunk.
+     */
+    private static final int MAX_PORTAL_OFFSET = 2;
+
+    /**
+     * Max amount of nodes expanded when planning.
+     */
+    private static final int MAX_EXPANSIONS = 20000;
+
+    /**
+     * The horizontal directions a chunk has neighbours in.
+     */
+    private static final EnumFacing[] SIDES = EnumFacing.HORIZONTALS;
+
+    /**
+     * Scratch state of the walking distance search, only used on the server thread.
+     */
+    private static final int[] visited   = new int[CHUNK_SIZE * CHUNK_SIZE * WORLD_HEIGHT];
+    private static final int[] distances = new int[CHUNK_SIZE * CHUNK_SIZE * WORLD_HEIGHT];
+    private static final int[] queue     = new int[CHUNK_SIZE * CHUNK_SIZE * WORLD_HEIGHT];
+    private static       int   visitStamp = 0;
+
+    /**
+     * The colony the graph belongs to.
+     */
+    private final IColony colony;
+
+    /**
+     * The loaded chunks of the colony.
+     */
+    private final Set<Long> colonyChunks = new HashSet<>();
+
+    /**
+     * The built chunks.
+     */
+    private final Map<Long, NavigationChunk> chunks = new HashMap<>();
+
+    /**
+     * Chunks which have to be built, in order.
+     */
+    private final Set<Long> dirtyChunks = new LinkedHashSet<>();
+
+    /**
+     * Create the graph of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyNavigationGraph(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Called when a chunk of the colony got loaded.
+     *
+     * @param chunkKey the chunk position as long.
+     */
+    public void onChunkLoaded(final long chunkKey)
+    {
+        colonyChunks.add(chunkKey);
+        dirtyChunks.add(chunkKey);
+
+        //  Their portals towards this chunk have to be linked again
+        for (final EnumFacing side : SIDES)
+        {
+            markDirty(ChunkPos.asLong(getChunkX(chunkKey) + side.getXOffset(), getChunkZ(chunkKey) + side.getZOffset()));
+        }
+    }
+
+    /**
+     * Called when a chunk of the colony got unloaded.
+     *
+     * @param chunkKey the chunk position as long.
+     */
+    public void onChunkUnloaded(final long chunkKey)
+    {
+        colonyChunks.remove(chunkKey);
+        dirtyChunks.remove(chunkKey);
+        removeChunk(chunkKey);
+    }
+
+    /**
+     * Called when a block in the colony changed or a waypoint got added.
+     *
+     * @param pos the position.
+     */
+    public void onBlockChanged(@NotNull final BlockPos pos)
+    {
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
+        markDirty(ChunkPos.asLong(chunkX, chunkZ));
+
+        //  Portals of the neighbour depend on the blocks at our border
+        final int localX = pos.getX() & (CHUNK_SIZE - 1);
+        final int localZ = pos.getZ() & (CHUNK_SIZE - 1);
+        if (localX == 0)
+        {
+            markDirty(ChunkPos.asLong(chunkX - 1, chunkZ));
+        }
+        else if (localX == CHUNK_SIZE - 1)
+        {
+            markDirty(ChunkPos.asLong(chunkX + 1, chunkZ));
+        }
+        if (localZ == 0)
+        {
+            markDirty(ChunkPos.asLong(chunkX, chunkZ - 1));
+        }
+        else if (localZ == CHUNK_SIZE - 1)
+        {
+            markDirty(ChunkPos.asLong(chunkX, chunkZ + 1));
+        }
+    }
+
+    private void markDirty(final long chunkKey)
+    {
+        if (colonyChunks.contains(chunkKey))
+        {
+            dirtyChunks.add(chunkKey);
+        }
+    }
+
+    /**
+     * Build the next dirty chunks.
+     *
+     * @param world the world of the colony.
+     */
+    public void tick(@NotNull final World world)
+    {
+        final Iterator<Long> iterator = dirtyChunks.iterator();
+        for (int i = 0; i < CHUNKS_PER_TICK && iterator.hasNext(); i++)
+        {
+            final long chunkKey = iterator.next();
+            iterator.remove();
+
+            if (world.getChunkProvider().getLoadedChunk(getChunkX(chunkKey), getChunkZ(chunkKey)) == null)
+            {
+                removeChunk(chunkKey);
+            }
+            else
+            {
+                buildChunk(world, chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Plan a trip on the abstract graph.
+     *
+     * @param world the world of the colony.
+     * @param start the start position.
+     * @param end   the destination.
+     * @return the positions to walk through, ending with the destination, or null if the trip can not be planned.
+     */
+    @Nullable
+    public List<BlockPos> plan(@NotNull final World world, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        final long startKey = ChunkPos.asLong(start.getX() >> 4, start.getZ() >> 4);
+        final long endKey = ChunkPos.asLong(end.getX() >> 4, end.getZ() >> 4);
+        final NavigationChunk startChunk = chunks.get(startKey);
+        final NavigationChunk endChunk = chunks.get(endKey);
+        if (startKey == endKey || startChunk == null || endChunk == null)
+        {
+            return null;
+        }
+
+        final Map<NavigationNode, Integer> fromStart = walkDistances(world, start, startChunk);
+        //  Walking distances are treated as symmetric here, path jobs take care of the exact way
+        final Map<NavigationNode, Integer> toEnd = walkDistances(world, end, endChunk);
+        if (fromStart.isEmpty() || toEnd.isEmpty())
+        {
+            return null;
+        }
+
+        final Map<NavigationNode, Integer> costs = new HashMap<>();
+        final Map<NavigationNode, NavigationNode> parents = new HashMap<>();
+        final PriorityQueue<OpenNode> open = new PriorityQueue<>();
+        for (final Map.Entry<NavigationNode, Integer> entry : fromStart.entrySet())
+        {
+            costs.put(entry.getKey(), entry.getValue());
+            open.offer(new OpenNode(entry.getKey(), entry.getValue(), entry.getValue() + estimate(entry.getKey().pos, end)));
+        }
+
+        int bestCost = Integer.MAX_VALUE;
+        NavigationNode bestLast = null;
+        int expansions = 0;
+        while (!open.isEmpty() && expansions++ < MAX_EXPANSIONS)
+        {
+            final OpenNode current = open.poll();
+            if (current.score >= bestCost)
+            {
+                break;
+            }
+            if (current.cost > costs.get(current.node))
+            {
+                continue;
+            }
+
+            final Integer remaining = toEnd.get(current.node);
+            if (remaining != null && current.cost + remaining < bestCost)
+            {
+                bestCost = current.cost + remaining;
+                bestLast = current.node;
+            }
+
+            for (final Map.Entry<NavigationNode, Integer> edge : current.node.edges.entrySet())
+            {
+                final int cost = current.cost + edge.getValue();
+                final Integer known = costs.get(edge.getKey());
+                if (known == null || cost < known)
+                {
+                    costs.put(edge.getKey(), cost);
+                    parents.put(edge.getKey(), current.node);
+                    open.offer(new OpenNode(edge.getKey(), cost, cost + estimate(edge.getKey().pos, end)));
+                }
+            }
+        }
+
+        if (bestLast == null)
+        {
+            return null;
+        }
+
+        final LinkedList<BlockPos> positions = new LinkedList<>();
+        positions.add(end);
+        for (NavigationNode node = bestLast; node != null; node = parents.get(node))
+        {
+            positions.addFirst(node.pos);
+        }
+        return positions;
+    }
+
+    /**
+     * Horizontal distance, never more than the walking distance.
+     */
+    private static int estimate(@NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        return Math.abs(from.getX() - to.getX()) + Math.abs(from.getZ() - to.getZ());
+    }
+
+    /**
+     * Remove a chunk and all edges into it.
+     *
+     * @param chunkKey the chunk position as long.
+     */
+    private void removeChunk(final long chunkKey)
+    {
+        final NavigationChunk chunk = chunks.remove(chunkKey);
+        if (chunk != null)
+        {
+            for (final NavigationNode node : chunk.nodes)
+            {
+                for (final NavigationNode neighbour : node.edges.keySet())
+                {
+                    neighbour.edges.remove(node);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the portals and waypoints of a chunk, connect them within the chunk and to the neighbouring chunks.
+     *
+     * @param world    the world.
+     * @param chunkKey the chunk position as long.
+     */
+    private void buildChunk(@NotNull final World world, final long chunkKey)
+    {
+        removeChunk(chunkKey);
+
+        final int chunkX = getChunkX(chunkKey);
+        final int chunkZ = getChunkZ(chunkKey);
+        final NavigationChunk chunk = new NavigationChunk(chunkX, chunkZ);
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (final EnumFacing side : SIDES)
+        {
+            findPortals(world, chunk, side, cursor);
+        }
+
+        for (final BlockPos wayPoint : colony.getWayPoints().keySet())
+        {
+            if (wayPoint.getX() >> 4 == chunkX && wayPoint.getZ() >> 4 == chunkZ && isStandable(world, cursor, wayPoint.getX(), wayPoint.getY(), wayPoint.getZ()))
+            {
+                chunk.add(new NavigationNode(wayPoint, null, null));
+            }
+        }
+
+        for (final NavigationNode node : chunk.nodes)
+        {
+            for (final Map.Entry<NavigationNode, Integer> entry : walkDistances(world, node.pos, chunk).entrySet())
+            {
+                if (entry.getKey() != node)
+                {
+                    node.edges.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        chunks.put(chunkKey, chunk);
+
+        for (final NavigationNode node : chunk.nodes)
+        {
+            if (node.side != null)
+            {
+                linkPortal(node, chunks.get(ChunkPos.asLong(chunkX + node.side.getXOffset(), chunkZ + node.side.getZOffset())));
+            }
+        }
+    }
+
+    /**
+     * Connect a portal to the closest portal on the opposing side of the neighbouring chunk.
+     *
+     * @param portal    the portal.
+     * @param neighbour the neighbouring chunk, null if not built.
+     */
+    private static void linkPortal(@NotNull final NavigationNode portal, @Nullable final NavigationChunk neighbour)
+    {
+        if (neighbour == null)
+        {
+            return;
+        }
+
+        NavigationNode closest = null;
+        int closestDistance = Integer.MAX_VALUE;
+        for (final NavigationNode node : neighbour.nodes)
+        {
+            if (node.side == portal.side.getOpposite())
+            {
+                final int distance = (int) node.pos.distanceSq(portal.outside);
+                if (distance <= MAX_PORTAL_OFFSET * MAX_PORTAL_OFFSET && distance < closestDistance)
+                {
+                    closest = node;
+                    closestDistance = distance;
+                }
+            }
+        }
+
+        if (closest != null)
+        {
+            final int cost = (int) Math.round(Math.sqrt(closest.pos.distanceSq(portal.pos)));
+            portal.edges.put(closest, cost);
+            closest.edges.put(portal, cost);
+        }
+    }
+
+    /**
+     * Scan one border of a chunk for crossings into the neighbour and add a portal per connected run of crossings.
+     *
+     * @param world  the world.
+     * @param chunk  the chunk.
+     * @param side   the border to scan.
+     * @param cursor position cursor.
+     */
+    private static void findPortals(@NotNull final World world, @NotNull final NavigationChunk chunk, @NotNull final EnumFacing side, @NotNull final BlockPos.MutableBlockPos cursor)
+    {
+        final int baseX = chunk.chunkX << 4;
+        final int baseZ = chunk.chunkZ << 4;
+        final boolean alongX = side.getAxis() == EnumFacing.Axis.Z;
+
+        final List<List<BlockPos[]>> runs = new ArrayList<>();
+        final List<List<BlockPos[]>> openRuns = new ArrayList<>();
+        for (int i = 0; i < CHUNK_SIZE; i++)
+        {
+            final int insideX = alongX ? baseX + i : (side == EnumFacing.WEST ? baseX : baseX + CHUNK_SIZE - 1);
+            final int insideZ = alongX ? (side == EnumFacing.NORTH ? baseZ : baseZ + CHUNK_SIZE - 1) : baseZ + i;
+            final int outsideX = insideX + side.getXOffset();
+            final int outsideZ = insideZ + side.getZOffset();
+            if (!world.isBlockLoaded(cursor.setPos(outsideX, 0, outsideZ)))
+            {
+                return;
+            }
+
+            final List<List<BlockPos[]>> continued = new ArrayList<>();
+            final int top = Math.min(world.getHeight(insideX, insideZ), WORLD_HEIGHT - 2);
+            for (int y = top; y >= Math.max(1, top - PORTAL_SCAN_DEPTH); y--)
+            {
+                if (!isStandable(world, cursor, insideX, y, insideZ))
+                {
+                    continue;
+                }
+
+                final int outsideY = findCrossing(world, cursor, insideX, y, insideZ, outsideX, outsideZ);
+                if (outsideY < 0)
+                {
+                    continue;
+                }
+
+                final BlockPos[] crossing = new BlockPos[] {new BlockPos(insideX, y, insideZ), new BlockPos(outsideX, outsideY, outsideZ)};
+                List<BlockPos[]> run = null;
+                for (final List<BlockPos[]> openRun : openRuns)
+                {
+                    if (!continued.contains(openRun) && Math.abs(openRun.get(openRun.size() - 1)[0].getY() - y) <= 1)
+                    {
+                        run = openRun;
+                        break;
+                    }
+                }
+                if (run == null)
+                {
+                    run = new ArrayList<>();
+                    runs.add(run);
+                }
+                run.add(crossing);
+                continued.add(run);
+            }
+            openRuns.clear();
+            openRuns.addAll(continued);
+        }
+
+        for (final List<BlockPos[]> run : runs)
+        {
+            final BlockPos[] middle = run.get(run.size() / 2);
+            chunk.add(new NavigationNode(middle[0], side, middle[1]));
+        }
+    }
+
+    /**
+     * Find the height an entity standing at the inside position ends up at when walking into the outside column.
+     *
+     * @return the height or -1 if it can not cross.
+     */
+    private static int findCrossing(
+      @NotNull final World world,
+      @NotNull final BlockPos.MutableBlockPos cursor,
+      final int x,
+      final int y,
+      final int z,
+      final int outsideX,
+      final int outsideZ)
+    {
+        if (isStandable(world, cursor, outsideX, y, outsideZ))
+        {
+            return y;
+        }
+        if (isPassable(world, cursor.setPos(x, y + 2, z)) && isStandable(world, cursor, outsideX, y + 1, outsideZ))
+        {
+            return y + 1;
+        }
+        if (isPassable(world, cursor.setPos(outsideX, y + 1, outsideZ)) && isStandable(world, cursor, outsideX, y - 1, outsideZ))
+        {
+            return y - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Walk a chunk from a position and collect the walking distances to the nodes of the chunk.
+     *
+     * @param world the world.
+     * @param from  the start, has to be within the chunk.
+     * @param chunk the chunk.
+     * @return the distance per reached node.
+     */
+    @NotNull
+    private static Map<NavigationNode, Integer> walkDistances(@NotNull final World world, @NotNull final BlockPos from, @NotNull final NavigationChunk chunk)
+    {
+        final Map<NavigationNode, Integer> reached = new HashMap<>();
+        if (from.getY() < 1 || from.getY() >= WORLD_HEIGHT - 1)
+        {
+            return reached;
+        }
+
+        if (++visitStamp == Integer.MAX_VALUE)
+        {
+            Arrays.fill(visited, 0);
+            visitStamp = 1;
+        }
+
+        final int baseX = chunk.chunkX << 4;
+        final int baseZ = chunk.chunkZ << 4;
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        int head = 0;
+        int tail = 0;
+        final int startIndex = index(from.getX() - baseX, from.getY(), from.getZ() - baseZ);
+        visited[startIndex] = visitStamp;
+        distances[startIndex] = 0;
+        queue[tail++] = startIndex;
+
+        while (head < tail && reached.size() < chunk.nodes.size())
+        {
+            final int current = queue[head++];
+            final int localX = current & (CHUNK_SIZE - 1);
+            final int localZ = (current >> 4) & (CHUNK_SIZE - 1);
+            final int y = current >> 8;
+
+            final List<NavigationNode> nodes = chunk.nodesByIndex.get(current);
+            if (nodes != null)
+            {
+                for (final NavigationNode node : nodes)
+                {
+                    reached.put(node, distances[current]);
+                }
+            }
+
+            for (final EnumFacing side : SIDES)
+            {
+                final int nextX = localX + side.getXOffset();
+                final int nextZ = localZ + side.getZOffset();
+                if (nextX < 0 || nextX >= CHUNK_SIZE || nextZ < 0 || nextZ >= CHUNK_SIZE)
+                {
+                    continue;
+                }
+
+                final int nextY = findStep(world, cursor, baseX + localX, y, baseZ + localZ, baseX + nextX, baseZ + nextZ);
+                if (nextY < 0)
+                {
+                    continue;
+                }
+
+                final int next = index(nextX, nextY, nextZ);
+                if (visited[next] != visitStamp)
+                {
+                    visited[next] = visitStamp;
+                    distances[next] = distances[current] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Find the height an entity ends up at when walking one block to the side.
+     *
+     * @return the height or -1 if it can not walk there.
+     */
+    private static int findStep(
+      @NotNull final World world,
+      @NotNull final BlockPos.MutableBlockPos cursor,
+      final int x,
+      final int y,
+      final int z,
+      final int nextX,
+      final int nextZ)
+    {
+        if (isStandable(world, cursor, nextX, y, nextZ))
+        {
+            return y;
+        }
+        if (isPassable(world, cursor.setPos(x, y + 2, z)) && isStandable(world, cursor, nextX, y + 1, nextZ))
+        {
+            return y + 1;
+        }
+        for (int drop = 1; drop <= MAX_DROP; drop++)
+        {
+            //  The space above the lower position has to be free to fall through
+            if (!isPassable(world, cursor.setPos(nextX, y - drop + 2, nextZ)))
+            {
+                return -1;
+            }
+            if (isStandable(world, cursor, nextX, y - drop, nextZ))
+            {
+                return y - drop;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isStandable(@NotNull final World world, @NotNull final BlockPos.MutableBlockPos cursor, final int x, final int y, final int z)
+    {
+        if (y < 1 || y >= WORLD_HEIGHT - 1)
+        {
+            return false;
+        }
+
+        final IBlockState below = world.getBlockState(cursor.setPos(x, y - 1, z));
+        if (!below.getMaterial().blocksMovement() || below.getBlock() instanceof BlockFence || below.getBlock() instanceof BlockFenceGate || below.getBlock() instanceof BlockWall)
+        {
+            return false;
+        }
+        return isPassable(world, cursor.setPos(x, y, z)) && isPassable(world, cursor.setPos(x, y + 1, z));
+    }
+
+    private static boolean isPassable(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final IBlockState state = world.getBlockState(pos);
+        if (state.getMaterial().isLiquid())
+        {
+            return false;
+        }
+        return !state.getMaterial().blocksMovement() || AbstractPathJob.isWalkThroughBlock(state);
+    }
+
+    private static int index(final int localX, final int y, final int localZ)
+    {
+        return (y << 8) | (localZ << 4) | localX;
+    }
+
+    private static int getChunkX(final long chunkKey)
+    {
+        return (int) chunkKey;
+    }
+
+    private static int getChunkZ(final long chunkKey)
+    {
+        return (int) (chunkKey >> 32);
+    }
+
+    /**
+     * The nodes of one chunk.
+     */
+    private static final class NavigationChunk
+    {
+        private final int                                 chunkX;
+        private final int                                 chunkZ;
+        private final List<NavigationNode>                nodes        = new ArrayList<>();
+        private final Map<Integer, List<NavigationNode>> nodesByIndex = new HashMap<>();
+
+        private NavigationChunk(final int chunkX, final int chunkZ)
+        {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private void add(@NotNull final NavigationNode node)
+        {
+            nodes.add(node);
+            nodesByIndex.computeIfAbsent(index(node.pos.getX() & (CHUNK_SIZE - 1), node.pos.getY(), node.pos.getZ() & (CHUNK_SIZE - 1)), i -> new ArrayList<>()).add(node);
+        }
+    }
+
+    /**
+     * A portal or waypoint.
+     */
+    private static final class NavigationNode
+    {
+        private final BlockPos pos;
+
+        /**
+         * The border of the chunk a portal is on, null for waypoints.
+         */
+        @Nullable
+        private final EnumFacing side;
+
+        /**
+         * The position a portal leads to in the neighbouring chunk, null for waypoints.
+         */
+        @Nullable
+        private final BlockPos outside;
+
+        /**
+         * The walking distance to the connected nodes.
+         */
+        private final Map<NavigationNode, Integer> edges = new HashMap<>();
+
+        private NavigationNode(@NotNull final BlockPos pos, @Nullable final EnumFacing side, @Nullable final BlockPos outside)
+        {
+            this.pos = pos;
+            this.side = side;
+            this.outside = outside;
+        }
+    }
+
+    /**
+     * Entry of the open set of the abstract search.
+     */
+    private static final class OpenNode implements Comparable<OpenNode>
+    {
+        private final NavigationNode node;
+        private final int            cost;
+        private final int            score;
+
+        private OpenNode(@NotNull final NavigationNode node, final int cost, final int score)
+        {
+            this.node = node;
+            this.cost = cost;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(@NotNull final OpenNode other)
+        {
+            return Integer.compare(score, other.score);
+        }
+    }
+}
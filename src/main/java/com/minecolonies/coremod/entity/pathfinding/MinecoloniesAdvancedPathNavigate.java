@@ -9,6 +9,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.pathfinding.Path;
@@ -23,6 +24,8 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
@@ -35,9 +38,38 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     private static final double PIRATE_SWIM_BONUS        = 20;
     public static final  double MIN_Y_DISTANCE           = 0.001;
 
+    /**
+     * Trips longer than this are planned on the colony navigation graph first.
+     */
+    private static final int HIERARCHICAL_MIN_DISTANCE = 64;
+
+    /**
+     * Max length of a segment of a planned trip searched by a single path job.
+     */
+    private static final int SEGMENT_LENGTH = 32;
+
     @Nullable
     private PathResult pathResult;
 
+    /**
+     * Start and destination of the path being calculated, set if the path may be added to the path cache.
+     */
+    @Nullable
+    private BlockPos cacheStart;
+    @Nullable
+    private BlockPos cacheDestination;
+
+    /**
+     * Targets of the remaining segments of a trip planned on the colony navigation graph.
+     */
+    private final Deque<BlockPos> pendingSegments = new ArrayDeque<>();
+
+    /**
+     * Queue priority of the segment jobs, null to derive it from the entity.
+     */
+    @Nullable
+    private PathJobPriority segmentPriority;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -109,6 +141,18 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
                 return;
             }
 
+            if (calculationFuture.isCancelled())
+            {
+                // Dropped by the pathfinding queue, let the AI request a new path.
+                calculationFuture = null;
+                if (pathResult != null)
+                {
+                    pathResult.setStatus(PathFindingStatus.CANCELLED);
+                    pathResult = null;
+                }
+                return;
+            }
+
             try
             {
                 if (processCompletedCalculationResult())
@@ -134,6 +178,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
         if (pathResult != null && noPath())
         {
+            if (!pendingSegments.isEmpty())
+            {
+                startNextSegment(AbstractPathJob.prepareStart(ourEntity));
+                return;
+            }
+
             pathResult.setStatus(PathFindingStatus.COMPLETE);
             pathResult = null;
         }
@@ -150,6 +200,23 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
      */
     @Nullable
     public PathResult moveToXYZ(final double x, final double y, final double z, final double speed)
+    {
+        return moveToXYZ(x, y, z, speed, null);
+    }
+
+    /**
+     * Try to move to a certain position with a given queue priority.
+     *
+     * @param x        the x target.
+     * @param y        the y target.
+     * @param z        the z target.
+     * @param speed    the speed to walk.
+     * @param priority the priority of the path job, null to derive it from the entity.
+     * @return the PathResult.
+     */
+    @Nullable
+    @Override
+    public PathResult moveToXYZ(final double x, final double y, final double z, final double speed, @Nullable final PathJobPriority priority)
     {
         final int newX = MathHelper.floor(x);
         final int newY = (int) y;
@@ -169,9 +236,140 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         @NotNull final BlockPos dest = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
-          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity),
-          dest, speed);
+        final int colonyId = AbstractPathJob.getColonyId(ourEntity);
+        if (colonyId != 0)
+        {
+            final Path cachedPath = PathCache.getInstance().getPath(CompatibilityUtils.getWorldFromEntity(ourEntity), colonyId, start, dest);
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, dest, speed);
+            }
+
+            if (BlockPosUtil.getDistance2D(start, dest) > HIERARCHICAL_MIN_DISTANCE)
+            {
+                final PathResult result = planTrip(start, dest, speed, priority);
+                if (result != null)
+                {
+                    return result;
+                }
+            }
+        }
+
+        final PathJobMoveToLocation job =
+          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity);
+        if (priority != null)
+        {
+            job.setPriority(priority);
+        }
+
+        final PathResult result = setPathJob(job, dest, speed);
+        if (colonyId != 0)
+        {
+            cacheStart = start;
+            cacheDestination = dest;
+        }
+        return result;
+    }
+
+    /**
+     * Plan a long trip on the navigation graph of the colony and start searching the first segment.
+     *
+     * @param start    the start position.
+     * @param dest     the destination.
+     * @param speed    the speed to walk.
+     * @param priority the priority of the path jobs, null to derive it from the entity.
+     * @return the PathResult of the whole trip, or null if it could not be planned.
+     */
+    @Nullable
+    private PathResult planTrip(@NotNull final BlockPos start, @NotNull final BlockPos dest, final double speed, @Nullable final PathJobPriority priority)
+    {
+        if (!(ourEntity instanceof AbstractEntityCitizen))
+        {
+            return null;
+        }
+
+        final IColony colony = ((AbstractEntityCitizen) ourEntity).getCitizenColonyHandler().getColony();
+        if (!(colony instanceof Colony))
+        {
+            return null;
+        }
+
+        final List<BlockPos> waypoints = ((Colony) colony).getNavigationGraph().plan(world, start, dest);
+        if (waypoints == null)
+        {
+            return null;
+        }
+
+        clearPath();
+
+        this.destination = dest;
+        this.originalDestination = dest;
+        this.walkSpeed = speed;
+        this.segmentPriority = priority;
+
+        //  Segments end at the last waypoint within reach of the segment start
+        BlockPos segmentStart = start;
+        BlockPos previous = start;
+        for (final BlockPos waypoint : waypoints)
+        {
+            if (previous != segmentStart && BlockPosUtil.getDistance2D(segmentStart, waypoint) > SEGMENT_LENGTH)
+            {
+                pendingSegments.add(previous);
+                segmentStart = previous;
+            }
+            previous = waypoint;
+        }
+        pendingSegments.add(previous);
+
+        pathResult = new PathResult();
+        startNextSegment(start);
+        return pathResult;
+    }
+
+    /**
+     * Search the path of the next segment of a planned trip, the segments share the PathResult of the trip.
+     *
+     * @param start the position to start from.
+     */
+    private void startNextSegment(@NotNull final BlockPos start)
+    {
+        final PathJobMoveToLocation job = new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
+          start,
+          pendingSegments.poll(),
+          (int) getPathSearchRange(),
+          pathResult,
+          ourEntity);
+        if (segmentPriority != null)
+        {
+            job.setPriority(segmentPriority);
+        }
+
+        calculationFuture = Pathfinding.enqueue(job);
+    }
+
+    /**
+     * Follow a path served by the path cache instead of starting a path job.
+     *
+     * @param path  the cached path.
+     * @param dest  the destination.
+     * @param speed the speed to walk.
+     * @return the PathResult.
+     */
+    @NotNull
+    private PathResult setCachedPath(@NotNull final Path path, @NotNull final BlockPos dest, final double speed)
+    {
+        clearPath();
+
+        this.destination = dest;
+        this.originalDestination = dest;
+        this.walkSpeed = speed;
+
+        pathResult = new PathResult();
+        setPath(path, getSpeed());
+        pathResult.setPathLength(path.getCurrentPathLength());
+        pathResult.setPathReachesDestination(true);
+        pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
+        return pathResult;
     }
 
     public boolean tryMoveToBlockPos(final BlockPos pos, final double speed)
@@ -308,6 +506,13 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return true;
         }
 
+        if (cacheStart != null && pathResult.isPathReachingDestination())
+        {
+            PathCache.getInstance().putPath(world, AbstractPathJob.getColonyId(ourEntity), cacheStart, cacheDestination, calculationFuture.get());
+        }
+        cacheStart = null;
+        cacheDestination = null;
+
         setPath(calculationFuture.get(), getSpeed());
 
         pathResult.setPathLength(getPath().getCurrentPathLength());
@@ -479,6 +684,9 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         }
 
         destination = null;
+        cacheStart = null;
+        cacheDestination = null;
+        pendingSegments.clear();
         super.clearPath();
     }
 
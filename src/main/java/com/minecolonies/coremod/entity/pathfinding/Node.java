@@ -17,15 +17,20 @@ public class Node implements Comparable<Node>
     private static final int HASH_C = 24;
 
     /**
-     * The position of the node.
+     * The position of the node, nodes are recycled between jobs so the position may not be kept beyond the job.
      */
     @NotNull
-    public final BlockPos pos;
+    public final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 
     /**
      * The hash of the node.
      */
-    private final int hash;
+    private int hash;
+
+    /**
+     * Index of the node in the open set heap, -1 if not queued.
+     */
+    int heapIndex = -1;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -102,14 +107,46 @@ public class Node implements Comparable<Node>
      * @param score     node total score.
      */
     public Node(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        init(parent, pos.getX(), pos.getY(), pos.getZ(), cost, heuristic, score);
+    }
+
+    /**
+     * Create an uninitialized node for the node arena.
+     */
+    Node()
+    {
+        //Initialized by init.
+    }
+
+    /**
+     * (Re-)initialize this node, resets all flags and counters.
+     *
+     * @param parent    parent node arrives from.
+     * @param x         the x coordinate of the node.
+     * @param y         the y coordinate of the node.
+     * @param z         the z coordinate of the node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return this node.
+     */
+    Node init(@Nullable final Node parent, final int x, final int y, final int z, final double cost, final double heuristic, final double score)
     {
         this.parent = parent;
-        this.pos = pos;
+        this.pos.setPos(x, y, z);
         this.steps = parent == null ? 0 : (parent.steps + 1);
         this.cost = cost;
         this.heuristic = heuristic;
         this.score = score;
-        this.hash = pos.getX() ^ ((pos.getZ() << HASH_A) | (pos.getZ() >> HASH_B)) ^ (pos.getY() << HASH_C);
+        this.hash = x ^ ((z << HASH_A) | (z >> HASH_B)) ^ (y << HASH_C);
+        this.heapIndex = -1;
+        this.counterAdded = 0;
+        this.counterVisited = 0;
+        this.closed = false;
+        this.ladder = false;
+        this.swimming = false;
+        return this;
     }
 
     @Override
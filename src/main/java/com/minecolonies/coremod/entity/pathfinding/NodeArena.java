@@ -0,0 +1,70 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per thread pool of nodes, handed out during a search and reclaimed as a whole when the next search starts.
+ */
+public final class NodeArena
+{
+    /**
+     * Amount of nodes an arena keeps at most between searches.
+     */
+    private static final int MAX_RETAINED_NODES = 65536;
+
+    /**
+     * The arena of the current thread.
+     */
+    private static final ThreadLocal<NodeArena> ARENA = ThreadLocal.withInitial(NodeArena::new);
+
+    /**
+     * The pooled nodes.
+     */
+    private final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * The amount of nodes handed out since the last reset.
+     */
+    private int used = 0;
+
+    private NodeArena()
+    {
+        //Created per thread.
+    }
+
+    /**
+     * Get the arena of the current thread, reclaiming all nodes it handed out before.
+     * Nodes of a previous search on this thread may not be used anymore afterwards.
+     *
+     * @return the arena.
+     */
+    @NotNull
+    public static NodeArena reset()
+    {
+        final NodeArena arena = ARENA.get();
+        arena.used = 0;
+        if (arena.nodes.size() > MAX_RETAINED_NODES)
+        {
+            arena.nodes.subList(MAX_RETAINED_NODES, arena.nodes.size()).clear();
+        }
+        return arena;
+    }
+
+    /**
+     * Get a node, it has to be initialized by the caller.
+     *
+     * @return the node.
+     */
+    @NotNull
+    public Node obtain()
+    {
+        if (used == nodes.size())
+        {
+            nodes.add(new Node());
+        }
+        return nodes.get(used++);
+    }
+}
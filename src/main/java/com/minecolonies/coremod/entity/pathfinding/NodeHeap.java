@@ -0,0 +1,176 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of nodes which tracks the index of each node, so a node with an improved score can be moved up
+ * in place instead of being removed and added again.
+ */
+public class NodeHeap
+{
+    /**
+     * The queued nodes, heap ordered.
+     */
+    private Node[] heap;
+
+    /**
+     * The amount of queued nodes.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new heap.
+     *
+     * @param initialCapacity the initial capacity.
+     */
+    public NodeHeap(final int initialCapacity)
+    {
+        heap = new Node[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the amount of queued nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if the node is queued.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        return node.heapIndex >= 0 && node.heapIndex < size && heap[node.heapIndex] == node;
+    }
+
+    /**
+     * Queue a node.
+     *
+     * @param node the node, must not be queued already.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = node;
+        node.heapIndex = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Remove and return the node with the lowest score.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node first = heap[0];
+        final Node last = heap[--size];
+        heap[size] = null;
+        first.heapIndex = -1;
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.heapIndex = 0;
+            siftDown(0);
+        }
+        return first;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node decreased.
+     *
+     * @param node the node.
+     */
+    public void decreased(@NotNull final Node node)
+    {
+        siftUp(node.heapIndex);
+    }
+
+    /**
+     * Remove all nodes.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].heapIndex = -1;
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    private void siftUp(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+            heap[index] = parent;
+            parent.heapIndex = index;
+            index = parentIndex;
+        }
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+
+    private void siftDown(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && child.compareTo(heap[rightIndex]) > 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+            heap[index] = child;
+            child.heapIndex = index;
+            index = childIndex;
+        }
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+}
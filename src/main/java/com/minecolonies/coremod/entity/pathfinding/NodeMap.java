@@ -0,0 +1,146 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from primitive node keys to nodes, avoids boxing the key on every lookup.
+ */
+public class NodeMap
+{
+    /**
+     * Maximum fill ratio before the table grows.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * Golden ratio constant used to spread the keys.
+     */
+    private static final int MIX = 0x9E3779B9;
+
+    /**
+     * The keys of the table.
+     */
+    private int[] keys;
+
+    /**
+     * The values of the table, null marks a free slot.
+     */
+    private Node[] values;
+
+    /**
+     * The amount of entries.
+     */
+    private int size = 0;
+
+    /**
+     * Shift taking the top bits of the mixed key as slot, 32 - log2(capacity).
+     */
+    private int shift;
+
+    /**
+     * Create a new map.
+     *
+     * @param expectedSize the expected amount of entries.
+     */
+    public NodeMap(final int expectedSize)
+    {
+        final int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new int[capacity];
+        values = new Node[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    /**
+     * Get the node with the given key.
+     *
+     * @param key the key.
+     * @return the node or null if none.
+     */
+    @Nullable
+    public Node get(final int key)
+    {
+        final int mask = keys.length - 1;
+        int slot = slot(key);
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Put a node with the given key, replacing the old mapping.
+     *
+     * @param key  the key.
+     * @param node the node.
+     */
+    public void put(final int key, @NotNull final Node node)
+    {
+        final int mask = keys.length - 1;
+        int slot = slot(key);
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                values[slot] = node;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = node;
+        if (++size > keys.length * LOAD_FACTOR)
+        {
+            grow();
+        }
+    }
+
+    /**
+     * Get the amount of entries.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear()
+    {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int slot(final int key)
+    {
+        return (key * MIX) >>> shift;
+    }
+
+    private void grow()
+    {
+        final int[] oldKeys = keys;
+        final Node[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new Node[oldValues.length * 2];
+        shift--;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
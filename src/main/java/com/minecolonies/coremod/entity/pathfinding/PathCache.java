@@ -0,0 +1,408 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.configuration.Configurations;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Caches the paths found for the citizens of a colony, so repeated routes like hut to warehouse do not need a new search.
+ * Paths are bucketed by the chunk sections of their start and end, can be served reversed,
+ * and are dropped as soon as a block changes in a chunk they cross.
+ * Must only be used from the server thread.
+ */
+public final class PathCache
+{
+    /**
+     * The singleton instance.
+     */
+    private static final PathCache INSTANCE = new PathCache();
+
+    /**
+     * Max squared distance between the requested start and the start of a cached path.
+     */
+    private static final int MAX_START_DISTANCE_SQ = 2;
+
+    /**
+     * The cached paths per world.
+     */
+    private final Map<World, WorldCache> caches = new WeakHashMap<>();
+
+    private PathCache()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get the cache instance.
+     *
+     * @return the instance.
+     */
+    public static PathCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Get a cached path between two positions.
+     *
+     * @param world    the world.
+     * @param colonyId the colony of the entity.
+     * @param start    the position the entity starts at.
+     * @param end      the destination.
+     * @return a new path instance or null if none is cached.
+     */
+    @Nullable
+    public Path getPath(@NotNull final World world, final int colonyId, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        final WorldCache cache = caches.get(world);
+        final ColonyCache colonyCache = cache == null ? null : cache.colonies.get(colonyId);
+        if (colonyCache != null)
+        {
+            final CachedPath forward = colonyCache.get(new SectionKey(start, end));
+            if (forward != null
+                  && forward.end.equals(end)
+                  && forward.start.distanceSq(start) <= MAX_START_DISTANCE_SQ
+                  && checkPassable(cache, forward, world))
+            {
+                PathfindingStatistics.getInstance().onCacheHit();
+                return forward.toPath(false);
+            }
+
+            final CachedPath backward = colonyCache.get(new SectionKey(end, start));
+            if (backward != null
+                  && backward.reversible
+                  && backward.start.equals(end)
+                  && backward.getLast().distanceSq(start) <= MAX_START_DISTANCE_SQ
+                  && checkPassable(cache, backward, world))
+            {
+                PathfindingStatistics.getInstance().onCacheHit();
+                return backward.toPath(true);
+            }
+        }
+
+        PathfindingStatistics.getInstance().onCacheMiss();
+        return null;
+    }
+
+    /**
+     * Add a path which reached its destination to the cache.
+     *
+     * @param world    the world.
+     * @param colonyId the colony of the entity.
+     * @param start    the position the search started at.
+     * @param end      the destination of the search.
+     * @param path     the found path.
+     */
+    public void putPath(@NotNull final World world, final int colonyId, @NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final Path path)
+    {
+        if (colonyId == 0 || path.getCurrentPathLength() == 0 || Configurations.pathfinding.pathfindingCacheSize <= 0)
+        {
+            return;
+        }
+
+        final WorldCache cache = caches.computeIfAbsent(world, w -> new WorldCache());
+        final CachedPath cachedPath = new CachedPath(colonyId, new SectionKey(start, end), start.toImmutable(), end.toImmutable(), path);
+        final CachedPath replaced = cache.colonies.computeIfAbsent(colonyId, id -> new ColonyCache(cache)).put(cachedPath.key, cachedPath);
+        if (replaced != null)
+        {
+            cache.unindex(replaced);
+        }
+        cache.index(cachedPath);
+    }
+
+    /**
+     * Drop all paths crossing the chunk of the changed block.
+     *
+     * @param world the world the block changed in.
+     * @param pos   the position of the block.
+     */
+    public void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final WorldCache cache = caches.get(world);
+        if (cache != null)
+        {
+            cache.invalidate(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        }
+    }
+
+    /**
+     * Drop all cached paths of a world.
+     *
+     * @param world the world which unloads.
+     */
+    public void onWorldUnload(@NotNull final World world)
+    {
+        caches.remove(world);
+    }
+
+    /**
+     * Check that a cached path can still be walked, drops it if not.
+     *
+     * @param cache the cache of the world.
+     * @param path  the path.
+     * @param world the world.
+     * @return true if all points are still passable.
+     */
+    private static boolean checkPassable(@NotNull final WorldCache cache, @NotNull final CachedPath path, @NotNull final World world)
+    {
+        if (path.isPassable(world))
+        {
+            return true;
+        }
+        cache.remove(path);
+        return false;
+    }
+
+    /**
+     * The cached paths of one world.
+     */
+    private static final class WorldCache
+    {
+        /**
+         * The paths per colony.
+         */
+        private final Map<Integer, ColonyCache> colonies = new HashMap<>();
+
+        /**
+         * The paths by the chunks they cross.
+         */
+        private final Map<Long, Set<CachedPath>> pathsByChunk = new HashMap<>();
+
+        private void index(@NotNull final CachedPath path)
+        {
+            for (final long chunk : path.chunks)
+            {
+                pathsByChunk.computeIfAbsent(chunk, c -> new HashSet<>()).add(path);
+            }
+        }
+
+        private void unindex(@NotNull final CachedPath path)
+        {
+            for (final long chunk : path.chunks)
+            {
+                final Set<CachedPath> paths = pathsByChunk.get(chunk);
+                if (paths != null && paths.remove(path) && paths.isEmpty())
+                {
+                    pathsByChunk.remove(chunk);
+                }
+            }
+        }
+
+        private void remove(@NotNull final CachedPath path)
+        {
+            final ColonyCache colonyCache = colonies.get(path.colonyId);
+            if (colonyCache != null && colonyCache.remove(path.key, path))
+            {
+                unindex(path);
+            }
+        }
+
+        private void invalidate(final long chunk)
+        {
+            final Set<CachedPath> paths = pathsByChunk.get(chunk);
+            if (paths != null)
+            {
+                for (final CachedPath path : new ArrayList<>(paths))
+                {
+                    remove(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Least recently used paths of a colony.
+     */
+    private static final class ColonyCache extends LinkedHashMap<SectionKey, CachedPath>
+    {
+        private final WorldCache worldCache;
+
+        private ColonyCache(@NotNull final WorldCache worldCache)
+        {
+            super(16, 0.75F, true);
+            this.worldCache = worldCache;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<SectionKey, CachedPath> eldest)
+        {
+            if (size() > Configurations.pathfinding.pathfindingCacheSize)
+            {
+                worldCache.unindex(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The chunk sections of the start and the end of a path.
+     */
+    private static final class SectionKey
+    {
+        private final long startSection;
+        private final long endSection;
+
+        private SectionKey(@NotNull final BlockPos start, @NotNull final BlockPos end)
+        {
+            this.startSection = new BlockPos(start.getX() >> 4, start.getY() >> 4, start.getZ() >> 4).toLong();
+            this.endSection = new BlockPos(end.getX() >> 4, end.getY() >> 4, end.getZ() >> 4).toLong();
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final SectionKey that = (SectionKey) o;
+            return startSection == that.startSection && endSection == that.endSection;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * Long.hashCode(startSection) + Long.hashCode(endSection);
+        }
+    }
+
+    /**
+     * Immutable copy of a found path.
+     */
+    private static final class CachedPath
+    {
+        private final int          colonyId;
+        private final SectionKey   key;
+        private final BlockPos     start;
+        private final BlockPos     end;
+        private final BlockPos[]   points;
+        private final boolean[]    onLadder;
+        private final EnumFacing[] ladderFacing;
+        private final long[]       chunks;
+
+        /**
+         * Ladder facings only hold for the direction the path was searched in.
+         */
+        private final boolean reversible;
+
+        private CachedPath(final int colonyId, @NotNull final SectionKey key, @NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final Path path)
+        {
+            this.colonyId = colonyId;
+            this.key = key;
+            this.start = start;
+            this.end = end;
+
+            final int length = path.getCurrentPathLength();
+            this.points = new BlockPos[length];
+            this.onLadder = new boolean[length];
+            this.ladderFacing = new EnumFacing[length];
+
+            boolean hasLadder = false;
+            final Set<Long> crossedChunks = new HashSet<>();
+            crossedChunks.add(ChunkPos.asLong(start.getX() >> 4, start.getZ() >> 4));
+            for (int i = 0; i < length; i++)
+            {
+                final PathPoint point = path.getPathPointFromIndex(i);
+                points[i] = new BlockPos(point.x, point.y, point.z);
+                if (point instanceof PathPointExtended && ((PathPointExtended) point).isOnLadder())
+                {
+                    onLadder[i] = true;
+                    ladderFacing[i] = ((PathPointExtended) point).getLadderFacing();
+                    hasLadder = true;
+                }
+                crossedChunks.add(ChunkPos.asLong(point.x >> 4, point.z >> 4));
+            }
+
+            this.reversible = !hasLadder;
+            this.chunks = new long[crossedChunks.size()];
+            int index = 0;
+            for (final long chunk : crossedChunks)
+            {
+                chunks[index++] = chunk;
+            }
+        }
+
+        private BlockPos getLast()
+        {
+            return points[points.length - 1];
+        }
+
+        /**
+         * Check that the feet and head space of every point is still free.
+         *
+         * @param world the world.
+         * @return true if so.
+         */
+        private boolean isPassable(@NotNull final World world)
+        {
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (final BlockPos point : points)
+            {
+                if (!isPassable(world, pos.setPos(point)) || !isPassable(world, pos.setPos(point.getX(), point.getY() + 1, point.getZ())))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isPassable(@NotNull final World world, @NotNull final BlockPos pos)
+        {
+            if (!world.isBlockLoaded(pos))
+            {
+                return false;
+            }
+            final IBlockState state = world.getBlockState(pos);
+            return !state.getMaterial().blocksMovement() || state.getBlock().isPassable(world, pos) || AbstractPathJob.isWalkThroughBlock(state);
+        }
+
+        /**
+         * Create a new path instance to follow.
+         *
+         * @param reversed true to walk from the end back to the start.
+         * @return the path.
+         */
+        @NotNull
+        private Path toPath(final boolean reversed)
+        {
+            final PathPoint[] pathPoints = new PathPoint[points.length];
+            if (reversed)
+            {
+                //  The found path does not contain its start, but has to end there when walked backwards.
+                for (int i = 0; i < points.length - 1; i++)
+                {
+                    pathPoints[i] = new PathPointExtended(points[points.length - 2 - i]);
+                }
+                pathPoints[points.length - 1] = new PathPointExtended(start);
+            }
+            else
+            {
+                for (int i = 0; i < points.length; i++)
+                {
+                    final PathPointExtended point = new PathPointExtended(points[i]);
+                    if (onLadder[i])
+                    {
+                        point.setOnLadder(true);
+                        point.setLadderFacing(ladderFacing[i]);
+                    }
+                    pathPoints[i] = point;
+                }
+            }
+            return new Path(pathPoints);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.LanguageHandler;
+import com.minecolonies.api.entity.pathfinding.PathJobPriority;
 import com.minecolonies.api.entity.pathfinding.TreePathResult;
 import com.minecolonies.coremod.entity.ai.citizen.lumberjack.Tree;
 import net.minecraft.block.material.Material;
@@ -74,6 +75,7 @@ public class PathJobFindTree extends AbstractPathJob
         this.treesToNotCut = treesToCut;
         this.hutLocation = home;
         this.colony = colony;
+        setPriority(PathJobPriority.LOW);
     }
 
     /**
@@ -101,6 +103,7 @@ public class PathJobFindTree extends AbstractPathJob
         this.treesToNotCut = treesToCut;
         this.hutLocation = home;
         this.colony = colony;
+        setPriority(PathJobPriority.LOW);
     }
 
     @NotNull
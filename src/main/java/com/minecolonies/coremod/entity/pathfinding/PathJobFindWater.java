@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
+import com.minecolonies.api.entity.pathfinding.PathJobPriority;
 import com.minecolonies.api.entity.pathfinding.WaterPathResult;
 import com.minecolonies.api.util.Pond;
 import net.minecraft.entity.EntityLivingBase;
@@ -39,6 +40,7 @@ public class PathJobFindWater extends AbstractPathJob
         super(world, start, start, range, new WaterPathResult(), entity);
         this.ponds = new ArrayList<>(ponds);
         hutLocation = home;
+        setPriority(PathJobPriority.LOW);
     }
 
     private static double squareDistance(@NotNull final BlockPos currentPond, @NotNull final BlockPos nextPond)
@@ -0,0 +1,143 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.PathJobPriority;
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.FutureTask;
+
+/**
+ * Future of a queued path job, ordered by priority and then by the fair share of its colony.
+ */
+public class PathJobFutureTask extends FutureTask<Path> implements Comparable<PathJobFutureTask>
+{
+    /**
+     * The job this task runs.
+     */
+    private final AbstractPathJob job;
+
+    /**
+     * The queue priority of the job.
+     */
+    private final PathJobPriority priority;
+
+    /**
+     * The virtual start time of the job within its colony, jobs of different colonies interleave by this.
+     */
+    private final long fairKey;
+
+    /**
+     * Global submission counter, final tie breaker.
+     */
+    private final long sequence;
+
+    /**
+     * The type name of the job, used for statistics.
+     */
+    private final String jobType;
+
+    /**
+     * The time the task was queued at in nano seconds.
+     */
+    private final long queuedAt;
+
+    /**
+     * Create a new task for the given job.
+     *
+     * @param job      the job to run.
+     * @param priority its priority.
+     * @param fairKey  its virtual start time within its colony.
+     * @param sequence the global submission counter.
+     */
+    PathJobFutureTask(@NotNull final AbstractPathJob job, @NotNull final PathJobPriority priority, final long fairKey, final long sequence)
+    {
+        super(job);
+        this.job = job;
+        this.priority = priority;
+        this.fairKey = fairKey;
+        this.sequence = sequence;
+        this.jobType = job.getClass().getSimpleName();
+        this.queuedAt = System.nanoTime();
+    }
+
+    @Override
+    public void run()
+    {
+        if (isDone())
+        {
+            return;
+        }
+
+        final long startedAt = System.nanoTime();
+        Pathfinding.onTaskStarted(this, startedAt - queuedAt);
+        super.run();
+        PathfindingStatistics.getInstance().onRun(jobType, System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning)
+    {
+        final boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled && Pathfinding.remove(this))
+        {
+            PathfindingStatistics.getInstance().onDropped(jobType);
+        }
+        return cancelled;
+    }
+
+    @Override
+    public int compareTo(@NotNull final PathJobFutureTask o)
+    {
+        if (priority != o.priority)
+        {
+            return priority.compareTo(o.priority);
+        }
+
+        if (fairKey != o.fairKey)
+        {
+            return Long.compare(fairKey, o.fairKey);
+        }
+
+        return Long.compare(sequence, o.sequence);
+    }
+
+    /**
+     * Get the job of this task.
+     *
+     * @return the job.
+     */
+    public AbstractPathJob getJob()
+    {
+        return job;
+    }
+
+    /**
+     * Get the queue priority of this task.
+     *
+     * @return the priority.
+     */
+    public PathJobPriority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * Get the virtual start time of this task within its colony.
+     *
+     * @return the fair key.
+     */
+    public long getFairKey()
+    {
+        return fairKey;
+    }
+
+    /**
+     * Get the type name of the job, used for statistics.
+     *
+     * @return the simple class name of the job.
+     */
+    public String getJobType()
+    {
+        return jobType;
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.Log;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.pathfinding.Path;
@@ -34,7 +35,22 @@ public class PathJobMoveToLocation extends AbstractPathJob
      */
     public PathJobMoveToLocation(final World world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final EntityLivingBase entity)
     {
-        super(world, start, end, range, entity);
+        this(world, start, end, range, new PathResult(), entity);
+    }
+
+    /**
+     * Prepares the PathJob for the path finding system, reporting to an existing result.
+     *
+     * @param world  world the entity is in.
+     * @param start  starting location.
+     * @param end    target location.
+     * @param range  max search range.
+     * @param result the path result.
+     * @param entity the entity.
+     */
+    public PathJobMoveToLocation(final World world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final PathResult result, final EntityLivingBase entity)
+    {
+        super(world, start, end, range, result, entity);
 
         this.destination = new BlockPos(end);
     }
@@ -0,0 +1,336 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Priority queue of the pathfinding executor with a soft capacity.
+ * Refusing offers when full makes the executor hand the task to its rejection handler, which sheds load.
+ * Tasks are kept sorted in both directions, so the task that would run last can be evicted without scanning the queue.
+ */
+public class PathJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable>
+{
+    /**
+     * The maximum amount of queued tasks.
+     */
+    private final int capacity;
+
+    /**
+     * The queued tasks, first one runs next. Tasks never compare equal, as their sequence is unique.
+     */
+    private final TreeSet<PathJobFutureTask> tasks = new TreeSet<>();
+
+    /**
+     * Guards the tasks.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when a task is queued.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity the maximum amount of queued tasks.
+     */
+    public PathJobQueue(final int capacity)
+    {
+        super();
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public boolean offer(@NotNull final Runnable task)
+    {
+        lock.lock();
+        try
+        {
+            if (tasks.size() >= capacity)
+            {
+                return false;
+            }
+            insert((PathJobFutureTask) task);
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue a task in place of the task that would run last, if the new one has a higher priority.
+     *
+     * @param task the task to queue.
+     * @return the evicted task, or null if the task was not queued.
+     */
+    @Nullable
+    public PathJobFutureTask offerEvictingLast(@NotNull final PathJobFutureTask task)
+    {
+        lock.lock();
+        try
+        {
+            if (tasks.isEmpty() || task.getPriority().compareTo(tasks.last().getPriority()) >= 0)
+            {
+                return null;
+            }
+
+            final PathJobFutureTask last = tasks.pollLast();
+            insert(task);
+            return last;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add a task and wake a waiting worker, the lock has to be held.
+     *
+     * @param task the task.
+     */
+    private void insert(@NotNull final PathJobFutureTask task)
+    {
+        tasks.add(task);
+        notEmpty.signal();
+    }
+
+    @Override
+    public void put(@NotNull final Runnable task)
+    {
+        offer(task);
+    }
+
+    @Override
+    public boolean offer(@NotNull final Runnable task, final long timeout, @NotNull final TimeUnit unit)
+    {
+        return offer(task);
+    }
+
+    @Nullable
+    @Override
+    public Runnable poll()
+    {
+        lock.lock();
+        try
+        {
+            return tasks.pollFirst();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public Runnable take() throws InterruptedException
+    {
+        lock.lockInterruptibly();
+        try
+        {
+            while (tasks.isEmpty())
+            {
+                notEmpty.await();
+            }
+            return tasks.pollFirst();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Runnable poll(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try
+        {
+            while (tasks.isEmpty())
+            {
+                if (nanos <= 0)
+                {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return tasks.pollFirst();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    @Override
+    public Runnable peek()
+    {
+        lock.lock();
+        try
+        {
+            return tasks.isEmpty() ? null : tasks.first();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(@Nullable final Object task)
+    {
+        if (!(task instanceof PathJobFutureTask))
+        {
+            return false;
+        }
+
+        lock.lock();
+        try
+        {
+            return tasks.remove(task);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        lock.lock();
+        try
+        {
+            return tasks.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity()
+    {
+        return Math.max(0, capacity - size());
+    }
+
+    @Override
+    public void clear()
+    {
+        lock.lock();
+        try
+        {
+            tasks.clear();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> target)
+    {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> target, final int maxElements)
+    {
+        if (target == this)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        lock.lock();
+        try
+        {
+            int drained = 0;
+            while (drained < maxElements && !tasks.isEmpty())
+            {
+                target.add(tasks.pollFirst());
+                drained++;
+            }
+            return drained;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Iterates over a copy of the queued tasks in the order they would run, removing through it removes from the queue.
+     *
+     * @return the iterator.
+     */
+    @NotNull
+    @Override
+    public Iterator<Runnable> iterator()
+    {
+        final List<Runnable> snapshot;
+        lock.lock();
+        try
+        {
+            snapshot = new ArrayList<>(tasks);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        final Iterator<Runnable> iterator = snapshot.iterator();
+        return new Iterator<Runnable>()
+        {
+            private Runnable current;
+
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Runnable next()
+            {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove()
+            {
+                if (current == null)
+                {
+                    throw new IllegalStateException();
+                }
+                PathJobQueue.this.remove(current);
+                current = null;
+            }
+        };
+    }
+
+    /**
+     * Get the capacity of the queue.
+     *
+     * @return the maximum amount of queued tasks.
+     */
+    public int getCapacity()
+    {
+        return capacity;
+    }
+}
@@ -17,20 +17,46 @@ import org.jetbrains.annotations.NotNull;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
+    /**
+     * Time idle pathfinding threads are kept alive.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 10;
+
+    private static final PathJobQueue jobQueue = new PathJobQueue(Configurations.pathfinding.pathfindingMaxQueueSize);
     private static ThreadPoolExecutor executor;
 
+    /**
+     * The last virtual start time handed out per colony, used to interleave the jobs of busy colonies.
+     */
+    private static final Map<Integer, Long> colonyFairKeys = new HashMap<>();
+
+    /**
+     * The virtual start time of the last job that started running.
+     */
+    private static final AtomicLong virtualClock = new AtomicLong();
+
+    /**
+     * Global job submission counter.
+     */
+    private static long sequence = 0;
+
     static
     {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+        executor = createExecutor();
     }
 
     private Pathfinding()
@@ -45,11 +71,30 @@ public final class Pathfinding
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+            executor = createExecutor();
         }
         return executor;
     }
 
+    /**
+     * Create the executor, core and max pool size are the same as the pool only grows beyond its core size when the queue is full.
+     *
+     * @return the new executor.
+     */
+    private static ThreadPoolExecutor createExecutor()
+    {
+        final int threads = Math.max(1, Configurations.pathfinding.pathfindingMaxThreadCount);
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ThreadPoolExecutor newExecutor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, jobQueue, runnable ->
+        {
+            final Thread thread = new Thread(runnable, "Minecolonies Pathfinding Worker #" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, rejectingExecutor) -> shedLoad((PathJobFutureTask) runnable, rejectingExecutor));
+        newExecutor.allowCoreThreadTimeOut(true);
+        return newExecutor;
+    }
+
     /**
      * Add a job to the queue for processing.
      *
@@ -58,7 +103,95 @@ public final class Pathfinding
      */
     public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
     {
-        return getExecutor().submit(job);
+        final PathJobFutureTask task;
+        synchronized (colonyFairKeys)
+        {
+            final int colonyId = job.getColonyId();
+            final long fairKey = Math.max(colonyFairKeys.getOrDefault(colonyId, 0L), virtualClock.get()) + 1;
+            colonyFairKeys.put(colonyId, fairKey);
+            task = new PathJobFutureTask(job, job.getPriority(), fairKey, sequence++);
+        }
+
+        PathfindingStatistics.getInstance().onQueued(task.getJobType());
+        getExecutor().execute(task);
+        return task;
+    }
+
+    /**
+     * Called by the executor when the queue is full.
+     * Evicts the last queued task if the new one has a higher priority, drops the new one otherwise.
+     *
+     * @param task             the rejected task.
+     * @param rejectingExecutor the executor.
+     */
+    private static void shedLoad(@NotNull final PathJobFutureTask task, @NotNull final ThreadPoolExecutor rejectingExecutor)
+    {
+        if (!rejectingExecutor.isShutdown())
+        {
+            final PathJobFutureTask last = jobQueue.offerEvictingLast(task);
+            if (last != null)
+            {
+                last.cancel(false);
+                PathfindingStatistics.getInstance().onDropped(last.getJobType());
+                return;
+            }
+        }
+
+        task.cancel(false);
+        PathfindingStatistics.getInstance().onDropped(task.getJobType());
+    }
+
+    /**
+     * Called when a task leaves the queue to run.
+     *
+     * @param task      the task.
+     * @param waitNanos the time it spent in the queue.
+     */
+    static void onTaskStarted(@NotNull final PathJobFutureTask task, final long waitNanos)
+    {
+        virtualClock.accumulateAndGet(task.getFairKey(), Math::max);
+        PathfindingStatistics.getInstance().onStarted(task.getJobType(), waitNanos);
+    }
+
+    /**
+     * Remove a cancelled task from the queue so it never starts.
+     *
+     * @param task the task.
+     * @return true if it was still queued.
+     */
+    static boolean remove(@NotNull final PathJobFutureTask task)
+    {
+        return jobQueue.remove(task);
+    }
+
+    /**
+     * Get the amount of jobs waiting to be processed.
+     *
+     * @return the queue depth.
+     */
+    public static int getQueueDepth()
+    {
+        return jobQueue.size();
+    }
+
+    /**
+     * Get the maximum amount of jobs that can wait to be processed.
+     *
+     * @return the queue capacity.
+     */
+    public static int getQueueCapacity()
+    {
+        return jobQueue.getCapacity();
+    }
+
+    /**
+     * Get the amount of jobs currently being processed.
+     *
+     * @return the active thread count.
+     */
+    public static int getActiveCount()
+    {
+        return getExecutor().getActiveCount();
     }
 
     /**
@@ -70,6 +203,11 @@ public final class Pathfinding
         getExecutor().shutdown();
         executor = null;
         jobQueue.clear();
+        synchronized (colonyFairKeys)
+        {
+            colonyFairKeys.clear();
+        }
+        virtualClock.set(0);
     }
 
     /**
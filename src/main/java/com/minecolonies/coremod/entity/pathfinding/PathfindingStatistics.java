@@ -0,0 +1,191 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects queue and run time statistics of the pathfinding executor per job type.
+ */
+public final class PathfindingStatistics
+{
+    /**
+     * The singleton instance.
+     */
+    private static final PathfindingStatistics INSTANCE = new PathfindingStatistics();
+
+    /**
+     * The statistics by job type.
+     */
+    private final Map<String, JobTypeStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Path cache lookups which did and did not find a path.
+     */
+    private final AtomicLong cacheHits   = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    private PathfindingStatistics()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get the statistics instance.
+     *
+     * @return the instance.
+     */
+    public static PathfindingStatistics getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Called when a job got queued.
+     *
+     * @param jobType the type of the job.
+     */
+    public void onQueued(@NotNull final String jobType)
+    {
+        get(jobType).queued.incrementAndGet();
+    }
+
+    /**
+     * Called when a job has been dropped before it ran (shed or cancelled).
+     *
+     * @param jobType the type of the job.
+     */
+    public void onDropped(@NotNull final String jobType)
+    {
+        get(jobType).dropped.incrementAndGet();
+    }
+
+    /**
+     * Called when a job leaves the queue to run.
+     *
+     * @param jobType   the type of the job.
+     * @param waitNanos the time it waited in the queue.
+     */
+    public void onStarted(@NotNull final String jobType, final long waitNanos)
+    {
+        final JobTypeStatistics stats = get(jobType);
+        stats.started.incrementAndGet();
+        stats.waitNanos.addAndGet(waitNanos);
+    }
+
+    /**
+     * Called when a job has finished running.
+     *
+     * @param jobType  the type of the job.
+     * @param runNanos the time it ran.
+     */
+    public void onRun(@NotNull final String jobType, final long runNanos)
+    {
+        get(jobType).runNanos.addAndGet(runNanos);
+    }
+
+    /**
+     * Called when a path got served from the path cache.
+     */
+    public void onCacheHit()
+    {
+        cacheHits.incrementAndGet();
+    }
+
+    /**
+     * Called when a path had to be searched as the path cache had none.
+     */
+    public void onCacheMiss()
+    {
+        cacheMisses.incrementAndGet();
+    }
+
+    public long getCacheHits()
+    {
+        return cacheHits.get();
+    }
+
+    public long getCacheMisses()
+    {
+        return cacheMisses.get();
+    }
+
+    /**
+     * Get a sorted read only view of the collected statistics.
+     *
+     * @return the statistics by job type.
+     */
+    public Map<String, JobTypeStatistics> getStatistics()
+    {
+        return Collections.unmodifiableMap(new TreeMap<>(statistics));
+    }
+
+    /**
+     * Reset all collected statistics.
+     */
+    public void reset()
+    {
+        statistics.clear();
+        cacheHits.set(0);
+        cacheMisses.set(0);
+    }
+
+    private JobTypeStatistics get(@NotNull final String jobType)
+    {
+        return statistics.computeIfAbsent(jobType, type -> new JobTypeStatistics());
+    }
+
+    /**
+     * The counters of a single job type.
+     */
+    public static final class JobTypeStatistics
+    {
+        private final AtomicLong queued    = new AtomicLong();
+        private final AtomicLong dropped   = new AtomicLong();
+        private final AtomicLong started   = new AtomicLong();
+        private final AtomicLong waitNanos = new AtomicLong();
+        private final AtomicLong runNanos  = new AtomicLong();
+
+        public long getQueued()
+        {
+            return queued.get();
+        }
+
+        public long getDropped()
+        {
+            return dropped.get();
+        }
+
+        public long getStarted()
+        {
+            return started.get();
+        }
+
+        /**
+         * Average time a job waited in the queue.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getAverageWaitMillis()
+        {
+            final long count = started.get();
+            return count == 0 ? 0 : (double) waitNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /**
+         * Average time a job ran.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getAverageRunMillis()
+        {
+            final long count = started.get();
+            return count == 0 ? 0 : (double) runNanos.get() / count / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, palette compressed copy of the block states of a 16x16x16 chunk section.
+ * Safe to read from any thread once created.
+ */
+public final class SectionSnapshot
+{
+    /**
+     * Edge length of a section.
+     */
+    private static final int SECTION_SIZE = 16;
+
+    /**
+     * Amount of blocks in a section.
+     */
+    private static final int SECTION_VOLUME = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+
+    /**
+     * Largest palette which still fits byte indices.
+     */
+    private static final int MAX_BYTE_PALETTE = 256;
+
+    /**
+     * Palette of a section which only contains air.
+     */
+    private static final IBlockState[] AIR_PALETTE = new IBlockState[] {Blocks.AIR.getDefaultState()};
+
+    /**
+     * The distinct states of the section.
+     */
+    private final IBlockState[] palette;
+
+    /**
+     * Palette indices when the palette has at most 256 entries, otherwise null.
+     */
+    @Nullable
+    private final byte[] byteIndices;
+
+    /**
+     * Palette indices when the palette has more than 256 entries, otherwise null.
+     */
+    @Nullable
+    private final short[] shortIndices;
+
+    /**
+     * The world tick the copy was made at.
+     */
+    private final long createdAt;
+
+    private SectionSnapshot(@NotNull final IBlockState[] palette, @Nullable final byte[] byteIndices, @Nullable final short[] shortIndices, final long createdAt)
+    {
+        this.palette = palette;
+        this.byteIndices = byteIndices;
+        this.shortIndices = shortIndices;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Copy the given section.
+     *
+     * @param storage   the section storage, may be null for empty sections.
+     * @param createdAt the current world tick.
+     * @return the snapshot.
+     */
+    @NotNull
+    public static SectionSnapshot of(@Nullable final ExtendedBlockStorage storage, final long createdAt)
+    {
+        if (storage == null || storage.isEmpty())
+        {
+            return new SectionSnapshot(AIR_PALETTE, null, null, createdAt);
+        }
+
+        final PaletteBuilder palette = new PaletteBuilder();
+        final short[] indices = new short[SECTION_VOLUME];
+
+        IBlockState lastState = null;
+        int lastId = 0;
+        for (int y = 0; y < SECTION_SIZE; y++)
+        {
+            for (int z = 0; z < SECTION_SIZE; z++)
+            {
+                for (int x = 0; x < SECTION_SIZE; x++)
+                {
+                    final IBlockState state = storage.get(x, y, z);
+                    // Sections are mostly runs of the same state, skip the palette lookup for those.
+                    if (state != lastState)
+                    {
+                        lastState = state;
+                        lastId = palette.idOf(state);
+                    }
+                    indices[index(x, y, z)] = (short) lastId;
+                }
+            }
+        }
+
+        final IBlockState[] paletteArray = palette.toArray();
+        if (paletteArray.length == 1)
+        {
+            return new SectionSnapshot(paletteArray, null, null, createdAt);
+        }
+
+        if (paletteArray.length <= MAX_BYTE_PALETTE)
+        {
+            final byte[] bytes = new byte[SECTION_VOLUME];
+            for (int i = 0; i < SECTION_VOLUME; i++)
+            {
+                bytes[i] = (byte) indices[i];
+            }
+            return new SectionSnapshot(paletteArray, bytes, null, createdAt);
+        }
+
+        return new SectionSnapshot(paletteArray, null, indices, createdAt);
+    }
+
+    private static int index(final int x, final int y, final int z)
+    {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    /**
+     * Get the state at the given section local position.
+     *
+     * @param x the x coordinate within the section.
+     * @param y the y coordinate within the section.
+     * @param z the z coordinate within the section.
+     * @return the state.
+     */
+    @NotNull
+    public IBlockState get(final int x, final int y, final int z)
+    {
+        if (byteIndices != null)
+        {
+            return palette[byteIndices[index(x, y, z)] & 0xFF];
+        }
+
+        if (shortIndices != null)
+        {
+            return palette[shortIndices[index(x, y, z)]];
+        }
+
+        return palette[0];
+    }
+
+    /**
+     * Get the world tick this copy was made at.
+     *
+     * @return the tick.
+     */
+    public long getCreatedAt()
+    {
+        return createdAt;
+    }
+
+    /**
+     * Identity based palette of the states of a section, maps them to ids without boxing.
+     */
+    private static final class PaletteBuilder
+    {
+        /**
+         * Initial size of the hash table, a power of two.
+         */
+        private static final int INITIAL_TABLE_SIZE = 64;
+
+        /**
+         * Open addressed table of the states and their ids.
+         */
+        private IBlockState[] keys = new IBlockState[INITIAL_TABLE_SIZE];
+        private int[]         ids  = new int[INITIAL_TABLE_SIZE];
+
+        /**
+         * The states in the order of their ids.
+         */
+        private IBlockState[] states = new IBlockState[INITIAL_TABLE_SIZE / 2];
+        private int           size   = 0;
+
+        /**
+         * Get the id of a state, adding it to the palette if it is not in it yet.
+         *
+         * @param state the state.
+         * @return the id.
+         */
+        private int idOf(@NotNull final IBlockState state)
+        {
+            final int mask = keys.length - 1;
+            int slot = System.identityHashCode(state) & mask;
+            while (keys[slot] != null)
+            {
+                if (keys[slot] == state)
+                {
+                    return ids[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            final int id = size;
+            if (size == states.length)
+            {
+                states = Arrays.copyOf(states, size * 2);
+            }
+            states[size++] = state;
+            keys[slot] = state;
+            ids[slot] = id;
+
+            if (size * 2 > keys.length)
+            {
+                rehash();
+            }
+            return id;
+        }
+
+        /**
+         * Double the table size, keeping it at most half full.
+         */
+        private void rehash()
+        {
+            keys = new IBlockState[keys.length * 2];
+            ids = new int[keys.length];
+            final int mask = keys.length - 1;
+            for (int id = 0; id < size; id++)
+            {
+                int slot = System.identityHashCode(states[id]) & mask;
+                while (keys[slot] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = states[id];
+                ids[slot] = id;
+            }
+        }
+
+        /**
+         * Get the states in the order of their ids.
+         *
+         * @return the palette.
+         */
+        private IBlockState[] toArray()
+        {
+            return Arrays.copyOf(states, size);
+        }
+    }
+}
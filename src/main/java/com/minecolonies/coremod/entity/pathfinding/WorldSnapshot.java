@@ -0,0 +1,219 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Biomes;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Read only view on the block states of a region, made of immutable section copies.
+ * Replaces the vanilla ChunkCache for path jobs, sections are copied on first access and then read without touching the chunk again.
+ * Only to be read by the job it was created for.
+ * Positions outside of the region read as air, like they do in the ChunkCache.
+ */
+public class WorldSnapshot implements IBlockAccess
+{
+    /**
+     * Amount of sections in a chunk column.
+     */
+    public static final int SECTIONS_PER_COLUMN = 16;
+
+    /**
+     * Height of the world.
+     */
+    private static final int MAX_Y = 256;
+
+    /**
+     * Amount of biome entries per column.
+     */
+    private static final int BIOMES_PER_COLUMN = 256;
+
+    /**
+     * The provider the sections are copied through.
+     */
+    private final WorldSnapshotProvider provider;
+
+    /**
+     * The world the snapshot was taken from.
+     */
+    private final World world;
+
+    /**
+     * The world tick the snapshot was taken at.
+     */
+    private final long createdAt;
+
+    /**
+     * The chunk coordinates of the lower corner of the region.
+     */
+    private final int minChunkX;
+    private final int minChunkZ;
+
+    /**
+     * The lowest and highest section y of the region, inclusive.
+     */
+    private final int minSectionY;
+    private final int maxSectionY;
+
+    /**
+     * The chunks by relative chunk x and z, only read to copy their sections.
+     */
+    private final Chunk[][] chunks;
+
+    /**
+     * The sections by relative chunk x, relative chunk z and section y, copied on first access.
+     */
+    private final SectionSnapshot[][][] sections;
+
+    /**
+     * The biome ids per column, same layout as the chunk biome array.
+     */
+    private final byte[][][] biomes;
+
+    /**
+     * The type of the world the snapshot was taken from.
+     */
+    private final WorldType worldType;
+
+    /**
+     * Create a new snapshot view.
+     *
+     * @param provider    the provider to copy the sections through.
+     * @param world       the world.
+     * @param createdAt   the current world tick.
+     * @param minChunkX   the chunk x of the lower corner.
+     * @param minChunkZ   the chunk z of the lower corner.
+     * @param minSectionY the lowest section y.
+     * @param maxSectionY the highest section y.
+     * @param chunks      the chunks by relative chunk x and z.
+     * @param biomes      the biome ids by relative chunk x and z.
+     * @param worldType   the world type.
+     */
+    WorldSnapshot(
+      @NotNull final WorldSnapshotProvider provider,
+      @NotNull final World world,
+      final long createdAt,
+      final int minChunkX,
+      final int minChunkZ,
+      final int minSectionY,
+      final int maxSectionY,
+      @NotNull final Chunk[][] chunks,
+      @NotNull final byte[][][] biomes,
+      final WorldType worldType)
+    {
+        this.provider = provider;
+        this.world = world;
+        this.createdAt = createdAt;
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.minSectionY = minSectionY;
+        this.maxSectionY = maxSectionY;
+        this.chunks = chunks;
+        this.sections = new SectionSnapshot[chunks.length][chunks.length == 0 ? 0 : chunks[0].length][];
+        this.biomes = biomes;
+        this.worldType = worldType;
+    }
+
+    @Nullable
+    @Override
+    public TileEntity getTileEntity(@NotNull final BlockPos pos)
+    {
+        // Tile entities are live objects and can not be read off thread.
+        return null;
+    }
+
+    @Override
+    public int getCombinedLight(@NotNull final BlockPos pos, final int lightValue)
+    {
+        return lightValue << 4;
+    }
+
+    @NotNull
+    @Override
+    public IBlockState getBlockState(@NotNull final BlockPos pos)
+    {
+        final int y = pos.getY();
+        if (y < 0 || y >= MAX_Y)
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+
+        final int sectionY = y >> 4;
+        final int cx = (pos.getX() >> 4) - minChunkX;
+        final int cz = (pos.getZ() >> 4) - minChunkZ;
+        if (sectionY < minSectionY || sectionY > maxSectionY || cx < 0 || cx >= chunks.length || cz < 0 || cz >= chunks[cx].length)
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+
+        SectionSnapshot[] column = sections[cx][cz];
+        if (column == null)
+        {
+            column = new SectionSnapshot[SECTIONS_PER_COLUMN];
+            sections[cx][cz] = column;
+        }
+
+        SectionSnapshot section = column[sectionY];
+        if (section == null)
+        {
+            section = provider.getSection(world, chunks[cx][cz], sectionY, createdAt);
+            column[sectionY] = section;
+        }
+        return section.get(pos.getX() & 15, y & 15, pos.getZ() & 15);
+    }
+
+    @Override
+    public boolean isAirBlock(@NotNull final BlockPos pos)
+    {
+        final IBlockState state = getBlockState(pos);
+        return state.getBlock().isAir(state, this, pos);
+    }
+
+    @NotNull
+    @Override
+    public Biome getBiome(@NotNull final BlockPos pos)
+    {
+        final int cx = (pos.getX() >> 4) - minChunkX;
+        final int cz = (pos.getZ() >> 4) - minChunkZ;
+        if (cx < 0 || cx >= biomes.length || cz < 0 || cz >= biomes[cx].length || biomes[cx][cz].length < BIOMES_PER_COLUMN)
+        {
+            return Biomes.PLAINS;
+        }
+
+        final int id = biomes[cx][cz][(pos.getZ() & 15) << 4 | (pos.getX() & 15)] & 255;
+        final Biome biome = Biome.getBiome(id);
+        return biome == null ? Biomes.PLAINS : biome;
+    }
+
+    @Override
+    public int getStrongPower(@NotNull final BlockPos pos, @NotNull final EnumFacing direction)
+    {
+        return getBlockState(pos).getStrongPower(this, pos, direction);
+    }
+
+    @NotNull
+    @Override
+    public WorldType getWorldType()
+    {
+        return worldType;
+    }
+
+    @Override
+    public boolean isSideSolid(@NotNull final BlockPos pos, @NotNull final EnumFacing side, final boolean defaultValue)
+    {
+        if (pos.getY() < 0 || pos.getY() >= MAX_Y)
+        {
+            return defaultValue;
+        }
+        return getBlockState(pos).isSideSolid(this, pos, side);
+    }
+}
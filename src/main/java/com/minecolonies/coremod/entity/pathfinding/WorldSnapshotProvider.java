@@ -0,0 +1,216 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Creates the block snapshots path jobs search in.
+ * Section copies are cached per world and shared between jobs until a block in them changes,
+ * so jobs close to each other only pay for copying once.
+ * Snapshots are created on the server thread, their sections are copied by the path jobs on first access.
+ */
+public final class WorldSnapshotProvider
+{
+    /**
+     * The singleton instance.
+     */
+    private static final WorldSnapshotProvider INSTANCE = new WorldSnapshotProvider();
+
+    /**
+     * Maximum age of a section copy in ticks, covers changes which are not reported to world listeners.
+     * Columns no job asked for within this time are dropped, so the cache only holds what is pathed in.
+     */
+    private static final long MAX_SECTION_AGE = 1200;
+
+    /**
+     * The cached columns per world.
+     */
+    private final Map<World, WorldCache> caches = new WeakHashMap<>();
+
+    private WorldSnapshotProvider()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get the provider instance.
+     *
+     * @return the instance.
+     */
+    public static WorldSnapshotProvider getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Create a snapshot of the given block area, must be called on the server thread.
+     * Only the chunks are looked up here, the sections are copied when the job first reads them.
+     *
+     * @param world the world.
+     * @param from  one corner of the area.
+     * @param to    the other corner of the area.
+     * @return the snapshot.
+     */
+    @NotNull
+    public synchronized WorldSnapshot getSnapshot(@NotNull final World world, @NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        final int minChunkX = Math.min(from.getX(), to.getX()) >> 4;
+        final int minChunkZ = Math.min(from.getZ(), to.getZ()) >> 4;
+        final int maxChunkX = Math.max(from.getX(), to.getX()) >> 4;
+        final int maxChunkZ = Math.max(from.getZ(), to.getZ()) >> 4;
+        final int minSectionY = Math.max(0, Math.min(from.getY(), to.getY()) >> 4);
+        final int maxSectionY = Math.min(WorldSnapshot.SECTIONS_PER_COLUMN - 1, Math.max(from.getY(), to.getY()) >> 4);
+
+        final WorldCache cache = caches.computeIfAbsent(world, w -> new WorldCache());
+        final long tick = world.getTotalWorldTime();
+        cache.prune(tick);
+
+        final Chunk[][] chunks = new Chunk[maxChunkX - minChunkX + 1][maxChunkZ - minChunkZ + 1];
+        final byte[][][] biomes = new byte[maxChunkX - minChunkX + 1][maxChunkZ - minChunkZ + 1][];
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+        {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+            {
+                final Chunk chunk = world.getChunk(chunkX, chunkZ);
+                final long key = ChunkPos.asLong(chunkX, chunkZ);
+                CachedColumn column = cache.columns.get(key);
+                if (column == null)
+                {
+                    column = new CachedColumn(chunk.getBiomeArray().clone());
+                    cache.columns.put(key, column);
+                }
+                column.lastUsed = tick;
+
+                chunks[chunkX - minChunkX][chunkZ - minChunkZ] = chunk;
+                biomes[chunkX - minChunkX][chunkZ - minChunkZ] = column.biomes;
+            }
+        }
+
+        return new WorldSnapshot(this, world, tick, minChunkX, minChunkZ, minSectionY, maxSectionY, chunks, biomes, world.getWorldType());
+    }
+
+    /**
+     * Get the copy of a section for a snapshot, copying it if there is no recent one cached.
+     * Called from the path jobs, reads the chunk like the vanilla chunk cache does.
+     *
+     * @param world    the world of the chunk.
+     * @param chunk    the chunk looked up when the snapshot was created.
+     * @param sectionY the section index within the column.
+     * @param tick     the world tick the snapshot was created at.
+     * @return the section copy.
+     */
+    @NotNull
+    synchronized SectionSnapshot getSection(@NotNull final World world, @NotNull final Chunk chunk, final int sectionY, final long tick)
+    {
+        final WorldCache cache = caches.get(world);
+        final CachedColumn column = cache == null ? null : cache.columns.get(ChunkPos.asLong(chunk.x, chunk.z));
+
+        SectionSnapshot section = column == null ? null : column.sections[sectionY];
+        if (section == null || Math.abs(tick - section.getCreatedAt()) > MAX_SECTION_AGE)
+        {
+            section = SectionSnapshot.of(chunk.getBlockStorageArray()[sectionY], tick);
+            if (column != null)
+            {
+                column.sections[sectionY] = section;
+            }
+        }
+        return section;
+    }
+
+    /**
+     * Drop the cached copy of the section containing the given position.
+     * Snapshots keep the sections they already read.
+     *
+     * @param world the world the block changed in.
+     * @param pos   the position of the block.
+     */
+    public synchronized void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final WorldCache cache = caches.get(world);
+        if (cache == null || pos.getY() < 0 || (pos.getY() >> 4) >= WorldSnapshot.SECTIONS_PER_COLUMN)
+        {
+            return;
+        }
+
+        final CachedColumn column = cache.columns.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (column != null)
+        {
+            column.sections[pos.getY() >> 4] = null;
+        }
+    }
+
+    /**
+     * Drop all cached copies of a world.
+     *
+     * @param world the world which unloads.
+     */
+    public synchronized void onWorldUnload(@NotNull final World world)
+    {
+        caches.remove(world);
+    }
+
+    /**
+     * The cached columns of one world.
+     */
+    private static final class WorldCache
+    {
+        /**
+         * The columns by chunk position.
+         */
+        private final Map<Long, CachedColumn> columns = new HashMap<>();
+
+        /**
+         * The world tick the columns were last pruned at.
+         */
+        private long lastPrune;
+
+        /**
+         * Drop the columns no snapshot covered for longer than a section copy stays valid.
+         *
+         * @param tick the current world tick.
+         */
+        private void prune(final long tick)
+        {
+            if (Math.abs(tick - lastPrune) < MAX_SECTION_AGE)
+            {
+                return;
+            }
+            lastPrune = tick;
+            columns.values().removeIf(column -> Math.abs(tick - column.lastUsed) > MAX_SECTION_AGE);
+        }
+    }
+
+    /**
+     * The cached copies of one chunk column.
+     */
+    private static final class CachedColumn
+    {
+        /**
+         * The section copies, null entries have to be copied again.
+         */
+        private final SectionSnapshot[] sections = new SectionSnapshot[WorldSnapshot.SECTIONS_PER_COLUMN];
+
+        /**
+         * The biome ids of the column.
+         */
+        private final byte[] biomes;
+
+        /**
+         * The world tick a snapshot last covered the column at.
+         */
+        private long lastUsed;
+
+        private CachedColumn(final byte[] biomes)
+        {
+            this.biomes = biomes;
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.WorldSnapshotProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
@@ -165,7 +167,7 @@ public class EventHandler
     @SubscribeEvent
     public void onAttachingCapabilitiesWorld(@NotNull final AttachCapabilitiesEvent<World> event)
     {
-        event.addCapability(new ResourceLocation(Constants.MOD_ID, "chunkUpdate"), new MinecoloniesWorldCapabilityProvider());
+        event.addCapability(new ResourceLocation(Constants.MOD_ID, "chunkUpdate"), new MinecoloniesWorldCapabilityProvider(event.getObject()));
         event.addCapability(new ResourceLocation(Constants.MOD_ID, "colonyManager"), new MinecoloniesWorldColonyManagerCapabilityProvider());
     }
 
@@ -842,5 +844,7 @@ public class EventHandler
     public void onWorldUnload(@NotNull final WorldEvent.Unload event)
     {
         IColonyManager.getInstance().onWorldUnload(event.getWorld());
+        WorldSnapshotProvider.getInstance().onWorldUnload(event.getWorld());
+        PathCache.getInstance().onWorldUnload(event.getWorld());
     }
 }
@@ -1,8 +1,10 @@
 package com.minecolonies.coremod.event.capabilityproviders;
 
 import com.minecolonies.api.colony.IChunkmanagerCapability;
+import com.minecolonies.coremod.util.RegionChunkmanagerCapability;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 
@@ -23,15 +25,22 @@ public class MinecoloniesWorldCapabilityProvider implements ICapabilitySerializa
 
     /**
      * Constructor of the provider.
+     *
+     * @param world the world the capability is attached to.
      */
-    public MinecoloniesWorldCapabilityProvider()
+    public MinecoloniesWorldCapabilityProvider(final World world)
     {
-        this.chunkMap = new IChunkmanagerCapability.Impl();
+        this.chunkMap = world.isRemote ? new IChunkmanagerCapability.Impl() : new RegionChunkmanagerCapability(world);
     }
 
     @Override
     public NBTBase serializeNBT()
     {
+        if (chunkMap instanceof RegionChunkmanagerCapability)
+        {
+            //  Only the storages which could not be written to their region remain.
+            ((RegionChunkmanagerCapability) chunkMap).saveToRegions();
+        }
         return CHUNK_STORAGE_UPDATE_CAP.getStorage().writeNBT(CHUNK_STORAGE_UPDATE_CAP, chunkMap, null);
     }
 
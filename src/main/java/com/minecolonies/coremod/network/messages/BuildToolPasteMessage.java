@@ -4,7 +4,6 @@ import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.client.gui.WindowBuildTool;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -341,13 +340,11 @@ public class BuildToolPasteMessage extends AbstractMessage<BuildToolPasteMessage
             {
                 ConstructionTapeHelper.removeConstructionTape(building.getCorners(), world);
                 final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
-                final Structure wrapper = new Structure(world, workOrder.getStructureName(), new PlacementSettings());
-                final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-                  = ColonyUtils.calculateCorners(building.getPosition(),
-                  world,
-                  wrapper,
+                final Structure wrapper = StructureCache.getTemplate(world,
+                  workOrder.getStructureName(),
                   workOrder.getRotation(world),
-                  workOrder.isMirrored());
+                  workOrder.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
+                final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = ColonyUtils.calculateCorners(building.getPosition(), wrapper);
 
                 building.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
                 building.setHeight(wrapper.getHeight());
@@ -3,7 +3,6 @@ package com.minecolonies.coremod.network.messages;
 import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -346,13 +345,11 @@ public class BuildToolPlaceMessage extends AbstractMessage<BuildToolPlaceMessage
             {
                 ConstructionTapeHelper.removeConstructionTape(building.getCorners(), world);
                 final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
-                final Structure wrapper = new Structure(world, workOrder.getStructureName(), new PlacementSettings());
-                final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-                  = ColonyUtils.calculateCorners(building.getPosition(),
-                  world,
-                  wrapper,
+                final Structure wrapper = StructureCache.getTemplate(world,
+                  workOrder.getStructureName(),
                   workOrder.getRotation(world),
-                  workOrder.isMirrored());
+                  workOrder.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
+                final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = ColonyUtils.calculateCorners(building.getPosition(), wrapper);
 
                 building.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
                 building.setHeight(wrapper.getHeight());
@@ -34,6 +34,7 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
 
     /**
      * Creates a message to handle colony views.
+     * The building is serialized once, the same message can be sent to any number of players.
      *
      * @param building AbstractBuilding to add or update a view.
      */
@@ -63,7 +64,7 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
         buf.writeInt(colonyId);
         BlockPosUtil.writeToByteBuf(buf, buildingId);
         buf.writeInt(dimension);
-        buf.writeBytes(buildingData);
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
     }
 
     @Override
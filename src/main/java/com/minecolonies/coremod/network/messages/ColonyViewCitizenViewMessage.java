@@ -9,6 +9,8 @@ import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_ALL;
+
 /**
  * Add or Update a ColonyView on the client.
  */
@@ -33,18 +35,32 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
 
     /**
      * Updates a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     * The citizen is serialized once, the same message can be sent to any number of players.
      *
      * @param colony  Colony of the citizen
      * @param citizen Citizen data of the citizen to update view
      */
     public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen)
+    {
+        this(colony, citizen, DIRTY_ALL);
+    }
+
+    /**
+     * Updates some field groups of a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     * The citizen is serialized once, the same message can be sent to any number of players.
+     *
+     * @param colony  Colony of the citizen
+     * @param citizen Citizen data of the citizen to update view
+     * @param fields  the field groups to update, the DIRTY_ constants of {@link com.minecolonies.api.util.constant.CitizenConstants}.
+     */
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen, final int fields)
     {
         super();
         this.colonyId = colony.getID();
         this.citizenId = citizen.getId();
         this.citizenBuffer = Unpooled.buffer();
         this.dimension = citizen.getColony().getDimension();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        citizen.serializeViewNetworkData(citizenBuffer, fields);
     }
 
     @Override
@@ -62,7 +78,7 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
         buf.writeInt(dimension);
-        buf.writeBytes(citizenBuffer);
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
     }
 
     @Override
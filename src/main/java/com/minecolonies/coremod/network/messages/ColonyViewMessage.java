@@ -43,6 +43,7 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
 
     /**
      * Add or Update a ColonyView on the client.
+     * The buffer is shared, not copied, and must not be written to after creating the message.
      *
      * @param colony            Colony of the view to update.
      * @param buf               the bytebuffer.
@@ -53,7 +54,7 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
         this.colonyId = colony.getID();
         this.isNewSubscription = isNewSubscription;
         this.dim = colony.getDimension();
-        this.colonyBuffer = buf.copy();
+        this.colonyBuffer = buf;
     }
 
     @Override
@@ -72,7 +73,7 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
         buf.writeInt(dim);
-        buf.writeBytes(colonyBuffer);
+        buf.writeBytes(colonyBuffer, colonyBuffer.readerIndex(), colonyBuffer.readableBytes());
     }
 
     @Override
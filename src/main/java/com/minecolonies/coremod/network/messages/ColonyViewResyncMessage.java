@@ -0,0 +1,69 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyView;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Asks the server to send the full colony view again, after the view missed an update.
+ */
+public class ColonyViewResyncMessage extends AbstractMessage<ColonyViewResyncMessage, IMessage>
+{
+    /**
+     * The Colony ID.
+     */
+    private int colonyId;
+
+    /**
+     * The dimension of the message.
+     */
+    private int dimension;
+
+    /**
+     * Empty public constructor.
+     */
+    public ColonyViewResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates the message to resync a colony view.
+     *
+     * @param colony view of the colony which got out of sync.
+     */
+    public ColonyViewResyncMessage(@NotNull final IColonyView colony)
+    {
+        super();
+        this.colonyId = colony.getID();
+        this.dimension = colony.getDimension();
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+        dimension = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeInt(dimension);
+    }
+
+    @Override
+    public void messageOnServerThread(final ColonyViewResyncMessage message, final EntityPlayerMP player)
+    {
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(message.colonyId, message.dimension);
+        if (colony != null)
+        {
+            colony.getPackageManager().resendFullView(player);
+        }
+    }
+}
@@ -30,6 +30,7 @@ public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOr
 
     /**
      * Updates a {@link WorkOrderView} of the workOrders.
+     * The work order is serialized once, the same message can be sent to any number of players.
      *
      * @param colony    colony of the workOrder.
      * @param workOrder workOrder of the colony to update view.
@@ -56,7 +57,7 @@ public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOr
     {
         buf.writeInt(colonyId);
         buf.writeInt(workOrderId);
-        buf.writeBytes(workOrderBuffer);
+        buf.writeBytes(workOrderBuffer, workOrderBuffer.readerIndex(), workOrderBuffer.readableBytes());
     }
 
     @Override
@@ -2,29 +2,36 @@ package com.minecolonies.coremod.network.messages;
 
 import com.minecolonies.api.colony.IColonyTagCapability;
 import io.netty.buffer.ByteBuf;
-import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
- * Update the ChunkCapability with a colony.
+ * Update the ChunkCapability of a number of chunks.
+ * The chunk positions are sent relative to the smallest one and all numbers as var ints to keep large claims small.
  */
 public class UpdateChunkRangeCapabilityMessage extends AbstractMessage<UpdateChunkRangeCapabilityMessage, IMessage>
 {
     /**
-     * The colonies tags to send over.
+     * The max amount of bytes of a var int.
      */
-    private final List<Tuple<Tuple<Integer, Integer>, Integer>> colonies = new ArrayList<>();
+    private static final int VAR_INT_MAX_BYTES = 5;
+
+    /**
+     * The capability data of the chunks to send over.
+     */
+    private final List<ChunkData> chunks = new ArrayList<>();
 
     /**
      * Empty constructor used when registering the message.
@@ -51,36 +58,89 @@ public class UpdateChunkRangeCapabilityMessage extends AbstractMessage<UpdateChu
                 final int chunkZ = zC + z;
                 if (world.isBlockLoaded(new BlockPos(chunkX * BLOCKS_PER_CHUNK, 0, chunkZ * BLOCKS_PER_CHUNK)))
                 {
-                    final Chunk chunk = world.getChunk(chunkX, chunkZ);
-                    final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
-                    if (cap != null)
-                    {
-                        colonies.add(new Tuple<>(new Tuple<>(chunkX, chunkZ), cap.getOwningColony()));
-                    }
+                    addChunk(world.getChunk(chunkX, chunkZ));
                 }
             }
         }
     }
 
+    /**
+     * Create a message to update the chunk caps of the given chunks on the client side.
+     * @param chunks the chunks.
+     */
+    public UpdateChunkRangeCapabilityMessage(@NotNull final Collection<Chunk> chunks)
+    {
+        chunks.forEach(this::addChunk);
+    }
+
+    /**
+     * Add the capability data of a chunk to the message.
+     * @param chunk the chunk.
+     */
+    private void addChunk(@NotNull final Chunk chunk)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap != null)
+        {
+            chunks.add(new ChunkData(chunk.x, chunk.z, cap.getOwningColony(), new ArrayList<>(cap.getAllCloseColonies())));
+        }
+    }
+
     @Override
     public void fromBytes(@NotNull final ByteBuf buf)
     {
-        final int size = buf.readInt();
+        final int size = ByteBufUtils.readVarInt(buf, VAR_INT_MAX_BYTES);
+        if (size == 0)
+        {
+            return;
+        }
+
+        final int minX = buf.readInt();
+        final int minZ = buf.readInt();
         for (int i = 0; i < size; i++)
         {
-            colonies.add(new Tuple<>(new Tuple<>(buf.readInt(), buf.readInt()), buf.readInt()));
+            final int x = minX + ByteBufUtils.readVarInt(buf, VAR_INT_MAX_BYTES);
+            final int z = minZ + ByteBufUtils.readVarInt(buf, VAR_INT_MAX_BYTES);
+            final int owningColony = ByteBufUtils.readVarInt(buf, VAR_INT_MAX_BYTES);
+            final int closeColonyCount = ByteBufUtils.readVarInt(buf, VAR_INT_MAX_BYTES);
+            final List<Integer> closeColonies = new ArrayList<>(closeColonyCount);
+            for (int j = 0; j < closeColonyCount; j++)
+            {
+                closeColonies.add(ByteBufUtils.readVarInt(buf, VAR_INT_MAX_BYTES));
+            }
+            chunks.add(new ChunkData(x, z, owningColony, closeColonies));
         }
     }
 
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
-        buf.writeInt(colonies.size());
-        for (final Tuple<Tuple<Integer, Integer>, Integer> c : colonies)
+        ByteBufUtils.writeVarInt(buf, chunks.size(), VAR_INT_MAX_BYTES);
+        if (chunks.isEmpty())
+        {
+            return;
+        }
+
+        int minX = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        for (final ChunkData chunk : chunks)
         {
-            buf.writeInt(c.getFirst().getFirst());
-            buf.writeInt(c.getFirst().getSecond());
-            buf.writeInt(c.getSecond());
+            minX = Math.min(minX, chunk.x);
+            minZ = Math.min(minZ, chunk.z);
+        }
+
+        buf.writeInt(minX);
+        buf.writeInt(minZ);
+        for (final ChunkData chunk : chunks)
+        {
+            ByteBufUtils.writeVarInt(buf, chunk.x - minX, VAR_INT_MAX_BYTES);
+            ByteBufUtils.writeVarInt(buf, chunk.z - minZ, VAR_INT_MAX_BYTES);
+            ByteBufUtils.writeVarInt(buf, chunk.owningColony, VAR_INT_MAX_BYTES);
+            ByteBufUtils.writeVarInt(buf, chunk.closeColonies.size(), VAR_INT_MAX_BYTES);
+            for (final int id : chunk.closeColonies)
+            {
+                ByteBufUtils.writeVarInt(buf, id, VAR_INT_MAX_BYTES);
+            }
         }
     }
 
@@ -89,16 +149,39 @@ public class UpdateChunkRangeCapabilityMessage extends AbstractMessage<UpdateChu
     {
         if(ctx.getClientHandler().world != null)
         {
-            for (final Tuple<Tuple<Integer, Integer>, Integer> c : message.colonies)
+            for (final ChunkData data : message.chunks)
             {
-                final Chunk chunk = ctx.getClientHandler().world.getChunk(c.getFirst().getFirst(), c.getFirst().getSecond());
+                final Chunk chunk = ctx.getClientHandler().world.getChunk(data.x, data.z);
                 final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
                 if (cap != null)
                 {
-                    cap.setOwningColony(c.getSecond(), chunk);
-                    cap.addColony(c.getSecond(), chunk);
+                    cap.reset(chunk);
+                    cap.setOwningColony(data.owningColony, chunk);
+                    for (final int id : data.closeColonies)
+                    {
+                        cap.addColony(id, chunk);
+                    }
                 }
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The capability data of one chunk.
+     */
+    private static final class ChunkData
+    {
+        private final int           x;
+        private final int           z;
+        private final int           owningColony;
+        private final List<Integer> closeColonies;
+
+        private ChunkData(final int x, final int z, final int owningColony, @NotNull final List<Integer> closeColonies)
+        {
+            this.x = x;
+            this.z = z;
+            this.owningColony = owningColony;
+            this.closeColonies = closeColonies;
+        }
+    }
+}
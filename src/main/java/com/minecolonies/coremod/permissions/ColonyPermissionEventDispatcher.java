@@ -0,0 +1,318 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.colony.Colony;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Receives the permission relevant events once for all colonies.
+ * Each event is forwarded to the {@link ColonyPermissionEventHandler} of the colony owning the chunk it happens in,
+ * so the cost of an event does not depend on the amount of colonies.
+ */
+public class ColonyPermissionEventDispatcher
+{
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.PlaceEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     * Huts are handled by their own colony, wherever they are.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.BreakEvent event)
+    {
+        final ColonyPermissionEventHandler handler;
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            final IBuilding building = IColonyManager.getInstance().getBuilding(event.getWorld(), event.getPos());
+            handler = building == null ? null : getHandler(building.getColony());
+        }
+        else
+        {
+            handler = getHandlerForPlayerAction(event.getPlayer(), event.getWorld(), event.getPos());
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler.
+     * Removes all blocks and entities inside of any colony from the explosion.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Detonate event)
+    {
+        if (!Configurations.gameplay.turnOffExplosionsInColonies)
+        {
+            return;
+        }
+
+        //  Most of the affected blocks share a few chunks.
+        final Map<Long, Boolean> chunkInColony = new HashMap<>();
+        final World eventWorld = event.getWorld();
+        event.getAffectedBlocks().removeIf(pos -> isInColony(chunkInColony, eventWorld, pos));
+        event.getAffectedEntities().removeIf(entity -> entity.getEntityWorld() == eventWorld
+                                                         ? isInColony(chunkInColony, eventWorld, entity.getPosition())
+                                                         : getHandler(entity.getEntityWorld(), entity.getPosition()) != null);
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Start event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final ColonyPermissionEventHandler handler = getHandlerForPlayerAction(event.getEntityPlayer(), event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final ColonyPermissionEventHandler handler = getHandlerForPlayerAction(event.getEntityPlayer(), event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerEvent.BreakSpeed handler.
+     *
+     * @param event PlayerEvent.BreakSpeed
+     */
+    @SubscribeEvent
+    public void on(final PlayerEvent.BreakSpeed event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity().world, event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandlerForPlayerAction(event.getPlayer(), event.getPlayer().getEntityWorld(), event.getPlayer().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public void on(final EntityItemPickupEvent event)
+    {
+        final EntityPlayer player = event.getEntityPlayer();
+        final ColonyPermissionEventHandler handler = getHandlerForPlayerAction(player, player.getEntityWorld(), player.getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public void on(final FillBucketEvent event)
+    {
+        final EntityPlayer player = event.getEntityPlayer();
+        final BlockPos target = event.getTarget() == null ? null : event.getTarget().getBlockPos();
+        final ColonyPermissionEventHandler handler = getHandlerForPlayerAction(player, player.getEntityWorld(), target);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public void on(final ArrowLooseEvent event)
+    {
+        final ColonyPermissionEventHandler handler =
+          getHandlerForPlayerAction(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), event.getEntity().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public void on(final AttackEntityEvent event)
+    {
+        final EntityPlayer player = event.getEntityPlayer();
+        final ColonyPermissionEventHandler handler = getHandlerForPlayerAction(player, player.getEntityWorld(), null);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * Get the handler of the colony a player action is checked against, the same way the handler checks it.
+     *
+     * @param playerIn the player, or the fake player acting for it.
+     * @param world    the world of the event.
+     * @param pos      the position of the action, or null to use the position of the player.
+     * @return the handler or null if the action does not happen in a colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandlerForPlayerAction(@Nullable final EntityPlayer playerIn, @NotNull final World world, @Nullable final BlockPos pos)
+    {
+        if (playerIn == null)
+        {
+            return null;
+        }
+
+        final EntityPlayer player = EntityUtils.getPlayerOfFakePlayer(playerIn, world);
+        return getHandler(player.getEntityWorld(), pos == null ? player.getPosition() : pos);
+    }
+
+    /**
+     * Get the handler of the colony owning a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the handler or null if the position is not in a colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final World world, @Nullable final BlockPos pos)
+    {
+        if (world == null || pos == null)
+        {
+            return null;
+        }
+        return getHandler(getColony(world, pos));
+    }
+
+    /**
+     * Get the handler of a colony.
+     *
+     * @param colony the colony.
+     * @return the handler or null if the colony has none (yet).
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final IColony colony)
+    {
+        return colony instanceof Colony ? ((Colony) colony).getEventHandler() : null;
+    }
+
+    @Nullable
+    private static IColony getColony(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        return IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+    }
+
+    /**
+     * Check if a position is in a colony, caching the result per chunk.
+     *
+     * @param cache the results per chunk.
+     * @param world the world.
+     * @param pos   the position.
+     * @return true if so.
+     */
+    private static boolean isInColony(@NotNull final Map<Long, Boolean> cache, @NotNull final World world, @NotNull final BlockPos pos)
+    {
+        return cache.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), chunk -> getHandler(world, pos) != null);
+    }
+}
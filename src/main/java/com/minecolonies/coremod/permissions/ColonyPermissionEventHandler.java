@@ -20,7 +20,6 @@ import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.monster.EntityMob;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
@@ -36,21 +35,18 @@ import net.minecraftforge.event.entity.player.*;
 import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.ExplosionEvent;
 import net.minecraftforge.fml.common.eventhandler.Event;
-import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.TOWNHALL_BREAKING_MESSAGE;
 
 /**
  * This class handles all permission checks on events and cancels them if needed.
+ * The events are forwarded by the {@link ColonyPermissionEventDispatcher} to the handler of the colony they happen in.
  */
 public class ColonyPermissionEventHandler
 {
@@ -94,7 +90,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.PlaceEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.PlaceEvent event)
     {
         final Action action = event.getPlacedBlock().getBlock() instanceof AbstractBlockHut ? Action.PLACE_HUTS : Action.PLACE_BLOCKS;
@@ -190,7 +185,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.BreakEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.BreakEvent event)
     {
         final World world = event.getWorld();
@@ -234,41 +228,11 @@ public class ColonyPermissionEventHandler
         }
     }
 
-    /**
-     * ExplosionEvent.Detonate handler.
-     *
-     * @param event ExplosionEvent.Detonate
-     */
-    @SubscribeEvent
-    public void on(final ExplosionEvent.Detonate event)
-    {
-        if (!Configurations.gameplay.turnOffExplosionsInColonies)
-        {
-            return;
-        }
-
-        final World eventWorld = event.getWorld();
-        final Predicate<BlockPos> getBlocksInColony = pos -> colony.isCoordInColony(eventWorld, pos);
-        final Predicate<Entity> getEntitiesInColony = entity -> colony.isCoordInColony(entity.getEntityWorld(), entity.getPosition());
-        // if block is in colony -> remove from list
-        final List<BlockPos> blocksToRemove = event.getAffectedBlocks().stream()
-                                                .filter(getBlocksInColony)
-                                                .collect(Collectors.toList());
-
-        // if entity is in colony -> remove from list
-        final List<Entity> entitiesToRemove = event.getAffectedEntities().stream()
-                                                .filter(getEntitiesInColony)
-                                                .collect(Collectors.toList());
-        event.getAffectedBlocks().removeAll(blocksToRemove);
-        event.getAffectedEntities().removeAll(entitiesToRemove);
-    }
-
     /**
      * ExplosionEvent.Start handler.
      *
      * @param event ExplosionEvent.Detonate
      */
-    @SubscribeEvent
     public void on(final ExplosionEvent.Start event)
     {
         if (Configurations.gameplay.enableColonyProtection
@@ -290,7 +254,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent event)
     {
         if (colony.isCoordInColony(event.getWorld(), event.getPos())
@@ -379,7 +342,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteract event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -401,7 +363,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerEvent.BreakSpeed event)
     {
         if (colony.isCoordInColony(event.getEntity().world, event.getPos()) && Configurations.gameplay.pvp_mode && event.getState().getBlock() == ModBlocks.blockHutTownHall
@@ -503,7 +464,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteractSpecific event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -524,7 +484,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemTossEvent
      */
-    @SubscribeEvent
     public void on(final ItemTossEvent event)
     {
         if (checkEventCancelation(Action.TOSS_ITEM, event.getPlayer(), event.getPlayer().getEntityWorld(), event, event.getPlayer().getPosition()))
@@ -543,7 +502,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event EntityItemPickupEvent
      */
-    @SubscribeEvent
     public void on(final EntityItemPickupEvent event)
     {
         checkEventCancelation(Action.PICKUP_ITEM, event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), event, event.getEntityPlayer().getPosition());
@@ -559,7 +517,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event EntityItemPickupEvent
      */
-    @SubscribeEvent
     public void on(final FillBucketEvent event)
     {
         @Nullable BlockPos targetBlockPos = null;
@@ -580,7 +537,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event EntityItemPickupEvent
      */
-    @SubscribeEvent
     public void on(final ArrowLooseEvent event)
     {
         checkEventCancelation(Action.SHOOT_ARROW, event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld(), event, event.getEntity().getPosition());
@@ -596,7 +552,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event EntityItemPickupEvent
      */
-    @SubscribeEvent
     public void on(final AttackEntityEvent event)
     {
         if (event.getTarget() instanceof EntityMob)
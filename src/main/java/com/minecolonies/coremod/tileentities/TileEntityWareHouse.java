@@ -2,6 +2,7 @@ package com.minecolonies.coremod.tileentities;
 
 import com.google.common.collect.Lists;
 import com.minecolonies.api.inventory.InventoryCitizen;
+import com.minecolonies.api.inventory.WarehouseItemIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
 import com.minecolonies.api.tileentities.TileEntityRack;
@@ -18,12 +19,8 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL;
 import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABILITY;
@@ -49,8 +46,27 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<ItemStack> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(ItemStackUtils::getSize).sum() >= count;
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        final Set<BlockPos> containers = getContainerPositions();
+        int available = getColony().getWarehouseItemIndex().getCount(itemStackSelectionPredicate, containers);
+        if (available >= count)
+        {
+            return true;
+        }
+
+        for (final IItemHandler handler : getUnindexedContainers(containers).values())
+        {
+            available += InventoryUtils.filterItemHandler(handler, itemStackSelectionPredicate).stream().mapToInt(ItemStackUtils::getSize).sum();
+            if (available >= count)
+            {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -65,14 +81,14 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     {
         if (getBuilding() != null)
         {
-            final Set<TileEntity> tileEntities = new HashSet<>();
-            tileEntities.add(this);
-
-            return tileEntities.stream()
-                     .flatMap(tileEntity -> InventoryUtils.filterProvider(tileEntity, itemStackSelectionPredicate).stream())
-                     .filter(itemStacks -> !itemStacks.isEmpty())
-              .collect(Collectors.toList());
-
+            final Set<BlockPos> containers = getContainerPositions();
+            final List<ItemStack> stacks = getColony().getWarehouseItemIndex().getMatchingItemStacks(itemStackSelectionPredicate, containers);
+            for (final IItemHandler handler : getUnindexedContainers(containers).values())
+            {
+                stacks.addAll(InventoryUtils.filterItemHandler(handler, itemStackSelectionPredicate));
+            }
+            stacks.removeIf(ItemStackUtils::isEmpty);
+            return stacks;
         }
 
         return Lists.newArrayList();
@@ -89,19 +105,75 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     {
         if (getBuilding() != null)
         {
-            final Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
+            final Set<BlockPos> containers = getContainerPositions();
+            final BlockPos indexedPos = getColony().getWarehouseItemIndex().getPositionOfMatchingItem(itemStackSelectionPredicate, containers);
+            if (indexedPos != null)
+            {
+                return indexedPos;
+            }
 
-            return tileEntities.stream()
-                     .filter(tileEntity -> InventoryUtils.hasItemInProvider(tileEntity, itemStackSelectionPredicate))
-                     .map(TileEntity::getPos)
+            return getUnindexedContainers(containers).entrySet().stream()
+                     .filter(entry -> InventoryUtils.hasItemInItemHandler(entry.getValue(), itemStackSelectionPredicate))
+                     .map(Map.Entry::getKey)
                      .findFirst().orElse(null);
         }
 
         return null;
     }
 
+    /**
+     * Get the positions of the hut and all its containers.
+     *
+     * @return a new set of positions.
+     */
+    private Set<BlockPos> getContainerPositions()
+    {
+        final Set<BlockPos> containers = new HashSet<>(getBuilding().getAdditionalCountainers());
+        containers.add(getPos());
+        return containers;
+    }
+
+    /**
+     * Get the inventories of the containers whose content is not part of the warehouse item index of the colony.
+     * Usually these are only containers which were not loaded since the server started.
+     *
+     * @param containers the positions of the containers.
+     * @return the inventories by the position of their container.
+     */
+    private Map<BlockPos, IItemHandler> getUnindexedContainers(final Set<BlockPos> containers)
+    {
+        final WarehouseItemIndex index = getColony().getWarehouseItemIndex();
+        final Map<BlockPos, IItemHandler> handlers = new LinkedHashMap<>();
+        for (final BlockPos pos : containers)
+        {
+            if (index.containsRack(pos))
+            {
+                continue;
+            }
+
+            final TileEntity entity = pos.equals(getPos()) ? this : getWorld().getTileEntity(pos);
+            if (entity instanceof AbstractTileEntityRack)
+            {
+                //  Loading the rack may just have indexed it.
+                if (!index.containsRack(pos))
+                {
+                    handlers.put(pos, ((AbstractTileEntityRack) entity).getInventory());
+                }
+            }
+            else if (entity != null && entity.hasCapability(ITEM_HANDLER_CAPABILITY, null))
+            {
+                handlers.put(pos, entity.getCapability(ITEM_HANDLER_CAPABILITY, null));
+            }
+        }
+        return handlers;
+    }
+
+    @Override
+    protected boolean isIndexedInWarehouse()
+    {
+        return true;
+    }
+
     /**
      * Dump the inventory of a citizen into the warehouse.
      * Go through all items and search the right chest to dump it in.
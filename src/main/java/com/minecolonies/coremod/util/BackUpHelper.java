@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.util;
 
-import com.google.common.io.Files;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyTagCapability;
@@ -17,12 +16,13 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -37,6 +37,39 @@ public final class BackUpHelper
      */
     private final static int MAX_COLONY_LOAD = 5000;
 
+    /**
+     * The seconds the save thread is kept alive without work.
+     */
+    private static final int SAVE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * The seconds to wait for the pending saves before giving up.
+     */
+    private static final int PENDING_SAVES_TIMEOUT_SECONDS = 60;
+
+    /**
+     * The suffix of the file a save is written to before it replaces the actual file.
+     */
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes and zips the backups on a thread of its own, in the order they were submitted.
+     * Not a daemon, so a pending backup is finished when the server shuts down.
+     */
+    private static final ThreadPoolExecutor SAVE_EXECUTOR;
+
+    static
+    {
+        SAVE_EXECUTOR = new ThreadPoolExecutor(1, 1, SAVE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+          runnable -> new Thread(runnable, "Minecolonies Save Worker"));
+        SAVE_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * The last submitted save, all earlier ones are done when it is.
+     */
+    private static Future<?> lastSave = CompletableFuture.completedFuture(null);
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -48,30 +81,77 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data.
+     * The data is collected on the calling thread, the files are written and zipped on the save thread.
      *
+     * @return the backup, completes with true if succesful.
+     */
+    public static synchronized CompletableFuture<Boolean> backupColonyData()
+    {
+        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        final Map<File, NBTTagCompound> saves = collectColonySaves(saveDir);
+        final File backupFile = getBackupSaveLocation(new Date());
+        final int dimensions = FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length;
+        final int topColonyId = IColonyManager.getInstance().getTopColonyId();
+        final Set<String> colonyFiles = new HashSet<>();
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            colonyFiles.add(String.format(FILENAME_COLONY, colony.getID(), colony.getDimension()));
+        }
+
+        final CompletableFuture<Boolean> backup =
+          CompletableFuture.supplyAsync(() -> writeBackup(saveDir, saves, backupFile, dimensions, topColonyId, colonyFiles), SAVE_EXECUTOR);
+        lastSave = backup;
+        return backup;
+    }
+
+    /**
+     * Write the colony files and zip them into the backup, runs on the save thread.
+     *
+     * @param saveDir     the minecolonies save folder.
+     * @param saves       the files to write before zipping.
+     * @param backupFile  the zip file to write.
+     * @param dimensions  the amount of dimensions.
+     * @param topColonyId the highest colony id.
+     * @param colonyFiles the file names of the existing colonies, the others are marked deleted.
      * @return true if succesful.
      */
-    public static boolean backupColonyData()
+    private static boolean writeBackup(
+      final File saveDir,
+      final Map<File, NBTTagCompound> saves,
+      final File backupFile,
+      final int dimensions,
+      final int topColonyId,
+      final Set<String> colonyFiles)
     {
-        BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+        for (final Map.Entry<File, NBTTagCompound> save : saves.entrySet())
+        {
+            try
+            {
+                writeNBTAtomically(save.getKey(), save.getValue());
+            }
+            catch (final IOException exception)
+            {
+                Log.getLogger().error("Exception when saving " + save.getKey().getName(), exception);
+            }
+        }
+
+        try (FileOutputStream fos = new FileOutputStream(backupFile))
         {
-            @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
             final ZipOutputStream zos = new ZipOutputStream(fos);
 
-            for (int dim = 0; dim < FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length; dim++)
+            for (int dim = 0; dim < dimensions; dim++)
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                for (int i = 1; i <= topColonyId + 1; i++)
                 {
                     @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, i, dim));
                     @NotNull final File fileDeleted = new File(saveDir, String.format(FILENAME_COLONY_DELETED, i, dim));
                     if (file.exists())
                     {
                         // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dim) == null)
+                        if (!colonyFiles.contains(file.getName()))
                         {
-                            markColonyDeleted(i, dim);
+                            renameColonyToDeleted(saveDir, i, dim);
                             addToZipFile(String.format(FILENAME_COLONY_DELETED, i, dim), zos, saveDir);
                         }
                         else
@@ -85,7 +165,7 @@ public final class BackUpHelper
                     }
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
+            addToZipFile(FILENAME_MINECOLONIES, zos, saveDir);
             zos.close();
         }
         catch (final Exception e)
@@ -105,6 +185,7 @@ public final class BackUpHelper
      */
     public static void loadMissingColonies()
     {
+        waitForPendingSaves();
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
 
         for (int dim = 0; dim < FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length; dim++)
@@ -156,7 +237,7 @@ public final class BackUpHelper
         try (FileInputStream fis = new FileInputStream(file))
         {
             zos.putNextEntry(new ZipEntry(fileName));
-            Files.copy(file, zos);
+            Files.copy(file.toPath(), zos);
         }
         catch (final Exception e)
         {
@@ -224,22 +305,76 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Block until all saves submitted so far are written.
+     */
+    public static void waitForPendingSaves()
+    {
+        final Future<?> save;
+        synchronized (BackUpHelper.class)
+        {
+            save = lastSave;
+        }
+
+        try
+        {
+            save.get(PENDING_SAVES_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException | TimeoutException e)
+        {
+            Log.getLogger().warn("Pending colony saves did not finish", e);
+        }
+    }
+
+    /**
+     * Write the compressed compound to a tmp file and move it over the destination.
+     *
+     * @param file     The destination file to write the data to.
+     * @param compound The NBTTagCompound to write to the file.
+     * @throws IOException if writing or moving failed.
      */
-    public static void saveColonies()
+    private static void writeNBTAtomically(@NotNull final File file, @NotNull final NBTTagCompound compound) throws IOException
     {
+        file.getParentFile().mkdirs();
+        final File tmpFile = new File(file.getParentFile(), file.getName() + TMP_FILE_SUFFIX);
+        try (OutputStream out = new FileOutputStream(tmpFile))
+        {
+            CompressedStreamTools.writeCompressed(compound, out);
+        }
+
+        try
+        {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Collect the data of the colony manager and all colonies, with the file to save it to.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @return the data by file.
+     */
+    private static Map<File, NBTTagCompound> collectColonySaves(@NotNull final File saveDir)
+    {
+        final Map<File, NBTTagCompound> saves = new LinkedHashMap<>();
         @NotNull final NBTTagCompound compound = new NBTTagCompound();
         IColonyManager.getInstance().writeToNBT(compound);
+        saves.put(new File(saveDir, FILENAME_MINECOLONIES), compound);
 
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
-        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
             final NBTTagCompound colonyCompound = new NBTTagCompound();
             colony.writeToNBT(colonyCompound);
-            saveNBTToPath(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound);
+            saves.put(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound);
         }
+        return saves;
     }
 
     /**
@@ -250,7 +385,19 @@ public final class BackUpHelper
      */
     public static void markColonyDeleted(final int colonyID, final int dimensionID)
     {
-        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        waitForPendingSaves();
+        renameColonyToDeleted(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH), colonyID, dimensionID);
+    }
+
+    /**
+     * Renames a colony's backup file to the deleted one.
+     *
+     * @param saveDir     the minecolonies save folder.
+     * @param colonyID    id of the colony to delete
+     * @param dimensionID dimension of the colony to delete
+     */
+    private static void renameColonyToDeleted(@NotNull final File saveDir, final int colonyID, final int dimensionID)
+    {
         final File todelete = new File(saveDir, String.format(FILENAME_COLONY, colonyID, dimensionID));
         if (todelete.exists())
         {
@@ -1,8 +1,7 @@
 package com.minecolonies.coremod.util;
 
 import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
-import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.StructureCache;
 import com.minecolonies.coremod.colony.buildings.AbstractSchematicProvider;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
@@ -49,16 +48,12 @@ public final class BuildingUtils
 
             final String structureName = sn.toString();
 
-            final Structure wrapper = new Structure(world, structureName, new PlacementSettings());
-            wrapper.rotate(BlockPosUtil.getRotationFromRotations(building.getRotation()), world, location, building.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
+            final Structure wrapper = StructureCache.getTemplate(world, structureName, building.getRotation(), building.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
 
-            final BlockPos pos = location;
-            wrapper.setPosition(pos);
-
-            x1 = wrapper.getPosition().getX() - wrapper.getOffset().getX() - 1;
-            z1 = wrapper.getPosition().getZ() - wrapper.getOffset().getZ() - 1;
-            x3 = wrapper.getPosition().getX() + (wrapper.getWidth() - wrapper.getOffset().getX());
-            z3 = wrapper.getPosition().getZ() + (wrapper.getLength() - wrapper.getOffset().getZ());
+            x1 = location.getX() - wrapper.getOffset().getX() - 1;
+            z1 = location.getZ() - wrapper.getOffset().getZ() - 1;
+            x3 = location.getX() + (wrapper.getWidth() - wrapper.getOffset().getX());
+            z3 = location.getZ() + (wrapper.getLength() - wrapper.getOffset().getZ());
             y3 = location.getY() + wrapper.getHeight();
 
             building.setCorners(x1, x3, z1, z3);
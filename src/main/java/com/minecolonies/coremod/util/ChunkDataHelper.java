@@ -11,16 +11,23 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.IColonyManagerCapability;
 import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
+import com.minecolonies.coremod.network.messages.UpdateChunkRangeCapabilityMessage;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.*;
 import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
@@ -61,7 +68,7 @@ public final class ChunkDataHelper
             return;
         }
 
-        if (!chunkManager.getAllChunkStorages().isEmpty())
+        if (chunkManager.getChunkStorageCount() > 0)
         {
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
             if (cap == null)
@@ -94,7 +101,7 @@ public final class ChunkDataHelper
                         }
                         if (dirty)
                         {
-                            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(closeCap, chunk.x, chunk.z));
+                            MineColonies.getNetwork().sendToDimension(new UpdateChunkCapabilityMessage(closeCap, chunk.x, chunk.z), world.provider.getDimension());
                         }
                     }
                 }
@@ -147,7 +154,7 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+            MineColonies.getNetwork().sendToDimension(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z), chunk.getWorld().provider.getDimension());
         }
     }
 
@@ -176,6 +183,11 @@ public final class ChunkDataHelper
         {
             for (final File file : files)
             {
+                if (file.isDirectory())
+                {
+                    continue;
+                }
+
                 @Nullable final NBTTagCompound chunkData = BackUpHelper.loadNBTFromPath(file);
                 if (chunkData != null)
                 {
@@ -299,7 +311,8 @@ public final class ChunkDataHelper
         }
 
         final Chunk centralChunk = world.getChunk(center);
-        loadChunkAndAddData(world, center, add, colonyId, center, chunkManager);
+        final List<Chunk> updatedChunks = new ArrayList<>();
+        loadChunkAndAddData(world, center, add, colonyId, center, chunkManager, updatedChunks);
 
         final int chunkX = centralChunk.x;
         final int chunkZ = centralChunk.z;
@@ -307,6 +320,7 @@ public final class ChunkDataHelper
         final IColony colony = IColonyManager.getInstance().getColonyByWorld(colonyId, world);
         if (colony == null)
         {
+            sendChunkUpdates(world, updatedChunks);
             return;
         }
 
@@ -325,7 +339,7 @@ public final class ChunkDataHelper
                 {
                     continue;
                 }
-                if (loadChunkAndAddData(world, pos, add, colonyId, center, chunkManager))
+                if (loadChunkAndAddData(world, pos, add, colonyId, center, chunkManager, updatedChunks))
                 {
                     continue;
                 }
@@ -334,6 +348,7 @@ public final class ChunkDataHelper
                 chunkManager.addChunkStorage(i, j, newStorage);
             }
         }
+        sendChunkUpdates(world, updatedChunks);
     }
 
     /**
@@ -364,7 +379,8 @@ public final class ChunkDataHelper
         }
 
         final Chunk centralChunk = world.getChunk(center);
-        loadChunkAndAddData(world, center, add, colonyId, chunkManager);
+        final List<Chunk> updatedChunks = new ArrayList<>();
+        loadChunkAndAddData(world, center, add, colonyId, chunkManager, updatedChunks);
 
         final int chunkX = centralChunk.x;
         final int chunkZ = centralChunk.z;
@@ -381,7 +397,7 @@ public final class ChunkDataHelper
 
                 if (i >= chunkX - DISTANCE_TO_LOAD_IMMEDIATELY && j >= chunkZ - DISTANCE_TO_LOAD_IMMEDIATELY && i <= chunkX + DISTANCE_TO_LOAD_IMMEDIATELY
                       && j <= chunkZ + DISTANCE_TO_LOAD_IMMEDIATELY
-                      && loadChunkAndAddData(world, new BlockPos(i * BLOCKS_PER_CHUNK, 0, j * BLOCKS_PER_CHUNK), add, colonyId, chunkManager))
+                      && loadChunkAndAddData(world, new BlockPos(i * BLOCKS_PER_CHUNK, 0, j * BLOCKS_PER_CHUNK), add, colonyId, chunkManager, updatedChunks))
                 {
                     continue;
                 }
@@ -391,6 +407,32 @@ public final class ChunkDataHelper
                 chunkManager.addChunkStorage(i, j, newStorage);
             }
         }
+        sendChunkUpdates(world, updatedChunks);
+    }
+
+    /**
+     * Send the capabilities of the updated chunks in one message to the players tracking any of them.
+     *
+     * @param world  the world of the chunks.
+     * @param chunks the updated chunks.
+     */
+    private static void sendChunkUpdates(final World world, final List<Chunk> chunks)
+    {
+        if (chunks.isEmpty() || !(world instanceof WorldServer))
+        {
+            return;
+        }
+
+        final PlayerChunkMap playerChunkMap = ((WorldServer) world).getPlayerChunkMap();
+        final UpdateChunkRangeCapabilityMessage message = new UpdateChunkRangeCapabilityMessage(chunks);
+        for (final EntityPlayer player : world.playerEntities)
+        {
+            if (player instanceof EntityPlayerMP
+                  && chunks.stream().anyMatch(chunk -> playerChunkMap.isPlayerWatchingChunk((EntityPlayerMP) player, chunk.x, chunk.z)))
+            {
+                MineColonies.getNetwork().sendTo(message, (EntityPlayerMP) player);
+            }
+        }
     }
 
     /**
@@ -433,9 +475,17 @@ public final class ChunkDataHelper
      * @param pos   the position.
      * @param add   if add or delete.
      * @param id    the id.
+     * @param chunkManager  the chunk manager capability of the world.
+     * @param updatedChunks the list to add the chunk to if it was updated.
      * @return true if successful.
      */
-    public static boolean loadChunkAndAddData(final World world, final BlockPos pos, final boolean add, final int id, final IChunkmanagerCapability chunkManager)
+    public static boolean loadChunkAndAddData(
+      final World world,
+      final BlockPos pos,
+      final boolean add,
+      final int id,
+      final IChunkmanagerCapability chunkManager,
+      final List<Chunk> updatedChunks)
     {
         if (!world.isBlockLoaded(pos))
         {
@@ -478,7 +528,7 @@ public final class ChunkDataHelper
             cap.removeColony(id, chunk);
         }
 
-        MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+        updatedChunks.add(chunk);
         return true;
     }
 
@@ -492,9 +542,18 @@ public final class ChunkDataHelper
      * @param add   if add or delete.
      * @param id    the id.
      * @param buildingPos the building pos.
+     * @param chunkManager  the chunk manager capability of the world.
+     * @param updatedChunks the list to add the chunk to if it was updated.
      * @return true if successful.
      */
-    public static boolean loadChunkAndAddData(final World world, final BlockPos pos, final boolean add, final int id, final BlockPos buildingPos, final IChunkmanagerCapability chunkManager)
+    public static boolean loadChunkAndAddData(
+      final World world,
+      final BlockPos pos,
+      final boolean add,
+      final int id,
+      final BlockPos buildingPos,
+      final IChunkmanagerCapability chunkManager,
+      final List<Chunk> updatedChunks)
     {
         if (!world.isBlockLoaded(pos))
         {
@@ -524,7 +583,7 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(id, buildingPos, chunk);
         }
 
-        MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+        updatedChunks.add(chunk);
         return true;
     }
 }
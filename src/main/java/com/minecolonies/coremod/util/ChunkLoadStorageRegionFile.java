@@ -0,0 +1,404 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.ChunkLoadStorage;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A file holding the chunk load storages of a region of 32x32 chunks.
+ * The file starts with a table of the offset and length of the compressed entry of each chunk, followed by the entries.
+ * Changed entries are appended and the table is rewritten, once the file holds more unused than used bytes it is compacted.
+ * Must only be used from the server thread.
+ */
+public class ChunkLoadStorageRegionFile
+{
+    /**
+     * The amount of bits of a chunk coordinate within the region.
+     */
+    public static final int REGION_SHIFT = 5;
+
+    /**
+     * The amount of chunks per region side.
+     */
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    /**
+     * The amount of entries in a region.
+     */
+    private static final int ENTRIES = REGION_SIZE * REGION_SIZE;
+
+    /**
+     * The size of the table at the start of the file, an offset and a length per entry.
+     */
+    private static final int HEADER_BYTES = ENTRIES * 2 * Integer.BYTES;
+
+    /**
+     * The suffix of the file a compacted region is written to before it replaces the actual file.
+     */
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * The file of the region.
+     */
+    private final File file;
+
+    /**
+     * The offset of each entry in the file.
+     */
+    private final int[] offsets = new int[ENTRIES];
+
+    /**
+     * The length of each entry in the file, 0 if the chunk has no entry.
+     */
+    private final int[] lengths = new int[ENTRIES];
+
+    /**
+     * Entries which have been taken, they are removed from the file with the next write.
+     * Until then the entry is still on disk, so a chunk which is not saved after it was updated gets the storage again.
+     */
+    private final Set<Integer> takenEntries = new HashSet<>();
+
+    /**
+     * The amount of entries, without the taken ones.
+     */
+    private int size = 0;
+
+    /**
+     * Open a region file, reading its table if it exists.
+     *
+     * @param file the file of the region.
+     */
+    public ChunkLoadStorageRegionFile(@NotNull final File file)
+    {
+        this.file = file;
+        if (!file.exists())
+        {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            final IntBuffer header = read(channel, 0, HEADER_BYTES).asIntBuffer();
+            for (int i = 0; i < ENTRIES; i++)
+            {
+                offsets[i] = header.get();
+                lengths[i] = header.get();
+                if (lengths[i] > 0)
+                {
+                    size++;
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Unable to read chunk region " + file.getName() + ", the pending chunk updates of it are lost", e);
+            clearTable();
+        }
+    }
+
+    /**
+     * Get the index of a chunk within its region.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the index.
+     */
+    public static int getIndex(final int chunkX, final int chunkZ)
+    {
+        return (chunkX & (REGION_SIZE - 1)) | ((chunkZ & (REGION_SIZE - 1)) << REGION_SHIFT);
+    }
+
+    /**
+     * Check if a chunk has an entry.
+     *
+     * @param index the index of the chunk.
+     * @return true if so.
+     */
+    public boolean contains(final int index)
+    {
+        return lengths[index] > 0 && !takenEntries.contains(index);
+    }
+
+    /**
+     * Get the amount of chunks with an entry.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if there are taken entries which still have to be removed from the file.
+     *
+     * @return true if so.
+     */
+    public boolean hasTakenEntries()
+    {
+        return !takenEntries.isEmpty();
+    }
+
+    /**
+     * Read the entry of a chunk and remove it with the next write.
+     *
+     * @param index the index of the chunk.
+     * @return the storage or null if there is none.
+     */
+    @Nullable
+    public ChunkLoadStorage take(final int index)
+    {
+        if (!contains(index))
+        {
+            return null;
+        }
+
+        takenEntries.add(index);
+        size--;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            return readEntry(channel, index);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Unable to read chunk " + index + " of chunk region " + file.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Write storages to the file, merged into the existing entries of their chunks.
+     * Taken entries are removed from the file.
+     *
+     * @param storages the storages by the index of their chunk.
+     */
+    public void write(@NotNull final Map<Integer, ChunkLoadStorage> storages)
+    {
+        try
+        {
+            final byte[][] entries = new byte[ENTRIES][];
+            int usedBytes = 0;
+            try (FileChannel channel = file.exists() ? FileChannel.open(file.toPath(), StandardOpenOption.READ) : null)
+            {
+                for (final Map.Entry<Integer, ChunkLoadStorage> entry : storages.entrySet())
+                {
+                    final int index = entry.getKey();
+                    final ChunkLoadStorage existing = channel != null && contains(index) ? readEntry(channel, index) : null;
+                    if (existing != null)
+                    {
+                        //  The entry on disk is the older one.
+                        existing.merge(entry.getValue());
+                    }
+                    entries[index] = compress(existing == null ? entry.getValue() : existing);
+                }
+            }
+
+            for (final int index : takenEntries)
+            {
+                if (entries[index] == null)
+                {
+                    lengths[index] = 0;
+                }
+            }
+            takenEntries.clear();
+
+            for (int i = 0; i < ENTRIES; i++)
+            {
+                usedBytes += entries[i] == null ? lengths[i] : entries[i].length;
+            }
+
+            final long fileBytes = file.exists() ? file.length() : HEADER_BYTES;
+            if (fileBytes - HEADER_BYTES - usedBytes > usedBytes)
+            {
+                compact(entries);
+            }
+            else
+            {
+                append(entries);
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Unable to write chunk region " + file.getName(), e);
+        }
+    }
+
+    /**
+     * Append the given entries to the file and rewrite the table.
+     *
+     * @param entries the new entries by index, null for unchanged ones.
+     * @throws IOException if writing failed.
+     */
+    private void append(@NotNull final byte[][] entries) throws IOException
+    {
+        file.getParentFile().mkdirs();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE))
+        {
+            int end = (int) Math.max(HEADER_BYTES, channel.size());
+            for (int i = 0; i < ENTRIES; i++)
+            {
+                if (entries[i] != null)
+                {
+                    write(channel, end, ByteBuffer.wrap(entries[i]));
+                    offsets[i] = end;
+                    lengths[i] = entries[i].length;
+                    end += entries[i].length;
+                }
+            }
+
+            //  The table goes last, so a failed write leaves the previous entries readable.
+            write(channel, 0, writeTable());
+        }
+        recount();
+    }
+
+    /**
+     * Write a new file holding only the used entries and replace the current file with it.
+     *
+     * @param entries the new entries by index, null for unchanged ones.
+     * @throws IOException if reading or writing failed.
+     */
+    private void compact(@NotNull final byte[][] entries) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            for (int i = 0; i < ENTRIES; i++)
+            {
+                if (entries[i] == null && lengths[i] > 0)
+                {
+                    entries[i] = read(channel, offsets[i], lengths[i]).array();
+                }
+            }
+        }
+
+        int end = HEADER_BYTES;
+        for (int i = 0; i < ENTRIES; i++)
+        {
+            offsets[i] = entries[i] == null ? 0 : end;
+            lengths[i] = entries[i] == null ? 0 : entries[i].length;
+            end += lengths[i];
+        }
+        recount();
+
+        if (size == 0)
+        {
+            Files.deleteIfExists(file.toPath());
+            return;
+        }
+
+        final File tmpFile = new File(file.getParentFile(), file.getName() + TMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tmpFile.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            write(channel, 0, writeTable());
+            for (int i = 0; i < ENTRIES; i++)
+            {
+                if (entries[i] != null)
+                {
+                    write(channel, offsets[i], ByteBuffer.wrap(entries[i]));
+                }
+            }
+        }
+
+        try
+        {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Read and decompress the entry of a chunk.
+     *
+     * @param channel the channel of the file.
+     * @param index   the index of the chunk.
+     * @return the storage.
+     * @throws IOException if reading failed.
+     */
+    @NotNull
+    private ChunkLoadStorage readEntry(@NotNull final FileChannel channel, final int index) throws IOException
+    {
+        final ByteBuffer buffer = read(channel, offsets[index], lengths[index]);
+        return new ChunkLoadStorage(CompressedStreamTools.readCompressed(new ByteArrayInputStream(buffer.array())));
+    }
+
+    private static byte[] compress(@NotNull final ChunkLoadStorage storage) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressedStreamTools.writeCompressed(storage.toNBT(), out);
+        return out.toByteArray();
+    }
+
+    private ByteBuffer writeTable()
+    {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        for (int i = 0; i < ENTRIES; i++)
+        {
+            header.putInt(offsets[i]);
+            header.putInt(lengths[i]);
+        }
+        header.flip();
+        return header;
+    }
+
+    private void recount()
+    {
+        size = 0;
+        for (int i = 0; i < ENTRIES; i++)
+        {
+            if (lengths[i] > 0)
+            {
+                size++;
+            }
+        }
+    }
+
+    private void clearTable()
+    {
+        for (int i = 0; i < ENTRIES; i++)
+        {
+            offsets[i] = 0;
+            lengths[i] = 0;
+        }
+        size = 0;
+    }
+
+    private static ByteBuffer read(@NotNull final FileChannel channel, final long position, final int length) throws IOException
+    {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer, position + buffer.position()) < 0)
+            {
+                throw new EOFException("Chunk region ends before " + (position + length));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void write(@NotNull final FileChannel channel, final long position, @NotNull final ByteBuffer buffer) throws IOException
+    {
+        final long start = position - buffer.position();
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer, start + buffer.position());
+        }
+    }
+}
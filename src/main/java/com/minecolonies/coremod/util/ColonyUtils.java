@@ -1,11 +1,8 @@
 package com.minecolonies.coremod.util;
 
 import com.ldtteam.structures.helpers.Structure;
-import com.minecolonies.api.util.BlockPosUtil;
-import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.World;
 
 /**
  * Contains colony specific utility.
@@ -25,27 +22,16 @@ public final class ColonyUtils
     /**
      * Calculated the corner of a building.
      *
-     * @param pos        the central position.
-     * @param world      the world.
-     * @param wrapper    the structureWrapper.
-     * @param rotation   the rotation.
-     * @param isMirrored if its mirrored.
+     * @param pos      the central position.
+     * @param template the structure, already rotated and mirrored like the building.
      * @return a tuple with the required corners.
      */
-    public static Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> calculateCorners(
-      final BlockPos pos,
-      final World world,
-      final Structure wrapper,
-      final int rotation,
-      final boolean isMirrored)
+    public static Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> calculateCorners(final BlockPos pos, final Structure template)
     {
-        wrapper.rotate(BlockPosUtil.getRotationFromRotations(rotation), world, pos, isMirrored ? Mirror.FRONT_BACK : Mirror.NONE);
-        wrapper.setPosition(pos);
-
-        final int x1 = wrapper.getPosition().getX() - wrapper.getOffset().getX() - 1;
-        final int z1 = wrapper.getPosition().getZ() - wrapper.getOffset().getZ() - 1;
-        final int x2 = wrapper.getPosition().getX() + (wrapper.getWidth() - wrapper.getOffset().getX());
-        final int z2 = wrapper.getPosition().getZ() + (wrapper.getLength() - wrapper.getOffset().getZ());
+        final int x1 = pos.getX() - template.getOffset().getX() - 1;
+        final int z1 = pos.getZ() - template.getOffset().getZ() - 1;
+        final int x2 = pos.getX() + (template.getWidth() - template.getOffset().getX());
+        final int z2 = pos.getZ() + (template.getLength() - template.getOffset().getZ());
 
         return new Tuple<>(new Tuple<>(x1, x2), new Tuple<>(z1, z2));
     }
@@ -0,0 +1,153 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IChunkmanagerCapability;
+import com.minecolonies.api.util.ChunkLoadStorage;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.CHUNK_REGION_PATH;
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_CHUNK_REGION;
+import static com.minecolonies.coremod.util.ChunkLoadStorageRegionFile.REGION_SHIFT;
+
+/**
+ * Chunk manager capability of a server world which keeps the pending chunk storages in region files.
+ * New storages are collected in memory and moved to the region files when the world is saved,
+ * so a save only writes the regions which changed instead of all pending storages.
+ */
+public class RegionChunkmanagerCapability extends IChunkmanagerCapability.Impl
+{
+    /**
+     * Pattern of the region file names.
+     */
+    private static final Pattern REGION_FILE_PATTERN = Pattern.compile("region\\.(-?\\d+)\\.(-?\\d+)\\.dat");
+
+    /**
+     * The world of the capability.
+     */
+    private final World world;
+
+    /**
+     * The region files by the long of their region coordinates, null until the first access.
+     */
+    @Nullable
+    private Map<Long, ChunkLoadStorageRegionFile> regions;
+
+    /**
+     * Create the capability for a server world.
+     *
+     * @param world the world.
+     */
+    public RegionChunkmanagerCapability(@NotNull final World world)
+    {
+        this.world = world;
+    }
+
+    @Nullable
+    @Override
+    public ChunkLoadStorage getChunkStorage(final int chunkX, final int chunkZ)
+    {
+        final ChunkLoadStorage storage = super.getChunkStorage(chunkX, chunkZ);
+        final ChunkLoadStorageRegionFile region = getRegions().get(ChunkPos.asLong(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT));
+        final ChunkLoadStorage savedStorage = region == null ? null : region.take(ChunkLoadStorageRegionFile.getIndex(chunkX, chunkZ));
+        if (savedStorage == null)
+        {
+            return storage;
+        }
+
+        if (storage != null)
+        {
+            savedStorage.merge(storage);
+        }
+        return savedStorage;
+    }
+
+    @Override
+    public int getChunkStorageCount()
+    {
+        int count = super.getChunkStorageCount();
+        for (final ChunkLoadStorageRegionFile region : getRegions().values())
+        {
+            count += region.size();
+        }
+        return count;
+    }
+
+    /**
+     * Move the storages collected in memory into the region files and remove the taken storages from them.
+     */
+    public void saveToRegions()
+    {
+        final Map<Long, Map<Integer, ChunkLoadStorage>> storagesByRegion = new HashMap<>();
+        for (final Map.Entry<ChunkPos, ChunkLoadStorage> entry : getAllChunkStorages().entrySet())
+        {
+            final ChunkPos pos = entry.getKey();
+            storagesByRegion.computeIfAbsent(ChunkPos.asLong(pos.x >> REGION_SHIFT, pos.z >> REGION_SHIFT), key -> new HashMap<>())
+              .put(ChunkLoadStorageRegionFile.getIndex(pos.x, pos.z), entry.getValue());
+        }
+        getAllChunkStorages().clear();
+
+        final Map<Long, ChunkLoadStorageRegionFile> regionFiles = getRegions();
+        for (final Map.Entry<Long, Map<Integer, ChunkLoadStorage>> entry : storagesByRegion.entrySet())
+        {
+            final long region = entry.getKey();
+            regionFiles.computeIfAbsent(region, key -> new ChunkLoadStorageRegionFile(getRegionFile((int) region, (int) (region >> 32))))
+              .write(entry.getValue());
+        }
+
+        for (final Map.Entry<Long, ChunkLoadStorageRegionFile> entry : regionFiles.entrySet())
+        {
+            if (!storagesByRegion.containsKey(entry.getKey()) && entry.getValue().hasTakenEntries())
+            {
+                entry.getValue().write(new HashMap<>());
+            }
+        }
+    }
+
+    /**
+     * Get the region files, reading their tables on the first access.
+     *
+     * @return the region files by the long of their region coordinates.
+     */
+    @NotNull
+    private Map<Long, ChunkLoadStorageRegionFile> getRegions()
+    {
+        if (regions == null)
+        {
+            regions = new HashMap<>();
+            final File[] files = getRegionDirectory().listFiles();
+            if (files != null)
+            {
+                for (final File file : files)
+                {
+                    final Matcher matcher = REGION_FILE_PATTERN.matcher(file.getName());
+                    if (matcher.matches())
+                    {
+                        final ChunkLoadStorageRegionFile region = new ChunkLoadStorageRegionFile(file);
+                        regions.put(ChunkPos.asLong(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))), region);
+                    }
+                }
+            }
+        }
+        return regions;
+    }
+
+    @NotNull
+    private File getRegionFile(final int regionX, final int regionZ)
+    {
+        return new File(getRegionDirectory(), String.format(FILENAME_CHUNK_REGION, regionX, regionZ));
+    }
+
+    @NotNull
+    private File getRegionDirectory()
+    {
+        return new File(world.getSaveHandler().getWorldDirectory(), String.format(CHUNK_REGION_PATH, world.provider.getDimension()));
+    }
+}
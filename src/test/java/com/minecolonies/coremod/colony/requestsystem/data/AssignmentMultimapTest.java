@@ -0,0 +1,108 @@
+package com.minecolonies.coremod.colony.requestsystem.data;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class AssignmentMultimapTest
+{
+    private AssignmentMultimap<String, Integer> map;
+
+    @Before
+    public void setUp()
+    {
+        map = new AssignmentMultimap<>();
+    }
+
+    @Test
+    public void putIndexesValues()
+    {
+        map.put("a", ImmutableList.of(1, 2));
+        map.put("b", new HashSet<>(Collections.singletonList(3)));
+
+        assertEquals("a", map.getKeyForValue(1));
+        assertEquals("a", map.getKeyForValue(2));
+        assertEquals("b", map.getKeyForValue(3));
+        assertNull(map.getKeyForValue(4));
+    }
+
+    @Test
+    public void putKeepsOrder()
+    {
+        map.put("a", ImmutableList.of(3, 1, 2));
+
+        assertEquals(ImmutableList.of(3, 1, 2), new ArrayList<>(map.get("a")));
+    }
+
+    @Test
+    public void valueCollectionUpdatesIndex()
+    {
+        map.put("a", new HashSet<>());
+        map.get("a").add(1);
+        assertEquals("a", map.getKeyForValue(1));
+
+        map.get("a").remove(1);
+        assertNull(map.getKeyForValue(1));
+        assertTrue(map.containsKey("a"));
+    }
+
+    @Test
+    public void removeKeyClearsIndex()
+    {
+        map.put("a", ImmutableList.of(1, 2));
+        final Collection<Integer> removed = map.remove("a");
+
+        assertNull(map.getKeyForValue(1));
+        assertNull(map.getKeyForValue(2));
+
+        //  Detached collections do not touch the index anymore
+        removed.add(3);
+        assertNull(map.getKeyForValue(3));
+    }
+
+    @Test
+    public void replaceKeyReindexes()
+    {
+        map.put("a", ImmutableList.of(1, 2));
+        map.put("a", ImmutableList.of(2, 3));
+
+        assertNull(map.getKeyForValue(1));
+        assertEquals("a", map.getKeyForValue(2));
+        assertEquals("a", map.getKeyForValue(3));
+    }
+
+    @Test
+    public void iteratorRemovalUpdatesIndex()
+    {
+        map.put("a", ImmutableList.of(1));
+        map.put("b", ImmutableList.of(2));
+
+        final Iterator<String> keys = map.keySet().iterator();
+        while (keys.hasNext())
+        {
+            if (keys.next().equals("a"))
+            {
+                keys.remove();
+            }
+        }
+
+        assertNull(map.getKeyForValue(1));
+        assertEquals("b", map.getKeyForValue(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void copiesSourceMap()
+    {
+        final Map<String, Collection<Integer>> source = new HashMap<>();
+        source.put("a", ImmutableList.of(1));
+        map = new AssignmentMultimap<>(source);
+
+        assertEquals("a", map.getKeyForValue(1));
+        assertEquals(source.keySet(), map.keySet());
+    }
+}
@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.managers.interfaces.IBuildingManager;
+import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.manager.RequestMappingHandler;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvider;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControllerInitializer;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManagerTest.*;
+import com.minecolonies.coremod.test.ReflectionUtil;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RequestManagerSyncTrackerTest
+{
+    @Mock
+    private Colony colony;
+
+    @Mock
+    private World world;
+
+    @Mock
+    private WorldProvider worldProvider;
+
+    @Mock
+    private BlockPos center;
+
+    @Mock
+    private IBuildingManager buildingManager;
+
+    @Mock
+    private ICitizenManager citizenManager;
+
+    private StandardRequestManager    server;
+    private RequestManagerSyncTracker tracker;
+    private IRequestResolverProvider  provider;
+
+    /**
+     * The version of the state the client request manager has.
+     */
+    private int clientVersion;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        StandardFactoryControllerInitializer.onPreInit();
+        StandardFactoryController.getInstance().registerNewFactory(new StringRequestableFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new StringRequestFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new StringResolverFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new TestRequesterFactory());
+        RequestMappingHandler.registerRequestableTypeMapping(StringRequestable.class, StringRequest.class);
+
+        when(colony.getWorld()).thenReturn(world);
+        when(colony.getID()).thenReturn(1);
+        when(colony.getBuildingManager()).thenReturn(buildingManager);
+        when(colony.getCitizenManager()).thenReturn(citizenManager);
+        when(buildingManager.getBuildings()).thenReturn(new HashMap<>());
+        when(worldProvider.getDimension()).thenReturn(1);
+        ReflectionUtil.setFinalField(world, "provider", worldProvider);
+        when(colony.getCenter()).thenReturn(center);
+
+        server = new StandardRequestManager(colony);
+        tracker = new RequestManagerSyncTracker();
+        provider = new TestResolvingProvider(new StringResolver(0), new StringResolver(1));
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        server = null;
+        StandardFactoryController.reset();
+    }
+
+    /**
+     * Send a full snapshot of the server request manager to a new client request manager.
+     *
+     * @return the client request manager.
+     */
+    private StandardRequestManager sendSnapshot()
+    {
+        final StandardRequestManager client = new StandardRequestManager(colony);
+        client.deserializeNBT(server.serializeNBT());
+        clientVersion = tracker.onFullSnapshot(server);
+        return client;
+    }
+
+    /**
+     * Send the changes since the last update to the client request manager.
+     *
+     * @param client the client request manager.
+     */
+    private void sendDelta(final StandardRequestManager client)
+    {
+        assertTrue(tracker.canWriteDelta(server));
+        final int baseVersion = tracker.getVersion();
+        final NBTTagCompound delta = tracker.writeDelta(server);
+
+        assertTrue(RequestManagerSyncTracker.applyDeltaIfCurrent(client, clientVersion, baseVersion, delta));
+        clientVersion = tracker.getVersion();
+    }
+
+    @Test
+    public void testDeltasFollowCreateAssignAndRemove()
+    {
+        server.onProviderAddedToColony(provider);
+        final StandardRequestManager client = sendSnapshot();
+
+        final IToken<?> token = server.createRequest(TestRequester.INSTANCE, new StringRequestable("a"));
+        sendDelta(client);
+        assertNotNull(client.getRequestForToken(token));
+        assertEquals(new StringRequestable("a"), client.getRequestForToken(token).getRequest());
+        assertEquals(server.getRequestForToken(token).getState(), client.getRequestForToken(token).getState());
+        assertNull(client.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token));
+
+        server.assignRequest(token);
+        sendDelta(client);
+        final IToken<?> resolver = server.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token);
+        assertNotNull(resolver);
+        assertEquals(resolver, client.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token));
+        assertEquals(server.getRequestForToken(token).getState(), client.getRequestForToken(token).getState());
+
+        server.updateRequestState(token, RequestState.RECEIVED);
+        sendDelta(client);
+        assertNull(client.getRequestForToken(token));
+        assertNull(client.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token));
+    }
+
+    @Test
+    public void testMissedDeltaIsNotApplied()
+    {
+        final StandardRequestManager client = sendSnapshot();
+
+        server.createRequest(TestRequester.INSTANCE, new StringRequestable("a"));
+        tracker.writeDelta(server);
+
+        final int baseVersion = tracker.getVersion();
+        final IToken<?> token = server.createRequest(TestRequester.INSTANCE, new StringRequestable("b"));
+        final NBTTagCompound delta = tracker.writeDelta(server);
+
+        assertFalse(RequestManagerSyncTracker.applyDeltaIfCurrent(client, clientVersion, baseVersion, delta));
+        assertNull(client.getRequestForToken(token));
+    }
+
+    @Test
+    public void testResetRequiresSnapshot()
+    {
+        sendSnapshot();
+        assertTrue(tracker.canWriteDelta(server));
+
+        server.reset();
+        assertFalse(tracker.canWriteDelta(server));
+
+        final int version = tracker.getVersion();
+        assertNotEquals(version, tracker.onFullSnapshot(server));
+        assertTrue(tracker.canWriteDelta(server));
+    }
+}
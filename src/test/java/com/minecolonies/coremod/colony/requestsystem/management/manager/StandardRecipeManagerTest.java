@@ -0,0 +1,79 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.RecipeStorage;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class StandardRecipeManagerTest
+{
+    private StandardRecipeManager recipeManager;
+
+    @BeforeClass
+    public static void setUpRegistries()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        recipeManager = new StandardRecipeManager();
+    }
+
+    private static IRecipeStorage createRecipe(final ItemStack output)
+    {
+        return new RecipeStorage(new StandardToken(UUID.randomUUID()), ImmutableList.of(new ItemStack(Items.STICK), new ItemStack(Items.COAL)), 2, output, Blocks.AIR);
+    }
+
+    @Test
+    public void checkOrAddRecipeReturnsSameTokenForEqualRecipes()
+    {
+        final IToken first = recipeManager.checkOrAddRecipe(createRecipe(new ItemStack(Blocks.TORCH, 4)));
+        final IToken second = recipeManager.checkOrAddRecipe(createRecipe(new ItemStack(Blocks.TORCH, 4)));
+
+        assertEquals(first, second);
+        assertEquals(1, recipeManager.getRecipes().size());
+        assertNotNull(recipeManager.getRecipe(first));
+    }
+
+    @Test
+    public void checkOrAddRecipeAddsDifferentRecipes()
+    {
+        final IToken torch = recipeManager.checkOrAddRecipe(createRecipe(new ItemStack(Blocks.TORCH, 4)));
+        final IToken dye = recipeManager.checkOrAddRecipe(createRecipe(new ItemStack(Items.DYE, 1, 4)));
+
+        assertNotEquals(torch, dye);
+        assertEquals(2, recipeManager.getRecipes().size());
+    }
+
+    @Test
+    public void getRecipeIdsForOutputIgnoresNbtButNotDamage()
+    {
+        final IToken token = recipeManager.checkOrAddRecipe(createRecipe(new ItemStack(Items.DYE, 1, 4)));
+
+        final ItemStack withNbt = new ItemStack(Items.DYE, 1, 4);
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("test", "value");
+        withNbt.setTagCompound(compound);
+
+        assertEquals(Collections.singleton(token), recipeManager.getRecipeIdsForOutput(new ItemStack(Items.DYE, 1, 4)));
+        assertEquals(Collections.singleton(token), recipeManager.getRecipeIdsForOutput(withNbt));
+        assertTrue(recipeManager.getRecipeIdsForOutput(new ItemStack(Items.DYE, 1, 1)).isEmpty());
+        assertTrue(recipeManager.getRecipeIdsForOutput(new ItemStack(Items.STICK)).isEmpty());
+    }
+}
@@ -5,6 +5,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.managers.interfaces.IBuildingManager;
+import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
@@ -80,6 +81,9 @@ public class StandardRequestManagerTest
     @Mock
     private IBuildingManager manager;
 
+    @Mock
+    private ICitizenManager citizenManager;
+
     private StandardRequestManager   requestManager;
     private IRequestResolverProvider provider;
 
@@ -99,6 +103,7 @@ public class StandardRequestManagerTest
         when(colony.getWorld()).thenReturn(world);
         when(colony.getID()).thenReturn(1);
         when(colony.getBuildingManager()).thenReturn(manager);
+        when(colony.getCitizenManager()).thenReturn(citizenManager);
         when(manager.getBuildings()).thenReturn(new HashMap<>());
         when(worldProvider.getDimension()).thenReturn(1);
         ReflectionUtil.setFinalField(world, "provider", worldProvider);
@@ -186,13 +191,13 @@ public class StandardRequestManagerTest
         assertNotNull(requestManager);
     }
 
-    private static class TestResolvingProvider implements IRequestResolverProvider
+    static class TestResolvingProvider implements IRequestResolverProvider
     {
 
         private final IToken<?>                                token;
         private final ImmutableCollection<IRequestResolver<?>> resolvers;
 
-        private TestResolvingProvider(
+        TestResolvingProvider(
           final StringResolver resolverLowPrio,
           final StringResolver resolverHighPrio)
         {
@@ -214,7 +219,7 @@ public class StandardRequestManagerTest
         }
     }
 
-    private static class StringRequest extends AbstractRequest<StringRequestable>
+    static class StringRequest extends AbstractRequest<StringRequestable>
     {
 
         StringRequest(@NotNull final IRequester requester, @NotNull final IToken<?> token, @NotNull final StringRequestable requested)
@@ -242,7 +247,7 @@ public class StandardRequestManagerTest
         }
     }
 
-    private static class StringRequestFactory implements IRequestFactory<StringRequestable, StringRequest>
+    static class StringRequestFactory implements IRequestFactory<StringRequestable, StringRequest>
     {
 
         @Override
@@ -292,11 +297,11 @@ public class StandardRequestManagerTest
         }
     }
 
-    private static class StringRequestable implements IRequestable
+    static class StringRequestable implements IRequestable
     {
         protected final String content;
 
-        private StringRequestable(final String content) {this.content = content;}
+        StringRequestable(final String content) {this.content = content;}
 
         @Override
         public int hashCode()
@@ -322,7 +327,7 @@ public class StandardRequestManagerTest
         }
     }
 
-    private static class StringRequestableFactory implements IFactory<String, StringRequestable>
+    static class StringRequestableFactory implements IFactory<String, StringRequestable>
     {
 
         @NotNull
@@ -365,12 +370,12 @@ public class StandardRequestManagerTest
         }
     }
 
-    private static class StringResolver implements IRequestResolver<StringRequestable>
+    static class StringResolver implements IRequestResolver<StringRequestable>
     {
         private final IToken token = StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN);
         private final Integer prio;
 
-        private StringResolver(final Integer prio) {this.prio = prio;}
+        StringResolver(final Integer prio) {this.prio = prio;}
 
         @Override
         public TypeToken<? extends StringRequestable> getRequestType()
@@ -471,7 +476,7 @@ public class StandardRequestManagerTest
         }
     }
 
-    private static class StringResolverFactory implements IRequestResolverFactory<StringResolver>
+    static class StringResolverFactory implements IRequestResolverFactory<StringResolver>
     {
 
         @NotNull
@@ -513,7 +518,7 @@ public class StandardRequestManagerTest
         }
     }
 
-    private static class TestRequester implements IRequester
+    static class TestRequester implements IRequester
     {
 
         protected static final TestRequester INSTANCE = new TestRequester();
@@ -563,7 +568,7 @@ public class StandardRequestManagerTest
         }
     }
 
-    private static class TestRequesterFactory implements IRequesterFactory<FactoryVoidInput, TestRequester>
+    static class TestRequesterFactory implements IRequesterFactory<FactoryVoidInput, TestRequester>
     {
 
         @NotNull